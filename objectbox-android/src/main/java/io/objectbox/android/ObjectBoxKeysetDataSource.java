@@ -0,0 +1,124 @@
+/*
+ * Copyright © 2026 ObjectBox Ltd. <https://objectbox.io>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.objectbox.android;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import androidx.annotation.NonNull;
+import androidx.paging.DataSource;
+import androidx.paging.ItemKeyedDataSource;
+import io.objectbox.query.Page;
+import io.objectbox.query.PageKey;
+import io.objectbox.query.Query;
+import io.objectbox.query.QueryBuilder;
+import io.objectbox.reactive.DataObserver;
+
+/**
+ * An {@link ItemKeyedDataSource} that loads entities based on an ObjectBox {@link Query} with a
+ * {@link QueryBuilder#keysetOrder keyset order}. Unlike {@link ObjectBoxDataSource}, which uses
+ * offset and limit, each page directly continues after the last item of the previous page, so
+ * loading a page costs the same regardless of its position. The data source is invalidated if the
+ * query results change.
+ * <p>
+ * The initial load always starts at the first result. If a key to start at is requested, e.g. after
+ * the data source was invalidated, it loads all results up to that key, so the list keeps its
+ * position. To use with Paging 3, convert the {@link Factory} using {@code asPagingSourceFactory()}.
+ */
+public class ObjectBoxKeysetDataSource<T> extends ItemKeyedDataSource<PageKey, T> {
+
+    private final Query<T> query;
+    @SuppressWarnings("FieldCanBeLocal")
+    private final DataObserver<List<T>> observer;
+
+    public static class Factory<Item> extends DataSource.Factory<PageKey, Item> {
+
+        private final Query<Item> query;
+
+        public Factory(Query<Item> query) {
+            this.query = query;
+        }
+
+        @NonNull
+        @Override
+        public DataSource<PageKey, Item> create() {
+            return new ObjectBoxKeysetDataSource<>(query);
+        }
+    }
+
+    public ObjectBoxKeysetDataSource(Query<T> query) {
+        this.query = query;
+        this.observer = data -> {
+            // if data changes invalidate this data source and create a new one
+            invalidate();
+        };
+        // observer will be automatically removed once GC'ed
+        query.subscribe().onlyChanges().weak().observer(observer);
+    }
+
+    @Override
+    public void loadInitial(@NonNull LoadInitialParams<PageKey> params,
+                            @NonNull LoadInitialCallback<T> callback) {
+        int pageSize = Math.max(1, params.requestedLoadSize);
+        PageKey requestedKey = params.requestedInitialKey;
+        if (requestedKey == null) {
+            callback.onResult(query.findPage(null, pageSize).getItems());
+            return;
+        }
+
+        // Results can not be loaded backwards in loadBefore(), so load all pages up to the page
+        // containing the first result after the requested key (which may have been removed).
+        List<T> next = query.findAfter(requestedKey.getSortKey(), requestedKey.getId(), 1);
+        long nextId = next.isEmpty() ? 0 : query.getPageKey(next.get(0)).getId();
+        List<T> items = new ArrayList<>();
+        PageKey pageKey = null;
+        do {
+            Page<T> page = query.findPage(pageKey, pageSize);
+            items.addAll(page.getItems());
+            if (nextId != 0 && containsId(page.getItems(), nextId)) break;
+            pageKey = page.getNextKey();
+        } while (pageKey != null);
+        callback.onResult(items);
+    }
+
+    private boolean containsId(List<T> items, long id) {
+        for (T item : items) {
+            if (query.getPageKey(item).getId() == id) return true;
+        }
+        return false;
+    }
+
+    @Override
+    public void loadAfter(@NonNull LoadParams<PageKey> params, @NonNull LoadCallback<T> callback) {
+        PageKey key = params.key;
+        callback.onResult(query.findAfter(key.getSortKey(), key.getId(), params.requestedLoadSize));
+    }
+
+    @Override
+    public void loadBefore(@NonNull LoadParams<PageKey> params, @NonNull LoadCallback<T> callback) {
+        // The initial load always starts at the first result, so there is nothing before it
+        callback.onResult(Collections.emptyList());
+    }
+
+    @NonNull
+    @Override
+    public PageKey getKey(@NonNull T item) {
+        return query.getPageKey(item);
+    }
+
+}
@@ -30,6 +30,11 @@ import java.lang.annotation.Target;
  * To fine tune indexing of a property you can override the default index {@link #type()}.
  * <p>
  * Note: indexes are currently not supported for string array, byte array, float or double properties.
+ * <p>
+ * An index always covers a single property. Indexes over multiple properties (composite indexes) would require support
+ * by the native database library, including its model format and query planner, which it does not offer. For a
+ * query with conditions on multiple properties, index the most selective one; the other conditions and any order are
+ * then applied to the objects it matches.
  */
 @Retention(RetentionPolicy.CLASS)
 @Target(ElementType.FIELD)
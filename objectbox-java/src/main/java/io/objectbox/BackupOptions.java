@@ -0,0 +1,77 @@
+/*
+ * Copyright © 2026 ObjectBox Ltd. <https://objectbox.io>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.objectbox;
+
+import javax.annotation.Nullable;
+
+import io.objectbox.annotation.apihint.Experimental;
+
+/**
+ * Options for {@link BoxStore#backupTo(java.io.File, BackupOptions)}.
+ */
+@Experimental
+public final class BackupOptions {
+
+    /**
+     * Receives the progress of a backup.
+     */
+    public interface ProgressListener {
+        /**
+         * Called after each chunk of data was written to the backup, on the thread running the backup.
+         *
+         * @param bytesWritten The number of bytes of the data file written so far.
+         * @param bytesTotal The size of the data file when the backup started; the final count may be larger if the
+         * file grew in the meantime.
+         */
+        void onProgress(long bytesWritten, long bytesTotal);
+    }
+
+    boolean compress;
+    long maxBytesPerSecond;
+    @Nullable ProgressListener progressListener;
+
+    /**
+     * Compresses the backup using GZIP. {@link BoxStoreBuilder#initialDbFile} detects and decompresses such backups.
+     */
+    public BackupOptions compress() {
+        this.compress = true;
+        return this;
+    }
+
+    /**
+     * Limits how fast the data file is read to reduce the impact of a backup on other I/O. By default, there is no
+     * limit.
+     *
+     * @param maxBytesPerSecond The maximum number of bytes read per second, or 0 for no limit.
+     */
+    public BackupOptions maxBytesPerSecond(long maxBytesPerSecond) {
+        if (maxBytesPerSecond < 0) {
+            throw new IllegalArgumentException("Max bytes per second must be 0 or greater but was " + maxBytesPerSecond);
+        }
+        this.maxBytesPerSecond = maxBytesPerSecond;
+        return this;
+    }
+
+    /**
+     * Sets a listener that receives the progress of the backup.
+     */
+    public BackupOptions progressListener(@Nullable ProgressListener progressListener) {
+        this.progressListener = progressListener;
+        return this;
+    }
+
+}
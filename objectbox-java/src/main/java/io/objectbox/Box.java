@@ -18,6 +18,7 @@ package io.objectbox;
 
 import java.lang.reflect.Field;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.Iterator;
@@ -32,6 +33,7 @@ import io.objectbox.annotation.Id;
 import io.objectbox.annotation.apihint.Experimental;
 import io.objectbox.annotation.apihint.Internal;
 import io.objectbox.exception.DbException;
+import io.objectbox.internal.BoxStoreAccessor;
 import io.objectbox.internal.CallWithHandle;
 import io.objectbox.internal.IdGetter;
 import io.objectbox.internal.ReflectionCache;
@@ -55,11 +57,15 @@ public class Box<T> {
     /** Set when running inside TX */
     final ThreadLocal<Cursor<T>> activeTxCursor = new ThreadLocal<>();
     private final ThreadLocal<Cursor<T>> threadLocalReader = new ThreadLocal<>();
+    /** Used instead of {@link #threadLocalReader} if the store has a {@link ReaderPool}. */
+    private final ThreadLocal<ReaderPool.Reader<T>> pooledReader = new ThreadLocal<>();
 
     private final IdGetter<T> idGetter;
 
     private EntityInfo<T> entityInfo;
     private volatile Field boxStoreField;
+    @Nullable
+    private volatile EntityChangeDetector<T> changeDetector;
 
     Box(BoxStore store, Class<T> entityClass) {
         this.store = store;
@@ -71,6 +77,8 @@ public class Box<T> {
         Cursor<T> cursor = getActiveTxCursor();
         if (cursor != null) {
             return cursor;
+        } else if (store.readerPool != null) {
+            return store.readerPool.lease(entityClass, pooledReader);
         } else {
             cursor = threadLocalReader.get();
             if (cursor != null) {
@@ -142,6 +150,10 @@ public class Box<T> {
     void releaseReader(Cursor<T> cursor) {
         // NOP if TX is ongoing
         if (activeTxCursor.get() == null) {
+            if (store.readerPool != null) {
+                store.readerPool.release(pooledReader, cursor);
+                return;
+            }
             Transaction tx = cursor.getTx();
             if (tx.isClosed() || tx.isRecycled() || !tx.isReadOnly()) {
                 throw new IllegalStateException("Illegal reader TX state");
@@ -163,13 +175,16 @@ public class Box<T> {
             cursor.getTx().close(); // a read TX is always started when the threadLocalReader is set
             threadLocalReader.remove();
         }
+        if (store.readerPool != null) {
+            store.readerPool.closeThreadReader(pooledReader);
+        }
     }
 
     /**
      * Returns if for the calling thread this has a reader Cursor.
      */
     boolean hasReaderCursorForCurrentThread() {
-        return threadLocalReader.get() != null;
+        return threadLocalReader.get() != null || pooledReader.get() != null;
     }
 
     /**
@@ -366,8 +381,15 @@ public class Box<T> {
      * <p>
      * Performance note: if you want to put several objects, consider {@link #put(Collection)}, {@link #put(Object[])},
      * {@link BoxStore#runInTx(Runnable)}, etc. instead.
+     * <p>
+     * If the store was built with {@link BoxStoreBuilder#skipUnchangedPuts()}, an object that is unchanged compared to
+     * its stored version is not written, see {@link #putIfChanged(Object)}.
      */
     public long put(T entity) {
+        if (store.skipUnchangedPuts) {
+            putIfChanged(entity);
+            return idGetter.getId(entity);
+        }
         Cursor<T> cursor = getWriter();
         try {
             long key = cursor.put(entity);
@@ -378,26 +400,40 @@ public class Box<T> {
         }
     }
 
+    /**
+     * Like {@link #put(Object)}, but only if the object is new or has changed compared to its stored version (see
+     * {@link #isChanged(Object)}). For an unchanged object nothing is written: indexes are not updated and no
+     * transaction is committed, so observers are not notified.
+     * <p>
+     * Checking for changes reads the stored object, so this is cheaper than a put only if most objects are unchanged.
+     *
+     * @return true if the object was put, false if it was unchanged.
+     */
+    public boolean putIfChanged(T entity) {
+        Cursor<T> cursor = getWriter();
+        try {
+            boolean changed = put(cursor, entity, true);
+            if (changed) {
+                commitWriter(cursor);
+            }
+            return changed;
+        } finally {
+            releaseWriter(cursor);
+        }
+    }
+
     /**
      * Puts the given entities in a box using a single transaction.
      * <p>
      * See {@link #put(Object)} for more details.
      */
     @SafeVarargs // Not using T... as Object[], no ClassCastException expected.
+    @SuppressWarnings("varargs") // Arrays.asList only wraps the array.
     public final void put(@Nullable T... entities) {
         if (entities == null || entities.length == 0) {
             return;
         }
-
-        Cursor<T> cursor = getWriter();
-        try {
-            for (T entity : entities) {
-                cursor.put(entity);
-            }
-            commitWriter(cursor);
-        } finally {
-            releaseWriter(cursor);
-        }
+        put(Arrays.asList(entities), store.skipUnchangedPuts);
     }
 
     /**
@@ -409,21 +445,67 @@ public class Box<T> {
      *                 this case is handled efficiently without overhead.
      */
     public void put(@Nullable Collection<T> entities) {
+        put(entities, store.skipUnchangedPuts);
+    }
+
+    /**
+     * Puts the given entities in a box using a single transaction.
+     * <p>
+     * If skipUnchanged is true, objects that are unchanged compared to their stored version are not written, see
+     * {@link #putIfChanged(Object)}. If no object was written, no transaction is committed.
+     * <p>
+     * See {@link #put(Object)} for more details.
+     *
+     * @param entities It is fine to pass null or an empty collection:
+     *                 this case is handled efficiently without overhead.
+     * @return The number of objects that were put.
+     */
+    public int put(@Nullable Collection<T> entities, boolean skipUnchanged) {
         if (entities == null || entities.isEmpty()) {
-            return;
+            return 0;
         }
+        return put(entities.iterator(), Integer.MAX_VALUE, skipUnchanged);
+    }
 
+    /**
+     * Puts up to maxCount objects of the given iterator using a single transaction, see
+     * {@link #put(Collection, boolean)}.
+     *
+     * @return The number of objects that were put.
+     */
+    private int put(Iterator<T> entities, int maxCount, boolean skipUnchanged) {
         Cursor<T> cursor = getWriter();
         try {
-            for (T entity : entities) {
-                cursor.put(entity);
+            int number = 0;
+            int putCount = 0;
+            while (number++ < maxCount && entities.hasNext()) {
+                if (put(cursor, entities.next(), skipUnchanged)) {
+                    putCount++;
+                }
             }
-            commitWriter(cursor);
+            if (putCount > 0) {
+                commitWriter(cursor);
+            }
+            return putCount;
         } finally {
             releaseWriter(cursor);
         }
     }
 
+    /**
+     * Puts the given object using the given cursor, unless skipUnchanged is true and the object is unchanged.
+     */
+    private boolean put(Cursor<T> cursor, T entity, boolean skipUnchanged) {
+        if (skipUnchanged) {
+            long id = idGetter.getId(entity);
+            if (id != 0 && !getChangeDetector().isChanged(entity, cursor.get(id))) {
+                return false;
+            }
+        }
+        cursor.put(entity);
+        return true;
+    }
+
     /**
      * Puts the given entities in a box in batches using a separate transaction for each batch.
      * <p>
@@ -443,16 +525,7 @@ public class Box<T> {
 
         Iterator<T> iterator = entities.iterator();
         while (iterator.hasNext()) {
-            Cursor<T> cursor = getWriter();
-            try {
-                int number = 0;
-                while (number++ < batchSize && iterator.hasNext()) {
-                    cursor.put(iterator.next());
-                }
-                commitWriter(cursor);
-            } finally {
-                releaseWriter(cursor);
-            }
+            put(iterator, batchSize, store.skipUnchangedPuts);
         }
     }
 
@@ -650,7 +723,13 @@ public class Box<T> {
      *
      * @param entity The object to attach this to.
      */
+    @SuppressWarnings("unchecked")
     public void attach(T entity) {
+        EntityInfo<T> info = store.getEntityInfo(entityClass);
+        if (info instanceof BoxStoreAccessor) {
+            ((BoxStoreAccessor<T>) info).setBoxStore(entity, store);
+            return;
+        }
         if (boxStoreField == null) {
             try {
                 boxStoreField = ReflectionCache.getInstance().getField(entityClass, "__boxStore");
@@ -666,14 +745,38 @@ public class Box<T> {
         }
     }
 
-    // Sketching future API extension
-    private boolean isChanged(T entity) {
-        return false;
+    /**
+     * Returns true if the given object is new (it has no ID or no object with its ID is stored) or if it differs from
+     * its stored version.
+     * <p>
+     * This compares the values of all properties (except the ID), the target IDs of {@link ToOne} relations and checks
+     * if {@link ToMany} relations have pending changes. Values are compared using their equals method, or by content
+     * for arrays. So types of properties that use a converter should implement equals, otherwise objects with such
+     * properties are always considered changed.
+     *
+     * @see #putIfChanged(Object)
+     */
+    public boolean isChanged(T entity) {
+        long id = idGetter.getId(entity);
+        if (id == 0) {
+            return true;
+        }
+        Cursor<T> reader = getReader();
+        try {
+            return getChangeDetector().isChanged(entity, reader.get(id));
+        } finally {
+            releaseReader(reader);
+        }
     }
 
-    // Sketching future API extension
-    private boolean putIfChanged(T entity) {
-        return false;
+    private EntityChangeDetector<T> getChangeDetector() {
+        EntityChangeDetector<T> detector = changeDetector;
+        if (detector == null) {
+            // Racy, but detectors are immutable and equal
+            detector = new EntityChangeDetector<>(store.getEntityInfo(entityClass));
+            changeDetector = detector;
+        }
+        return detector;
     }
 
     public Class<T> getEntityClass() {
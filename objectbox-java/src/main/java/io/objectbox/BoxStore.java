@@ -18,9 +18,12 @@ package io.objectbox;
 
 import org.greenrobot.essentials.collections.LongHashMap;
 
+import java.io.BufferedOutputStream;
 import java.io.Closeable;
 import java.io.File;
+import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.io.PrintStream;
 import java.net.MalformedURLException;
 import java.net.URL;
@@ -42,6 +45,7 @@ import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.SynchronousQueue;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import javax.annotation.Nullable;
 import javax.annotation.concurrent.ThreadSafe;
@@ -272,6 +276,21 @@ public class BoxStore implements Closeable {
     final boolean debugTxRead;
     final boolean debugTxWrite;
     final boolean debugRelations;
+    final boolean skipUnchangedPuts;
+
+    @Nullable
+    private final ExpiryPurger expiryPurger;
+    @Nullable
+    final ReaderPool readerPool;
+
+    @Nullable
+    private final CommitFollower commitFollower;
+
+    private final boolean lazyEntityRegistration;
+    /** If {@link #lazyEntityRegistration}, the entity classes registered with the native store so far. */
+    private final Set<Class<?>> registeredEntityClasses = Collections.newSetFromMap(new ConcurrentHashMap<>());
+
+    private final StartupTimings startupTimings;
 
     /** Set when running inside TX */
     final ThreadLocal<Transaction> activeTx = new ThreadLocal<>();
@@ -284,6 +303,9 @@ public class BoxStore implements Closeable {
     // Not atomic because it is read most of the time
     volatile int commitCount;
 
+    /** Like {@link #commitCount}, but only counting commits that changed the entity type. Not modified after init. */
+    private final Map<Integer, AtomicInteger> commitCountByEntityTypeId = new HashMap<>();
+
     private int objectBrowserPort;
 
     private final int queryAttempts;
@@ -297,9 +319,11 @@ public class BoxStore implements Closeable {
     private SyncClient syncClient;
 
     BoxStore(BoxStoreBuilder builder) {
+        long startNanos = System.nanoTime();
         context = builder.context;
         relinker = builder.relinker;
         NativeLibraryLoader.ensureLoaded();
+        long libraryLoadedNanos = System.nanoTime();
 
         errorOutputStream = builder.errorOutputStream;
         directory = builder.directory;
@@ -309,6 +333,7 @@ public class BoxStore implements Closeable {
         try {
             handle = nativeCreateWithFlatOptions(builder.buildFlatStoreOptions(canonicalPath), builder.model);
             if (handle == 0) throw new DbException("Could not create native store");
+            long openedNanos = System.nanoTime();
 
             int debugFlags = builder.debugFlags;
             if (debugFlags != 0) {
@@ -318,27 +343,42 @@ public class BoxStore implements Closeable {
                 debugTxRead = debugTxWrite = false;
             }
             debugRelations = builder.debugRelations;
+            skipUnchangedPuts = builder.skipUnchangedPuts;
 
+            lazyEntityRegistration = builder.lazyEntityRegistration;
             for (EntityInfo<?> entityInfo : builder.entityInfoList) {
                 try {
                     dbNameByClass.put(entityInfo.getEntityClass(), entityInfo.getDbName());
-                    int entityId = nativeRegisterEntityClass(handle, entityInfo.getDbName(), entityInfo.getEntityClass());
+                    // If lazy, registered with the native store once first used, see ensureEntityRegistered()
+                    int entityId = lazyEntityRegistration ? entityInfo.getEntityId() : registerEntity(entityInfo);
                     entityTypeIdByClass.put(entityInfo.getEntityClass(), entityId);
                     classByEntityTypeId.put(entityId, entityInfo.getEntityClass());
+                    commitCountByEntityTypeId.put(entityId, new AtomicInteger());
                     propertiesByClass.put(entityInfo.getEntityClass(), entityInfo);
-                    for (Property<?> property : entityInfo.getAllProperties()) {
-                        if (property.customType != null) {
-                            if (property.converterClass == null) {
-                                throw new RuntimeException("No converter class for custom type of " + property);
-                            }
-                            nativeRegisterCustomType(handle, entityId, 0, property.dbName, property.converterClass,
-                                    property.customType);
-                        }
-                    }
                 } catch (RuntimeException e) {
                     throw new RuntimeException("Could not setup up entity " + entityInfo.getEntityClass(), e);
                 }
             }
+            long registeredNanos = System.nanoTime();
+
+            File fingerprintFile = null;
+            String fingerprintToVerify = null;
+            if (builder.cacheModelVerification && !builder.readOnly
+                    && !directory.getPath().startsWith(IN_MEMORY_PREFIX)) {
+                fingerprintFile = new File(directory, ModelFingerprint.FILE_NAME);
+                String fingerprint = ModelFingerprint.compute(builder.model, builder.entityInfoList);
+                if (fingerprint.equals(ModelFingerprint.read(fingerprintFile))) {
+                    // Already verified by a previous store, so Cursor does not have to look up property IDs
+                    for (EntityInfo<?> entityInfo : builder.entityInfoList) {
+                        for (Property<?> property : entityInfo.getAllProperties()) {
+                            if (!property.isIdVerified()) property.verifyId(property.id);
+                        }
+                    }
+                } else {
+                    fingerprintToVerify = fingerprint;
+                }
+            }
+            long verifiedNanos = System.nanoTime();
             int size = classByEntityTypeId.size();
             allEntityTypeIds = new int[size];
             long[] entityIdsLong = classByEntityTypeId.keys();
@@ -350,6 +390,41 @@ public class BoxStore implements Closeable {
 
             failedReadTxAttemptCallback = builder.failedReadTxAttemptCallback;
             queryAttempts = Math.max(builder.queryAttempts, 1);
+
+            if (!builder.expiryPolicies.isEmpty()) {
+                expiryPurger = new ExpiryPurger(this, builder.expiryPolicies, builder.expiryPurgeIntervalMillis);
+                internalScheduleThread(expiryPurger);
+            } else {
+                expiryPurger = null;
+            }
+
+            if (builder.readerPoolOptions != null) {
+                readerPool = new ReaderPool(this, builder.readerPoolOptions);
+                if (readerPool.getEvictionIntervalMillis() > 0) {
+                    internalScheduleThread(readerPool);
+                }
+            } else {
+                readerPool = null;
+            }
+
+            if (builder.follower) {
+                try {
+                    commitFollower = new CommitFollower(this, new File(directory, StoreBackup.DATA_FILE_NAME),
+                            builder.followerPollIntervalMillis);
+                } catch (IOException e) {
+                    throw new DbException("Could not open data file to follow commits", e);
+                }
+                internalScheduleThread(commitFollower);
+            } else {
+                commitFollower = null;
+            }
+
+            startupTimings = new StartupTimings(libraryLoadedNanos - startNanos, openedNanos - libraryLoadedNanos,
+                    registeredNanos - openedNanos, verifiedNanos - registeredNanos, System.nanoTime() - startNanos);
+
+            if (fingerprintToVerify != null) {
+                verifyModelInBackground(fingerprintFile, fingerprintToVerify);
+            }
         } catch (RuntimeException runtimeException) {
             close();  // Proper clean up, e.g. delete native handle, remove this path from openFiles
             throw runtimeException;
@@ -539,6 +614,9 @@ public class BoxStore implements Closeable {
 
     /**
      * The size in bytes occupied by the database on disk (if any).
+     * <p>
+     * Note that the database file does not shrink when objects are removed. The pages that become free are reused by
+     * later writes instead. Also, a {@link #backupTo(File, BackupOptions) backup} includes free pages.
      *
      * @return The size in bytes of the database on disk, or 0 if the underlying database is in-memory only
      * or the size could not be determined.
@@ -607,6 +685,78 @@ public class BoxStore implements Closeable {
         return clazz;
     }
 
+    /**
+     * Registers the entity class and its custom types with the native store.
+     *
+     * @return The entity type ID in the database.
+     */
+    private int registerEntity(EntityInfo<?> entityInfo) {
+        int entityId = nativeRegisterEntityClass(handle, entityInfo.getDbName(), entityInfo.getEntityClass());
+        for (Property<?> property : entityInfo.getAllProperties()) {
+            if (property.customType != null) {
+                if (property.converterClass == null) {
+                    throw new RuntimeException("No converter class for custom type of " + property);
+                }
+                nativeRegisterCustomType(handle, entityId, 0, property.dbName, property.converterClass,
+                        property.customType);
+            }
+        }
+        return entityId;
+    }
+
+    /**
+     * With {@link BoxStoreBuilder#lazyEntityRegistration()} registers the entity with the native store, if not done
+     * yet. Must be called before the native store creates objects of the entity class.
+     */
+    void ensureEntityRegistered(EntityInfo<?> entityInfo) {
+        if (!lazyEntityRegistration) return;
+        Class<?> entityClass = entityInfo.getEntityClass();
+        if (registeredEntityClasses.contains(entityClass)) return;
+        synchronized (registeredEntityClasses) {
+            if (registeredEntityClasses.contains(entityClass)) return;
+            checkOpen();
+            int entityId;
+            try {
+                entityId = registerEntity(entityInfo);
+            } catch (RuntimeException e) {
+                throw new RuntimeException("Could not setup up entity " + entityClass, e);
+            }
+            if (entityId != entityInfo.getEntityId()) {
+                throw new DbSchemaException("Entity ID " + entityInfo.getEntityId() + " of " + entityClass
+                        + " does not match ID in DB: " + entityId);
+            }
+            registeredEntityClasses.add(entityClass);
+        }
+    }
+
+    /**
+     * Verifies the property IDs of all entities on a background thread by creating a cursor for each, then writes the
+     * model fingerprint so the next store can skip verification, see {@link BoxStoreBuilder#cacheModelVerification()}.
+     */
+    private void verifyModelInBackground(File fingerprintFile, String fingerprint) {
+        internalScheduleThread(() -> {
+            try {
+                try (Transaction tx = beginReadTx()) {
+                    for (EntityInfo<?> entityInfo : propertiesByClass.values()) {
+                        tx.createCursor(entityInfo.getEntityClass()).close();
+                    }
+                }
+                ModelFingerprint.write(fingerprintFile, fingerprint);
+            } catch (IOException | RuntimeException e) {
+                // Only an optimization, verifies again on the next start
+                if (!isClosed()) getErrorOutput().println("Failed to verify model: " + e);
+            }
+        });
+    }
+
+    /**
+     * Returns how long opening this store took, split into phases. Use this to analyze startup performance.
+     */
+    @Experimental
+    public StartupTimings getStartupTimings() {
+        return startupTimings;
+    }
+
     @SuppressWarnings("unchecked") // Casting is easier than writing a custom Map.
     @Internal
     <T> EntityInfo<T> getEntityInfo(Class<T> entityClass) {
@@ -701,6 +851,16 @@ public class BoxStore implements Closeable {
                 // (due to all Java APIs doing closed checks).
                 closed = true;
 
+                if (expiryPurger != null) {
+                    expiryPurger.stop();
+                }
+                if (readerPool != null) {
+                    readerPool.stop();
+                }
+                if (commitFollower != null) {
+                    commitFollower.stop();
+                }
+
                 // Stop accepting new tasks (async calls, query publishers) on the internal thread pool
                 internalThreadPool().shutdown();
                 // Give running tasks some time to finish, print warnings if they do not to help callers fix their code
@@ -839,6 +999,9 @@ public class BoxStore implements Closeable {
             throw new IllegalStateException("Cannot delete files: store is still open");
         }
         NativeLibraryLoader.ensureLoaded();
+        // Not a database file, so delete it as the native library would otherwise not delete the directory
+        //noinspection ResultOfMethodCallIgnored
+        new File(objectStoreDirectory, ModelFingerprint.FILE_NAME).delete();
         return nativeRemoveDbFiles(canonicalPath, true);
     }
 
@@ -931,6 +1094,12 @@ public class BoxStore implements Closeable {
         // Only one write TX at a time, but there is a chance two writers race after commit: thus synchronize
         synchronized (txCommitCountLock) {
             commitCount++; // Overflow is OK because we check for equality
+            if (entityTypeIdsAffected != null) {
+                for (int entityTypeId : entityTypeIdsAffected) {
+                    AtomicInteger count = commitCountByEntityTypeId.get(entityTypeId);
+                    if (count != null) count.incrementAndGet();
+                }
+            }
             if (debugTxWrite) {
                 getOutput().println("TX committed. New commit count: " + commitCount + ", entity types affected: " +
                         (entityTypeIdsAffected != null ? entityTypeIdsAffected.length : 0));
@@ -942,6 +1111,33 @@ public class BoxStore implements Closeable {
         }
     }
 
+    /**
+     * Called by {@link CommitFollower} if another process committed to the database. As it is not known which entity
+     * types were changed, counts a commit for all and notifies observers of all entity types.
+     */
+    void externalCommitsFollowed() {
+        synchronized (txCommitCountLock) {
+            commitCount++;
+            for (AtomicInteger count : commitCountByEntityTypeId.values()) {
+                count.incrementAndGet();
+            }
+            if (debugTxWrite) {
+                getOutput().println("Followed commits of another process. New commit count: " + commitCount);
+            }
+        }
+        objectClassPublisher.publish(allEntityTypeIds);
+    }
+
+    /**
+     * Returns the number of committed transactions that changed objects of the given entity type. Like the overall
+     * commit count this may overflow, so only check for equality.
+     */
+    int getCommitCount(int entityTypeId) {
+        AtomicInteger count = commitCountByEntityTypeId.get(entityTypeId);
+        if (count == null) throw new IllegalArgumentException("Unknown entity type ID " + entityTypeId);
+        return count.get();
+    }
+
     /**
      * For all boxes, calls {@link Box#closeActiveTxCursorForCurrentThread(Transaction)}.
      */
@@ -968,6 +1164,7 @@ public class BoxStore implements Closeable {
             synchronized (boxes) {
                 box = (Box<T>) boxes.get(entityClass);
                 if (box == null) {
+                    ensureEntityRegistered(getEntityInfo(entityClass));
                     box = new Box<>(this, entityClass);
                     boxes.put(entityClass, box);
                 }
@@ -1194,6 +1391,82 @@ public class BoxStore implements Closeable {
         });
     }
 
+    /**
+     * Writes a consistent backup of the database to the given file while this store stays open. The backup is a copy
+     * of the data file, so it can be restored using {@link BoxStoreBuilder#initialDbFile(File)}.
+     * <p>
+     * The data is read from a read transaction, so writes are not blocked, but they may use more space in the data
+     * file while the backup runs. Free pages are copied as well, so the backup is about as large as the data file
+     * (unless compressed).
+     * <p>
+     * The backup is first written to a temporary file next to the given file, which then replaces the given file.
+     *
+     * @throws IllegalStateException if this is an in-memory store.
+     */
+    @Experimental
+    public void backupTo(File file, BackupOptions options) throws IOException {
+        File tempFile = new File(file.getPath() + ".tmp");
+        boolean success = false;
+        try {
+            try (OutputStream out = new BufferedOutputStream(new FileOutputStream(tempFile))) {
+                backupTo(out, options);
+            }
+            if (file.exists() && !file.delete()) {
+                throw new IOException("Could not delete existing file " + file.getAbsolutePath());
+            }
+            if (!tempFile.renameTo(file)) {
+                throw new IOException("Could not rename " + tempFile.getAbsolutePath() + " to " + file.getName());
+            }
+            success = true;
+        } finally {
+            if (!success) {
+                //noinspection ResultOfMethodCallIgnored
+                tempFile.delete();
+            }
+        }
+    }
+
+    /**
+     * Like {@link #backupTo(File, BackupOptions)}, but writes the backup to the given stream. Does not close the
+     * stream.
+     */
+    @Experimental
+    public void backupTo(OutputStream out, BackupOptions options) throws IOException {
+        checkOpen();
+        if (directory.getPath().startsWith(IN_MEMORY_PREFIX)) {
+            throw new IllegalStateException("An in-memory store can not be backed up");
+        }
+        File dataFile = new File(canonicalPath, StoreBackup.DATA_FILE_NAME);
+        new StoreBackup(this, dataFile, options).writeTo(out);
+    }
+
+    /**
+     * Removes all objects that are expired now according to the {@link BoxStoreBuilder#expiry(ExpiryPolicy) expiry
+     * policies} of this store, without waiting for the next periodic purge. Expired objects are removed in batches,
+     * each in its own transaction.
+     *
+     * @return The number of removed objects.
+     * @throws IllegalStateException if this store has no expiry policy.
+     */
+    @Experimental
+    public long purgeExpired() {
+        checkOpen();
+        if (expiryPurger == null) {
+            throw new IllegalStateException("No expiry policy was set for this store");
+        }
+        return expiryPurger.purge();
+    }
+
+    /**
+     * Returns statistics of removing expired objects, or null if this store has no
+     * {@link BoxStoreBuilder#expiry(ExpiryPolicy) expiry policy}.
+     */
+    @Experimental
+    @Nullable
+    public ExpiryStats getExpiryStats() {
+        return expiryPurger != null ? expiryPurger.getStats() : null;
+    }
+
     /**
      * Gives info that can be useful for debugging.
      *
@@ -1222,6 +1495,37 @@ public class BoxStore implements Closeable {
         return nativeValidate(getNativeStore(), pageLimit, checkLeafLevel);
     }
 
+    /**
+     * For a {@link BoxStoreBuilder#follower() follower} store, returns how many commits the writing process made that
+     * this store did not pick up yet (observers were not notified about). Read operations always see the latest
+     * committed data, regardless of this lag.
+     *
+     * @return The number of commits, or -1 if it is not known as the format of the data file is not supported.
+     * @throws IllegalStateException if this store is not a follower.
+     */
+    @Experimental
+    public long getFollowLagCommits() {
+        checkOpen();
+        if (commitFollower == null) {
+            throw new IllegalStateException("This store is not a follower");
+        }
+        try {
+            return commitFollower.getLagCommits();
+        } catch (IOException e) {
+            throw new DbException("Could not read data file", e);
+        }
+    }
+
+    /**
+     * Returns statistics of the reader pool, or null if this store does not use a
+     * {@link BoxStoreBuilder#readerPool(ReaderPoolOptions) reader pool}.
+     */
+    @Experimental
+    @Nullable
+    public ReaderPoolStats getReaderPoolStats() {
+        return readerPool != null ? readerPool.getStats() : null;
+    }
+
     public int cleanStaleReadTransactions() {
         return nativeCleanStaleReadTransactions(getNativeStore());
     }
@@ -1438,7 +1742,7 @@ public class BoxStore implements Closeable {
     /**
      * The error output stream to print log messages to. This is {@link System#err} by default.
      */
-    private PrintStream getErrorOutput() {
+    PrintStream getErrorOutput() {
         return errorOutputStream;
     }
 
@@ -23,6 +23,7 @@ import java.io.BufferedOutputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileOutputStream;
+import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.io.PrintStream;
@@ -30,6 +31,7 @@ import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.zip.GZIPInputStream;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -110,6 +112,20 @@ public class BoxStoreBuilder {
     int maxReaders;
     boolean noReaderThreadLocals;
 
+    boolean skipUnchangedPuts;
+
+    final List<ExpiryPolicy<?>> expiryPolicies = new ArrayList<>();
+    long expiryPurgeIntervalMillis = 60_000;
+
+    @Nullable
+    ReaderPoolOptions readerPoolOptions;
+
+    boolean lazyEntityRegistration;
+    boolean cacheModelVerification;
+
+    boolean follower;
+    long followerPollIntervalMillis = 100;
+
     int queryAttempts;
 
     /** For DebugCursor. */
@@ -352,7 +368,8 @@ public class BoxStoreBuilder {
      * <p>
      * Note: Each thread that performed a read transaction and is still alive holds on to a reader slot.
      * These slots only get vacated when the thread ends. Thus, be mindful with the number of active threads.
-     * Alternatively, you can try the experimental {@link #noReaderThreadLocals()} option flag.
+     * Alternatively, you can try the experimental {@link #noReaderThreadLocals()} option flag or limit readers using
+     * {@link #readerPool(ReaderPoolOptions)}.
      */
     public BoxStoreBuilder maxReaders(int maxReaders) {
         this.maxReaders = maxReaders;
@@ -371,6 +388,144 @@ public class BoxStoreBuilder {
         return this;
     }
 
+    /**
+     * Makes all put methods of {@link Box} skip objects that are unchanged compared to their stored version, see
+     * {@link Box#putIfChanged(Object)}. Unchanged objects cause no write, no index updates and no notifications
+     * of observers.
+     * <p>
+     * This adds a read of the stored object and a comparison of both objects using reflection to each put of an
+     * existing object. So enable this only if a large share of puts is expected to be redundant, e.g. when repeatedly
+     * importing data from another source.
+     */
+    public BoxStoreBuilder skipUnchangedPuts() {
+        this.skipUnchangedPuts = true;
+        return this;
+    }
+
+    /**
+     * Adds a policy to remove objects of an entity type once they are older than a maximum age, e.g.
+     * {@code expiry(ExpiryPolicy.of(Event_.createdAt, TimeUnit.DAYS.toMillis(30)))}.
+     * <p>
+     * While the store is open, expired objects are removed periodically (see {@link #expiryPurgeInterval(long)}) on a
+     * background thread. To remove expired objects immediately, call {@link BoxStore#purgeExpired()}.
+     */
+    @Experimental
+    public BoxStoreBuilder expiry(ExpiryPolicy<?> expiryPolicy) {
+        // Note: annotations do not guarantee parameter is non-null.
+        //noinspection ConstantValue
+        if (expiryPolicy == null) {
+            throw new IllegalArgumentException("Expiry policy must not be null");
+        }
+        expiryPolicies.add(expiryPolicy);
+        return this;
+    }
+
+    /**
+     * How often to check for and remove expired objects, see {@link #expiry(ExpiryPolicy)}. The default is one
+     * minute. The first check runs right after the store is opened.
+     */
+    @Experimental
+    public BoxStoreBuilder expiryPurgeInterval(long intervalMillis) {
+        if (intervalMillis < 1) {
+            throw new IllegalArgumentException("Interval must be 1 or greater but was " + intervalMillis);
+        }
+        this.expiryPurgeIntervalMillis = intervalMillis;
+        return this;
+    }
+
+    /**
+     * Manages the read transactions used by {@link Box} and queries with a reader pool. By default, each thread keeps
+     * a read transaction for each Box it has used until the thread calls {@link BoxStore#closeThreadResources()}.
+     * With a reader pool:
+     * <ul>
+     *     <li>the number of threads reading at the same time can be limited, additional threads wait,</li>
+     *     <li>read transactions that were not used for some time are closed to free their reader slot, also those of
+     *     threads that have ended,</li>
+     *     <li>and {@link BoxStore#getReaderPoolStats()} reports active readers, the age of the oldest snapshot in use
+     *     and how long threads waited for a reader.</li>
+     * </ul>
+     * A read transaction is still bound to the thread that created it, so the pool does not share them between
+     * threads. Read transactions that are in use are never closed by the pool.
+     * <p>
+     * This implies {@link #noReaderThreadLocals()}, so closing a read transaction from the pool's background thread
+     * frees its reader slot.
+     * <p>
+     * Transactions started using {@link BoxStore#beginReadTx()} or {@link BoxStore#runInReadTx(Runnable)} are not
+     * managed by the pool.
+     */
+    @Experimental
+    public BoxStoreBuilder readerPool(ReaderPoolOptions options) {
+        // Note: annotations do not guarantee parameter is non-null.
+        //noinspection ConstantValue
+        if (options == null) {
+            throw new IllegalArgumentException("Reader pool options must not be null");
+        }
+        this.readerPoolOptions = options;
+        this.noReaderThreadLocals = true;
+        return this;
+    }
+
+    /**
+     * Registers an entity class with the native library only once it is first used, e.g. by {@link BoxStore#boxFor},
+     * instead of registering all entity classes when the store is opened. This can reduce the startup time of apps
+     * with many entities of which only a few are used right after start, see {@link BoxStore#getStartupTimings()}.
+     */
+    @Experimental
+    public BoxStoreBuilder lazyEntityRegistration() {
+        this.lazyEntityRegistration = true;
+        return this;
+    }
+
+    /**
+     * Remembers that the IDs of the properties of the generated entity info classes were verified against the
+     * database, so this does not have to be repeated when the store is opened with an unchanged model.
+     * <p>
+     * By default, the first Cursor of each entity looks up the ID of each of its properties in the database.
+     * With this option, if the model changed, all entities are verified in the background once after the store was
+     * opened, and a fingerprint of the model is written to the database directory. If the fingerprint matches the next
+     * time the store is opened, verification is skipped.
+     * <p>
+     * Has no effect for in-memory and {@link #readOnly()} stores.
+     */
+    @Experimental
+    public BoxStoreBuilder cacheModelVerification() {
+        this.cacheModelVerification = true;
+        return this;
+    }
+
+    /**
+     * Opens the store as a read-only follower of another process on the same machine that writes to the database, e.g.
+     * to scale reads over multiple processes. Implies {@link #readOnly()}.
+     * <p>
+     * All processes memory-map the same data file, so they share the page cache of the operating system, and each new
+     * read transaction sees the latest data committed by the writer. In addition, the follower checks for new commits
+     * (see {@link #followerPollInterval(long)}) to notify {@link BoxStore#subscribe() observers} and to
+     * {@link Transaction#isObsolete() mark} read transactions obsolete. It also periodically frees reader slots of
+     * ended processes (see {@link BoxStore#cleanStaleReadTransactions()}).
+     * <p>
+     * Keep read transactions short: while a follower reads a data snapshot, the writer can not reuse its pages, which
+     * makes the database file grow. Check {@link BoxStore#getFollowLagCommits()} to monitor how far behind the
+     * follower is.
+     */
+    @Experimental
+    public BoxStoreBuilder follower() {
+        this.follower = true;
+        this.readOnly = true;
+        return this;
+    }
+
+    /**
+     * How often a {@link #follower()} checks for new commits of the writing process. The default is 100 ms.
+     */
+    @Experimental
+    public BoxStoreBuilder followerPollInterval(long intervalMillis) {
+        if (intervalMillis < 1) {
+            throw new IllegalArgumentException("Interval must be 1 or greater but was " + intervalMillis);
+        }
+        this.followerPollIntervalMillis = intervalMillis;
+        return this;
+    }
+
     @Internal
     public void entity(EntityInfo<?> entityInfo) {
         entityInfoList.add(entityInfo);
@@ -558,6 +713,10 @@ public class BoxStoreBuilder {
 
     /**
      * Let's you specify an DB file to be used during initial start of the app (no DB file exists yet).
+     * <p>
+     * This can also restore a backup created with {@link BoxStore#backupTo(File, BackupOptions)}. Unless
+     * {@link #validateOnOpen(short)} is set, a provisioned file is validated when opening the store. If opening fails,
+     * the provisioned file is deleted again.
      */
     @Experimental
     public BoxStoreBuilder initialDbFile(final File initialDbFile) {
@@ -617,6 +776,9 @@ public class BoxStoreBuilder {
      * is configured, creates and sets {@link #baseDirectory(File)} as explained in {@link #androidContext(Object)}.
      */
     public BoxStore build() {
+        if (follower && inMemory != null) {
+            throw new IllegalArgumentException("An in-memory store can not be a follower");
+        }
         // If in-memory, use a special directory (it will never be created)
         if (inMemory != null) {
             directory = new File(BoxStore.IN_MEMORY_PREFIX + inMemory);
@@ -638,35 +800,85 @@ public class BoxStoreBuilder {
         if (directory == null) {
             directory = getDbDir(baseDirectory, name);
         }
+        File provisionedFile = null;
         if (inMemory == null) {
-            checkProvisionInitialDbFile();
+            provisionedFile = checkProvisionInitialDbFile();
+        }
+        if (provisionedFile == null) {
+            return new BoxStore(this);
+        }
+
+        // Validate a provisioned file, e.g. a backup, unless validation is configured already
+        if (validateOnOpenModePages == 0) {
+            validateOnOpenModePages = ValidateOnOpenModePages.Regular;
+        }
+        try {
+            return new BoxStore(this);
+        } catch (RuntimeException e) {
+            // Do not keep an invalid file around, so a later attempt provisions it again
+            //noinspection ResultOfMethodCallIgnored
+            provisionedFile.delete();
+            throw e;
         }
-        return new BoxStore(this);
     }
 
-    private void checkProvisionInitialDbFile() {
+    /**
+     * If there is an initial DB file factory and no data file exists, copies the initial file to the data file.
+     * Decompresses files compressed using GZIP (see {@link BackupOptions#compress()}).
+     *
+     * @return The data file, if it was provisioned.
+     */
+    @Nullable
+    private File checkProvisionInitialDbFile() {
         if (initialDbFileFactory != null) {
             String dataDir = BoxStore.getCanonicalPath(directory);
             File file = new File(dataDir, "data.mdb");
             if (!file.exists()) {
                 InputStream in = null;
                 OutputStream out = null;
+                boolean success = false;
                 try {
                     in = initialDbFileFactory.provide();
                     if (in == null) {
                         throw new DbException("Factory did not provide a resource");
                     }
                     in = new BufferedInputStream(in);
+                    if (isGzip(in)) {
+                        in = new GZIPInputStream(in);
+                    }
                     out = new BufferedOutputStream(new FileOutputStream(file));
                     IoUtils.copyAllBytes(in, out);
+                    out.close();
+                    if (file.length() == 0) {
+                        throw new DbException("Initial data file is empty");
+                    }
+                    success = true;
                 } catch (Exception e) {
                     throw new DbException("Could not provision initial data file", e);
                 } finally {
                     IoUtils.safeClose(out);
                     IoUtils.safeClose(in);
+                    if (!success) {
+                        // Do not leave a partial file
+                        //noinspection ResultOfMethodCallIgnored
+                        file.delete();
+                    }
                 }
+                return file;
             }
         }
+        return null;
+    }
+
+    /**
+     * Checks for the GZIP magic number without consuming the stream, which must support mark.
+     */
+    private static boolean isGzip(InputStream in) throws IOException {
+        in.mark(2);
+        int byte1 = in.read();
+        int byte2 = in.read();
+        in.reset();
+        return byte1 == (GZIPInputStream.GZIP_MAGIC & 0xFF) && byte2 == (GZIPInputStream.GZIP_MAGIC >> 8);
     }
 
     static File getDbDir(@Nullable File baseDirectoryOrNull, @Nullable String nameOrNull) {
@@ -721,6 +933,14 @@ public class BoxStoreBuilder {
         clone.fileMode = this.fileMode;
         clone.maxReaders = this.maxReaders;
         clone.noReaderThreadLocals = this.noReaderThreadLocals;
+        clone.skipUnchangedPuts = this.skipUnchangedPuts;
+        clone.expiryPolicies.addAll(this.expiryPolicies);
+        clone.expiryPurgeIntervalMillis = this.expiryPurgeIntervalMillis;
+        clone.readerPoolOptions = this.readerPoolOptions;
+        clone.lazyEntityRegistration = this.lazyEntityRegistration;
+        clone.cacheModelVerification = this.cacheModelVerification;
+        clone.follower = this.follower;
+        clone.followerPollIntervalMillis = this.followerPollIntervalMillis;
         clone.queryAttempts = this.queryAttempts;
         clone.skipReadSchema = this.skipReadSchema;
         clone.readOnly = this.readOnly;
@@ -0,0 +1,189 @@
+/*
+ * Copyright © 2026 ObjectBox Ltd. <https://objectbox.io>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.objectbox;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+
+/**
+ * Picks up commits of another process writing to the database of a {@link BoxStoreBuilder#follower() follower}
+ * store. Runs periodically on a thread of the store's internal thread pool.
+ * <p>
+ * The data file is memory-mapped by all processes, so new read transactions of the follower already see the latest
+ * committed data. This detects new commits by reading the last committed transaction ID from the meta pages at the
+ * start of the data file and notifies observers of the store. If the meta page format is not recognized, it falls back
+ * to checking the size and modification time of the data file; then the lag in commits is not known.
+ */
+class CommitFollower implements Runnable {
+
+    private static final long STALE_READER_CLEANUP_INTERVAL_MILLIS = 10_000;
+
+    private final BoxStore store;
+    private final File dataFile;
+    private final long intervalMillis;
+    private final FileChannel channel;
+    private final ByteBuffer buffer = ByteBuffer.allocate(MetaPageLayout.META_SIZE).order(ByteOrder.nativeOrder());
+
+    private final Object waitLock = new Object();
+    private volatile boolean stopped;
+
+    /** The last transaction ID of the data file observers were notified about, or -1 if not known. */
+    private volatile long followedTxnId;
+    private long followedLength;
+    private long followedLastModified;
+    private long lastStaleReaderCleanupMillis;
+    private boolean staleReaderCleanupFailed;
+
+    CommitFollower(BoxStore store, File dataFile, long intervalMillis) throws IOException {
+        this.store = store;
+        this.dataFile = dataFile;
+        this.intervalMillis = intervalMillis;
+        this.channel = new RandomAccessFile(dataFile, "r").getChannel();
+        followedTxnId = readLastTxnId();
+        followedLength = dataFile.length();
+        followedLastModified = dataFile.lastModified();
+        lastStaleReaderCleanupMillis = System.currentTimeMillis();
+    }
+
+    @Override
+    public void run() {
+        while (!stopped) {
+            pause(intervalMillis);
+            if (stopped) break;
+            try {
+                poll();
+            } catch (IOException | RuntimeException e) {
+                if (stopped) break; // E.g. store was closed while polling
+                store.getErrorOutput().println("Failed to follow commits: " + e);
+            }
+        }
+    }
+
+    /**
+     * Stops following and closes the data file.
+     */
+    void stop() {
+        stopped = true;
+        synchronized (waitLock) {
+            waitLock.notifyAll();
+        }
+        synchronized (this) {
+            try {
+                channel.close();
+            } catch (IOException ignored) {
+            }
+        }
+    }
+
+    private void pause(long millis) {
+        synchronized (waitLock) {
+            try {
+                waitLock.wait(millis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                stopped = true;
+            }
+        }
+    }
+
+    /**
+     * Checks for new commits and if there are any, notifies observers of the store.
+     *
+     * @return If there were new commits.
+     */
+    synchronized boolean poll() throws IOException {
+        boolean changed;
+        long txnId = readLastTxnId();
+        if (txnId >= 0) {
+            changed = txnId != followedTxnId;
+            followedTxnId = txnId;
+        } else {
+            long length = dataFile.length();
+            long lastModified = dataFile.lastModified();
+            changed = length != followedLength || lastModified != followedLastModified;
+            followedLength = length;
+            followedLastModified = lastModified;
+        }
+        if (changed) {
+            store.externalCommitsFollowed();
+        }
+
+        // Free reader slots of processes that ended without closing their read transactions, e.g. if they crashed.
+        // Otherwise, the writer can not reuse pages of the data snapshots those were reading.
+        long nowMillis = System.currentTimeMillis();
+        if (!staleReaderCleanupFailed
+                && nowMillis - lastStaleReaderCleanupMillis >= STALE_READER_CLEANUP_INTERVAL_MILLIS) {
+            lastStaleReaderCleanupMillis = nowMillis;
+            try {
+                store.cleanStaleReadTransactions();
+            } catch (RuntimeException e) {
+                // Do not report this again on every poll, following commits still works
+                staleReaderCleanupFailed = true;
+                store.getErrorOutput().println("Failed to clean stale read transactions, will not retry: " + e);
+            }
+        }
+        return changed;
+    }
+
+    /**
+     * Returns how many commits the writer made that observers were not yet notified about, or -1 if not known.
+     */
+    synchronized long getLagCommits() throws IOException {
+        long txnId = readLastTxnId();
+        long followed = followedTxnId;
+        if (txnId < 0 || followed < 0) return -1;
+        return Math.max(0, txnId - followed);
+    }
+
+    /**
+     * Reads the ID of the last committed transaction from the meta pages, or returns -1 if their format is not
+     * recognized.
+     */
+    private long readLastTxnId() throws IOException {
+        // The meta page is written while reading, so read until two subsequent reads match
+        long txnId = readLastTxnIdOnce();
+        for (int i = 0; i < 3; i++) {
+            long again = readLastTxnIdOnce();
+            if (again == txnId) break;
+            txnId = again;
+        }
+        return txnId;
+    }
+
+    private long readLastTxnIdOnce() throws IOException {
+        if (!readMeta(0)) return -1;
+        int pageSize = buffer.getInt(MetaPageLayout.META_PAGE_SIZE_OFFSET);
+        long txnId0 = buffer.getLong(MetaPageLayout.META_TXN_ID_OFFSET);
+        if (pageSize < MetaPageLayout.META_SIZE || Integer.bitCount(pageSize) != 1) return -1;
+        // The two meta pages are written alternately, the one with the higher transaction ID is the current one
+        if (!readMeta(pageSize)) return txnId0;
+        return Math.max(txnId0, buffer.getLong(MetaPageLayout.META_TXN_ID_OFFSET));
+    }
+
+    private boolean readMeta(long position) throws IOException {
+        buffer.clear();
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) return false;
+        }
+        return buffer.getInt(MetaPageLayout.META_MAGIC_OFFSET) == MetaPageLayout.META_MAGIC;
+    }
+
+}
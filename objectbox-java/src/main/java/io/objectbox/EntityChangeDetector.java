@@ -0,0 +1,161 @@
+/*
+ * Copyright © 2026 ObjectBox Ltd. <https://objectbox.io>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.objectbox;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import javax.annotation.Nullable;
+
+import io.objectbox.relation.ToMany;
+import io.objectbox.relation.ToOne;
+
+/**
+ * Detects if an object differs from its stored version, see {@link Box#isChanged(Object)}.
+ * <p>
+ * Compares the values of all persisted properties (except the ID), the target IDs of {@link ToOne} relations and
+ * checks {@link ToMany} relations for pending changes. Values are compared using {@link Object#equals(Object)}, or
+ * their content for arrays. So for properties of a custom type (using a converter) the type should implement equals,
+ * otherwise such objects are always considered changed.
+ * <p>
+ * If a persisted property has no matching field, comparing is not possible and all objects are considered changed.
+ * <p>
+ * Note: fields are read using reflection, there are no generated accessors for them. So each comparison adds a
+ * {@link Field#get(Object)} call per property and relation of both objects to a put.
+ */
+final class EntityChangeDetector<T> {
+
+    private final Field[] propertyFields;
+    private final Field[] toOneFields;
+    private final Field[] listFields;
+    private final boolean comparable;
+
+    EntityChangeDetector(EntityInfo<T> entityInfo) {
+        Class<T> entityClass = entityInfo.getEntityClass();
+        List<Field> allFields = new ArrayList<>();
+        for (Class<?> clazz = entityClass; clazz != null && clazz != Object.class; clazz = clazz.getSuperclass()) {
+            for (Field field : clazz.getDeclaredFields()) {
+                if (!Modifier.isStatic(field.getModifiers())) {
+                    allFields.add(field);
+                }
+            }
+        }
+
+        List<Field> properties = new ArrayList<>();
+        boolean allPropertiesFound = true;
+        for (Property<T> property : entityInfo.getAllProperties()) {
+            // Virtual properties are ToOne target IDs without a field, those are compared using the ToOne.
+            if (property.isId || property.isVirtual) continue;
+            Field field = findField(allFields, property.name);
+            if (field == null) {
+                allPropertiesFound = false;
+                break;
+            }
+            properties.add(field);
+        }
+
+        List<Field> toOnes = new ArrayList<>();
+        List<Field> lists = new ArrayList<>();
+        for (Field field : allFields) {
+            Class<?> type = field.getType();
+            if (ToOne.class.isAssignableFrom(type)) {
+                toOnes.add(field);
+            } else if (List.class.isAssignableFrom(type) && !properties.contains(field)) {
+                lists.add(field);
+            }
+        }
+
+        boolean accessible = allPropertiesFound;
+        if (accessible) {
+            try {
+                setAccessible(properties);
+                setAccessible(toOnes);
+                setAccessible(lists);
+            } catch (RuntimeException e) {
+                // E.g. SecurityException or InaccessibleObjectException, fall back to always put.
+                accessible = false;
+            }
+        }
+        comparable = accessible;
+        propertyFields = properties.toArray(new Field[0]);
+        toOneFields = toOnes.toArray(new Field[0]);
+        listFields = lists.toArray(new Field[0]);
+    }
+
+    @Nullable
+    private static Field findField(List<Field> fields, String name) {
+        for (Field field : fields) {
+            if (field.getName().equals(name)) {
+                return field;
+            }
+        }
+        return null;
+    }
+
+    private static void setAccessible(List<Field> fields) {
+        for (Field field : fields) {
+            field.setAccessible(true);
+        }
+    }
+
+    /**
+     * Returns true if the given object differs from the stored one, or if there is no stored object.
+     */
+    boolean isChanged(T entity, @Nullable T stored) {
+        if (stored == null || !comparable) {
+            return true;
+        }
+        try {
+            for (Field field : propertyFields) {
+                if (!valueEquals(field.get(entity), field.get(stored))) {
+                    return true;
+                }
+            }
+            for (Field field : toOneFields) {
+                ToOne<?> toOne = (ToOne<?>) field.get(entity);
+                ToOne<?> storedToOne = (ToOne<?>) field.get(stored);
+                if (toOne == null || storedToOne == null) {
+                    if (toOne != storedToOne) return true;
+                } else if (toOne.internalRequiresPutTarget() || toOne.getTargetId() != storedToOne.getTargetId()) {
+                    return true;
+                }
+            }
+            for (Field field : listFields) {
+                Object list = field.get(entity);
+                if (list instanceof ToMany && ((ToMany<?>) list).hasPendingDbChanges()) {
+                    return true;
+                }
+            }
+        } catch (IllegalAccessException e) {
+            return true;
+        }
+        return false;
+    }
+
+    private static boolean valueEquals(@Nullable Object value, @Nullable Object storedValue) {
+        if (value == storedValue) return true;
+        if (value == null || storedValue == null) return false;
+        if (value.getClass().isArray()) {
+            return Arrays.deepEquals(new Object[]{value}, new Object[]{storedValue});
+        }
+        return value.equals(storedValue);
+    }
+
+}
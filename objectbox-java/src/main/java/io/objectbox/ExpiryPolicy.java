@@ -0,0 +1,81 @@
+/*
+ * Copyright © 2026 ObjectBox Ltd. <https://objectbox.io>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.objectbox;
+
+import io.objectbox.annotation.apihint.Experimental;
+
+/**
+ * Removes objects of an entity type once they are older than a maximum age, see
+ * {@link BoxStoreBuilder#expiry(ExpiryPolicy)}.
+ * <p>
+ * The age of an object is determined by a timestamp property, which must be a {@link java.util.Date} or a long
+ * property storing milliseconds since the epoch. For large boxes, the property should have an index so expired
+ * objects are found quickly.
+ * <p>
+ * Expired objects are removed in batches, each in its own write transaction. This keeps write transactions short, so
+ * other writers are not blocked for long. Observers are notified once per batch.
+ */
+@Experimental
+public final class ExpiryPolicy<T> {
+
+    /**
+     * Creates a policy that removes objects once the given timestamp property is older than the given maximum age.
+     */
+    public static <T> ExpiryPolicy<T> of(Property<T> timestampProperty, long maxAgeMillis) {
+        return new ExpiryPolicy<>(timestampProperty, maxAgeMillis);
+    }
+
+    final Property<T> timestampProperty;
+    final long maxAgeMillis;
+    int batchSize = 1000;
+    long batchPauseMillis = 10;
+
+    private ExpiryPolicy(Property<T> timestampProperty, long maxAgeMillis) {
+        if (maxAgeMillis <= 0) {
+            throw new IllegalArgumentException("Max age must be greater than 0 but was " + maxAgeMillis);
+        }
+        this.timestampProperty = timestampProperty;
+        this.maxAgeMillis = maxAgeMillis;
+    }
+
+    /**
+     * The maximum number of objects removed in one write transaction. The default is 1000.
+     */
+    public ExpiryPolicy<T> batchSize(int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Batch size must be 1 or greater but was " + batchSize);
+        }
+        this.batchSize = batchSize;
+        return this;
+    }
+
+    /**
+     * How long to pause between two batches, giving other writers a chance to run. The default is 10 ms.
+     */
+    public ExpiryPolicy<T> batchPauseMillis(long batchPauseMillis) {
+        if (batchPauseMillis < 0) {
+            throw new IllegalArgumentException("Batch pause must be 0 or greater but was " + batchPauseMillis);
+        }
+        this.batchPauseMillis = batchPauseMillis;
+        return this;
+    }
+
+    Class<T> getEntityClass() {
+        return timestampProperty.entity.getEntityClass();
+    }
+
+}
@@ -0,0 +1,165 @@
+/*
+ * Copyright © 2026 ObjectBox Ltd. <https://objectbox.io>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.objectbox;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import io.objectbox.query.Query;
+
+/**
+ * Removes expired objects for the {@link ExpiryPolicy expiry policies} of a store. Runs periodically on a thread of
+ * the store's internal thread pool, or on demand using {@link #purge()}.
+ */
+class ExpiryPurger implements Runnable {
+
+    private final BoxStore store;
+    private final List<ExpiryPolicy<?>> policies;
+    private final long intervalMillis;
+    private final List<Query<?>> queries;
+
+    private final Object waitLock = new Object();
+    private volatile boolean stopped;
+
+    // Only modified while holding the lock of this, volatile so getStats() does not have to wait for a purge
+    private volatile long purgeCount;
+    private volatile long batchCount;
+    private volatile long removedObjectCount;
+    private volatile long lastPurgeDurationMillis;
+    private volatile long lastPurgeTimeMillis;
+
+    ExpiryPurger(BoxStore store, List<ExpiryPolicy<?>> policies, long intervalMillis) {
+        this.store = store;
+        this.policies = new ArrayList<>(policies);
+        this.intervalMillis = intervalMillis;
+        this.queries = new ArrayList<>(policies.size());
+    }
+
+    @Override
+    public void run() {
+        try {
+            // If this thread is interrupted, e.g. because the thread pool is shut down, stop
+            while (!stopped && !Thread.currentThread().isInterrupted()) {
+                try {
+                    purge();
+                } catch (RuntimeException e) {
+                    if (stopped) break; // E.g. store was closed while purging
+                    store.getErrorOutput().println("Failed to remove expired objects: " + e);
+                }
+                if (!pause(intervalMillis)) break;
+            }
+        } finally {
+            synchronized (this) {
+                for (Query<?> query : queries) {
+                    query.close();
+                }
+                queries.clear();
+            }
+        }
+    }
+
+    /**
+     * Stops periodic purging as soon as possible; a running batch completes.
+     */
+    void stop() {
+        stopped = true;
+        synchronized (waitLock) {
+            waitLock.notifyAll();
+        }
+    }
+
+    /**
+     * Removes all objects that are expired now. If the calling thread is interrupted, returns early after the current
+     * batch.
+     *
+     * @return The number of removed objects.
+     */
+    synchronized long purge() {
+        long startMillis = System.currentTimeMillis();
+        long removed = 0;
+        for (int i = 0; i < policies.size() && !stopped && !Thread.currentThread().isInterrupted(); i++) {
+            removed += purge(policies.get(i), i, startMillis);
+        }
+        lastPurgeTimeMillis = System.currentTimeMillis();
+        lastPurgeDurationMillis = lastPurgeTimeMillis - startMillis;
+        purgeCount++;
+        return removed;
+    }
+
+    private <T> long purge(ExpiryPolicy<T> policy, int policyIndex, long nowMillis) {
+        Query<T> query = getQuery(policy, policyIndex);
+        query.setParameter(policy.timestampProperty, nowMillis - policy.maxAgeMillis);
+        Box<T> box = store.boxFor(policy.getEntityClass());
+        long removed = 0;
+        while (true) {
+            // Find and remove in one transaction per batch: an object updated in between may no longer be expired.
+            // Also, observers are notified once per batch.
+            long[] ids = store.callInTxNoException(() -> {
+                long[] expiredIds = query.findIds(0, policy.batchSize);
+                if (expiredIds.length > 0) box.remove(expiredIds);
+                return expiredIds;
+            });
+            if (ids.length == 0) break;
+            batchCount++;
+            removedObjectCount += ids.length;
+            removed += ids.length;
+            if (ids.length < policy.batchSize || stopped) break;
+            if (!pause(policy.batchPauseMillis)) break;
+        }
+        return removed;
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> Query<T> getQuery(ExpiryPolicy<T> policy, int policyIndex) {
+        if (queries.isEmpty()) {
+            for (ExpiryPolicy<?> p : policies) {
+                queries.add(buildQuery(p));
+            }
+        }
+        return (Query<T>) queries.get(policyIndex);
+    }
+
+    private <T> Query<T> buildQuery(ExpiryPolicy<T> policy) {
+        // The actual cutoff is set as a parameter before each use
+        return store.boxFor(policy.getEntityClass()).query(policy.timestampProperty.less(0L)).build();
+    }
+
+    /**
+     * Waits for the given time or until stopped.
+     * <p>
+     * Returns false if the calling thread was interrupted (and sets its interrupted flag again). This does not stop
+     * periodic purging, as this may also be called by a thread calling {@link #purge()} on demand.
+     */
+    private boolean pause(long millis) {
+        if (millis <= 0 || stopped) return true;
+        synchronized (waitLock) {
+            try {
+                waitLock.wait(millis);
+                return true;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+    }
+
+    ExpiryStats getStats() {
+        return new ExpiryStats(purgeCount, batchCount, removedObjectCount, lastPurgeDurationMillis,
+                lastPurgeTimeMillis);
+    }
+
+}
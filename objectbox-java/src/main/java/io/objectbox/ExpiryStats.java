@@ -0,0 +1,81 @@
+/*
+ * Copyright © 2026 ObjectBox Ltd. <https://objectbox.io>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.objectbox;
+
+import javax.annotation.concurrent.Immutable;
+
+import io.objectbox.annotation.apihint.Experimental;
+
+/**
+ * A snapshot of statistics of removing expired objects, returned by {@link BoxStore#getExpiryStats()}.
+ * Counts are totals since the store was opened.
+ */
+@Experimental
+@Immutable
+public final class ExpiryStats {
+
+    private final long purgeCount;
+    private final long batchCount;
+    private final long removedObjectCount;
+    private final long lastPurgeDurationMillis;
+    private final long lastPurgeTimeMillis;
+
+    ExpiryStats(long purgeCount, long batchCount, long removedObjectCount, long lastPurgeDurationMillis,
+                long lastPurgeTimeMillis) {
+        this.purgeCount = purgeCount;
+        this.batchCount = batchCount;
+        this.removedObjectCount = removedObjectCount;
+        this.lastPurgeDurationMillis = lastPurgeDurationMillis;
+        this.lastPurgeTimeMillis = lastPurgeTimeMillis;
+    }
+
+    /**
+     * The number of completed purges, which check all expiry policies for expired objects.
+     */
+    public long getPurgeCount() {
+        return purgeCount;
+    }
+
+    /**
+     * The number of write transactions that removed expired objects.
+     */
+    public long getBatchCount() {
+        return batchCount;
+    }
+
+    public long getRemovedObjectCount() {
+        return removedObjectCount;
+    }
+
+    public long getLastPurgeDurationMillis() {
+        return lastPurgeDurationMillis;
+    }
+
+    /**
+     * The time the last purge completed in milliseconds since the epoch, or 0 if there was none yet.
+     */
+    public long getLastPurgeTimeMillis() {
+        return lastPurgeTimeMillis;
+    }
+
+    @Override
+    public String toString() {
+        return "ExpiryStats{purges=" + purgeCount + ", batches=" + batchCount + ", removed=" + removedObjectCount
+                + ", lastPurgeDurationMillis=" + lastPurgeDurationMillis + "}";
+    }
+
+}
@@ -16,6 +16,9 @@
 
 package io.objectbox;
 
+import java.util.concurrent.Callable;
+import java.util.concurrent.Future;
+
 import javax.annotation.Nullable;
 
 import io.objectbox.annotation.apihint.Internal;
@@ -42,6 +45,22 @@ public class InternalAccess {
         return tx.internalHandle();
     }
 
+    /**
+     * See {@link BoxStore#getCommitCount(int)}.
+     */
+    @Internal
+    public static int getCommitCount(BoxStore boxStore, int entityTypeId) {
+        return boxStore.getCommitCount(entityTypeId);
+    }
+
+    /**
+     * Submits the given task to the internal thread pool of the given store.
+     */
+    @Internal
+    public static <R> Future<R> submit(BoxStore boxStore, Callable<R> task) {
+        return boxStore.internalThreadPool().submit(task);
+    }
+
     @Internal
     public static void setSyncClient(BoxStore boxStore, @Nullable SyncClient syncClient) {
         boxStore.setSyncClient(syncClient);
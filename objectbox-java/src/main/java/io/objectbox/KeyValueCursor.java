@@ -20,6 +20,14 @@ import java.io.Closeable;
 
 import javax.annotation.concurrent.NotThreadSafe;
 
+/**
+ * A cursor over plain key/value data of a {@link Transaction}, see {@link Transaction#createKeyValueCursor()}.
+ * Keys are longs and values are byte arrays, which are copied from and to the database.
+ * <p>
+ * Note: this does not access the data of entity types (objects put with a {@link Box}); the native library does not
+ * expose the stored bytes of objects, so objects can only be read as entities, or as single property values using
+ * {@link io.objectbox.query.PropertyQuery}.
+ */
 @NotThreadSafe
 @SuppressWarnings("WeakerAccess,UnusedReturnValue, unused")
 public class KeyValueCursor implements Closeable {
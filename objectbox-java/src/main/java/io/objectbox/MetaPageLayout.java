@@ -0,0 +1,39 @@
+/*
+ * Copyright © 2026 ObjectBox Ltd. <https://objectbox.io>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.objectbox;
+
+/**
+ * Layout of the meta pages, the first two pages of the data file. Values are in native byte order.
+ * <p>
+ * The two meta pages are written alternately by commits, the one with the higher transaction ID points to the latest
+ * committed state.
+ */
+final class MetaPageLayout {
+
+    static final int META_MAGIC = 0xBEEFC0DE;
+    static final int PAGE_HEADER_SIZE = 16;
+    static final int META_MAGIC_OFFSET = PAGE_HEADER_SIZE;
+    /** The page size is stored in the otherwise unused pad field of the first DB info in the meta page. */
+    static final int META_PAGE_SIZE_OFFSET = PAGE_HEADER_SIZE + 24;
+    static final int META_TXN_ID_OFFSET = PAGE_HEADER_SIZE + 128;
+    /** The size of the meta data at the start of a meta page, the rest of the page is unused. */
+    static final int META_SIZE = META_TXN_ID_OFFSET + 8;
+
+    private MetaPageLayout() {
+    }
+
+}
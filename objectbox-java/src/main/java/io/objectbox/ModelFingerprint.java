@@ -0,0 +1,114 @@
+/*
+ * Copyright © 2026 ObjectBox Ltd. <https://objectbox.io>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.objectbox;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.Charset;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+
+import javax.annotation.Nullable;
+
+/**
+ * Identifies a model and the property IDs of the generated entity info classes, see
+ * {@link BoxStoreBuilder#cacheModelVerification()}.
+ * <p>
+ * Once the property IDs of all entities were verified against the database (see {@link Cursor}), the fingerprint is
+ * written to the store directory. If the next store opened with that directory has the same fingerprint, property IDs
+ * are not verified again.
+ */
+final class ModelFingerprint {
+
+    static final String FILE_NAME = "model-verified.sha256";
+
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+    private ModelFingerprint() {
+    }
+
+    static String compute(byte[] model, Collection<EntityInfo<?>> entityInfos) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e); // Required on all Java platforms
+        }
+        // Native changes may change how models are applied, so do not carry verification over library updates
+        digest.update(BoxStore.JNI_VERSION.getBytes(UTF_8));
+        digest.update(model);
+        for (EntityInfo<?> entityInfo : entityInfos) {
+            update(digest, entityInfo.getDbName(), entityInfo.getEntityId());
+            for (Property<?> property : entityInfo.getAllProperties()) {
+                update(digest, property.dbName, property.id);
+            }
+        }
+        byte[] hash = digest.digest();
+        StringBuilder hex = new StringBuilder(hash.length * 2);
+        for (byte b : hash) {
+            hex.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+        return hex.toString();
+    }
+
+    private static void update(MessageDigest digest, String name, int id) {
+        digest.update(name.getBytes(UTF_8));
+        digest.update((byte) 0);
+        digest.update(new byte[]{(byte) (id >>> 24), (byte) (id >>> 16), (byte) (id >>> 8), (byte) id});
+    }
+
+    /**
+     * Returns the fingerprint stored in the given file, or null if there is none or it can not be read.
+     */
+    @Nullable
+    static String read(File file) {
+        if (!file.isFile()) return null;
+        byte[] buffer = new byte[128];
+        int length = 0;
+        try (InputStream in = new FileInputStream(file)) {
+            int read;
+            while (length < buffer.length && (read = in.read(buffer, length, buffer.length - length)) > 0) {
+                length += read;
+            }
+        } catch (IOException e) {
+            return null;
+        }
+        return new String(buffer, 0, length, UTF_8).trim();
+    }
+
+    static void write(File file, String fingerprint) throws IOException {
+        // Write to a temporary file first, so a partially written fingerprint is never read
+        File tempFile = new File(file.getPath() + ".tmp");
+        try (OutputStream out = new FileOutputStream(tempFile)) {
+            out.write(fingerprint.getBytes(UTF_8));
+        }
+        // On some platforms renaming does not replace an existing file (e.g. the fingerprint of a previous model)
+        //noinspection ResultOfMethodCallIgnored
+        file.delete();
+        if (!tempFile.renameTo(file)) {
+            //noinspection ResultOfMethodCallIgnored
+            tempFile.delete();
+            throw new IOException("Could not rename " + tempFile + " to " + file);
+        }
+    }
+
+}
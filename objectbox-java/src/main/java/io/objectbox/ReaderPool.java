@@ -0,0 +1,317 @@
+/*
+ * Copyright © 2026 ObjectBox Ltd. <https://objectbox.io>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.objectbox;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.annotation.Nullable;
+
+import io.objectbox.exception.DbException;
+import io.objectbox.exception.DbMaxReadersExceededException;
+
+/**
+ * Manages the read transactions used by {@link Box} (and thus queries) if {@link BoxStoreBuilder#readerPool} is set.
+ * <p>
+ * A native read transaction is bound to the thread that created it, so each thread still keeps its own reader per Box.
+ * In addition to the default behavior, this:
+ * <ul>
+ *     <li>leases a reader only for the duration of a read operation and limits how many threads may hold a lease,</li>
+ *     <li>closes readers that were not used for some time, also those of threads that have ended,</li>
+ *     <li>and collects {@link ReaderPoolStats statistics}.</li>
+ * </ul>
+ * Eviction runs periodically on a thread of the store's internal thread pool. A reader that is not leased holds no
+ * snapshot, so closing it only frees its reader slot; this requires {@link BoxStoreBuilder#noReaderThreadLocals()},
+ * which is why the builder sets it. Leased readers are never closed by the pool.
+ */
+class ReaderPool implements Runnable {
+
+    /**
+     * The reader of one thread for one Box. Fields are guarded by the lock of this, as eviction runs on another thread.
+     */
+    static final class Reader<T> {
+        final Cursor<T> cursor;
+        boolean leased;
+        long leasedAtNanos;
+        long releasedAtNanos;
+        boolean closed;
+
+        Reader(Cursor<T> cursor) {
+            this.cursor = cursor;
+        }
+    }
+
+    private static final long MIN_EVICTION_INTERVAL_MILLIS = 100;
+
+    private final BoxStore store;
+    private final long leaseTimeoutMillis;
+    private final long idleTimeoutNanos;
+    private final int maxActiveThreads;
+    @Nullable
+    private final Semaphore permits;
+    /** Nested reads of a thread (e.g. of another Box while a query is running) only use a single permit. */
+    private final ThreadLocal<int[]> leaseDepth = new ThreadLocal<>();
+    private final Set<Reader<?>> readers = Collections.newSetFromMap(new ConcurrentHashMap<>());
+
+    private final Object waitLock = new Object();
+    private volatile boolean stopped;
+
+    private final AtomicLong leaseCount = new AtomicLong();
+    private final AtomicLong leaseTimeoutCount = new AtomicLong();
+    private final AtomicLong totalLeaseWaitNanos = new AtomicLong();
+    private final AtomicLong maxLeaseWaitNanos = new AtomicLong();
+    private final AtomicLong evictedReaderCount = new AtomicLong();
+
+    ReaderPool(BoxStore store, ReaderPoolOptions options) {
+        this.store = store;
+        this.leaseTimeoutMillis = options.leaseTimeoutMillis;
+        this.idleTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(options.idleTimeoutMillis);
+        this.maxActiveThreads = options.maxActiveThreads;
+        this.permits = maxActiveThreads > 0 ? new Semaphore(maxActiveThreads, true) : null;
+    }
+
+    /**
+     * If readers may expire, returns how often to check for them, otherwise 0.
+     */
+    long getEvictionIntervalMillis() {
+        if (idleTimeoutNanos == 0) return 0;
+        return Math.max(TimeUnit.NANOSECONDS.toMillis(idleTimeoutNanos) / 2, MIN_EVICTION_INTERVAL_MILLIS);
+    }
+
+    @Override
+    public void run() {
+        long intervalMillis = getEvictionIntervalMillis();
+        while (!stopped) {
+            pause(intervalMillis);
+            if (stopped) break;
+            try {
+                evict();
+            } catch (RuntimeException e) {
+                if (stopped) break; // E.g. store was closed while evicting
+                store.getErrorOutput().println("Failed to evict readers: " + e);
+            }
+        }
+    }
+
+    void stop() {
+        stopped = true;
+        synchronized (waitLock) {
+            waitLock.notifyAll();
+        }
+    }
+
+    private void pause(long millis) {
+        synchronized (waitLock) {
+            try {
+                waitLock.wait(millis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                stopped = true;
+            }
+        }
+    }
+
+    /**
+     * Returns a cursor with a renewed read transaction for the given Box. Must be followed by
+     * {@link #release(ThreadLocal, Cursor)} on the same thread.
+     */
+    <T> Cursor<T> lease(Class<T> entityClass, ThreadLocal<Reader<T>> threadReader) {
+        acquirePermit();
+        try {
+            long nowNanos = System.nanoTime();
+            Reader<T> reader = threadReader.get();
+            if (reader != null) {
+                synchronized (reader) {
+                    if (!reader.closed) {
+                        Transaction tx = reader.cursor.getTx();
+                        if (tx.isClosed() || !tx.isRecycled()) {
+                            throw new IllegalStateException("Illegal reader TX state");
+                        }
+                        tx.renew();
+                        reader.cursor.renew();
+                        markLeased(reader, nowNanos);
+                        return reader.cursor;
+                    }
+                }
+            }
+
+            Transaction tx = store.beginReadTx();
+            Cursor<T> cursor;
+            try {
+                cursor = tx.createCursor(entityClass);
+            } catch (RuntimeException e) {
+                tx.close();
+                throw e;
+            }
+            reader = new Reader<>(cursor);
+            synchronized (reader) {
+                markLeased(reader, nowNanos);
+            }
+            readers.add(reader);
+            threadReader.set(reader);
+            return cursor;
+        } catch (RuntimeException | Error e) {
+            releasePermit();
+            throw e;
+        }
+    }
+
+    private void markLeased(Reader<?> reader, long nowNanos) {
+        reader.leased = true;
+        reader.leasedAtNanos = nowNanos;
+        leaseCount.incrementAndGet();
+    }
+
+    <T> void release(ThreadLocal<Reader<T>> threadReader, Cursor<T> cursor) {
+        Reader<T> reader = threadReader.get();
+        if (reader == null || reader.cursor != cursor) {
+            throw new IllegalStateException("Illegal reader TX state");
+        }
+        try {
+            synchronized (reader) {
+                Transaction tx = cursor.getTx();
+                if (tx.isClosed() || tx.isRecycled() || !tx.isReadOnly()) {
+                    throw new IllegalStateException("Illegal reader TX state");
+                }
+                tx.recycle();
+                reader.leased = false;
+                reader.releasedAtNanos = System.nanoTime();
+            }
+        } finally {
+            releasePermit();
+        }
+    }
+
+    /**
+     * Closes the reader of the calling thread, if any; see {@link Box#closeThreadResources()}.
+     */
+    <T> void closeThreadReader(ThreadLocal<Reader<T>> threadReader) {
+        Reader<T> reader = threadReader.get();
+        if (reader != null) {
+            synchronized (reader) {
+                close(reader);
+            }
+            threadReader.remove();
+        }
+    }
+
+    /**
+     * Closes readers that are not in use and idle for too long.
+     *
+     * @return The number of closed readers.
+     */
+    int evict() {
+        int evicted = 0;
+        long nowNanos = System.nanoTime();
+        for (Reader<?> reader : readers) {
+            synchronized (reader) {
+                if (reader.closed) {
+                    readers.remove(reader);
+                } else if (!reader.leased && isIdleTooLong(reader, nowNanos)) {
+                    close(reader);
+                    evicted++;
+                }
+            }
+        }
+        evictedReaderCount.addAndGet(evicted);
+        return evicted;
+    }
+
+    private boolean isIdleTooLong(Reader<?> reader, long nowNanos) {
+        return idleTimeoutNanos > 0 && nowNanos - reader.releasedAtNanos >= idleTimeoutNanos;
+    }
+
+    /** Caller must hold the lock of the reader. */
+    private void close(Reader<?> reader) {
+        if (reader.closed) return;
+        reader.closed = true;
+        readers.remove(reader);
+        Transaction tx = reader.cursor.getTx();
+        if (!tx.isClosed()) {
+            reader.cursor.close();
+            // May be called from a thread other than the owner, which is fine for a recycled read transaction
+            tx.closeUnused();
+        }
+    }
+
+    private void acquirePermit() {
+        int[] depth = leaseDepth.get();
+        if (depth == null) {
+            depth = new int[1];
+            leaseDepth.set(depth);
+        }
+        if (depth[0]++ > 0 || permits == null) return;
+
+        long startNanos = System.nanoTime();
+        boolean acquired = false;
+        try {
+            acquired = permits.tryAcquire(leaseTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new DbException("Interrupted while waiting for a reader");
+        } finally {
+            if (!acquired) depth[0]--;
+        }
+        long waitNanos = System.nanoTime() - startNanos;
+        totalLeaseWaitNanos.addAndGet(waitNanos);
+        long max;
+        while (waitNanos > (max = maxLeaseWaitNanos.get())) {
+            if (maxLeaseWaitNanos.compareAndSet(max, waitNanos)) break;
+        }
+        if (!acquired) {
+            leaseTimeoutCount.incrementAndGet();
+            throw new DbMaxReadersExceededException("No reader available after waiting " + leaseTimeoutMillis
+                    + " ms, " + maxActiveThreads + " threads are already reading");
+        }
+    }
+
+    private void releasePermit() {
+        int[] depth = leaseDepth.get();
+        if (depth == null || depth[0] == 0) {
+            throw new IllegalStateException("Reader was not leased");
+        }
+        if (--depth[0] == 0 && permits != null) {
+            permits.release();
+        }
+    }
+
+    ReaderPoolStats getStats() {
+        int active = 0;
+        int idle = 0;
+        long oldestActiveAgeNanos = 0;
+        long nowNanos = System.nanoTime();
+        for (Reader<?> reader : readers) {
+            synchronized (reader) {
+                if (reader.closed) continue;
+                if (reader.leased) {
+                    active++;
+                    oldestActiveAgeNanos = Math.max(oldestActiveAgeNanos, nowNanos - reader.leasedAtNanos);
+                } else {
+                    idle++;
+                }
+            }
+        }
+        return new ReaderPoolStats(active, idle, TimeUnit.NANOSECONDS.toMillis(oldestActiveAgeNanos),
+                leaseCount.get(), leaseTimeoutCount.get(), TimeUnit.NANOSECONDS.toMillis(totalLeaseWaitNanos.get()),
+                TimeUnit.NANOSECONDS.toMillis(maxLeaseWaitNanos.get()), evictedReaderCount.get());
+    }
+
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright © 2026 ObjectBox Ltd. <https://objectbox.io>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.objectbox;
+
+import io.objectbox.annotation.apihint.Experimental;
+
+/**
+ * Options for the reader pool of a store, see {@link BoxStoreBuilder#readerPool(ReaderPoolOptions)}.
+ */
+@Experimental
+public final class ReaderPoolOptions {
+
+    int maxActiveThreads;
+    long leaseTimeoutMillis = 10_000;
+    long idleTimeoutMillis = 30_000;
+
+    /**
+     * Limits how many threads may read at the same time using {@link Box} or {@link io.objectbox.query.Query} APIs.
+     * Additional threads wait until another thread completes its read operation, see
+     * {@link #leaseTimeoutMillis(long)}. By default, there is no limit.
+     * <p>
+     * This limits read operations, not reader slots (see {@link BoxStoreBuilder#maxReaders(int)}): a thread keeps a
+     * read transaction, and so a reader slot, for each Box it has used until it is closed because of the
+     * {@link #idleTimeoutMillis(long) idle timeout} or by {@link BoxStore#closeThreadResources()}.
+     *
+     * @param maxActiveThreads The maximum number of threads reading at the same time, or 0 for no limit.
+     */
+    public ReaderPoolOptions maxActiveThreads(int maxActiveThreads) {
+        if (maxActiveThreads < 0) {
+            throw new IllegalArgumentException("Max active threads must be 0 or greater but was " + maxActiveThreads);
+        }
+        this.maxActiveThreads = maxActiveThreads;
+        return this;
+    }
+
+    /**
+     * How long to wait for a reader if {@link #maxActiveThreads(int)} threads are already reading. If the timeout
+     * elapses, the read operation throws {@link io.objectbox.exception.DbMaxReadersExceededException}. The default is
+     * 10 seconds.
+     */
+    public ReaderPoolOptions leaseTimeoutMillis(long leaseTimeoutMillis) {
+        if (leaseTimeoutMillis < 0) {
+            throw new IllegalArgumentException("Lease timeout must be 0 or greater but was " + leaseTimeoutMillis);
+        }
+        this.leaseTimeoutMillis = leaseTimeoutMillis;
+        return this;
+    }
+
+    /**
+     * Closes the read transaction a thread keeps for a {@link Box} if it was not used for this time, which frees its
+     * reader slot. This also applies to threads that have ended without calling
+     * {@link BoxStore#closeThreadResources()}. The default is 30 seconds.
+     * <p>
+     * A read transaction that is not in use does not hold on to a snapshot of the data. Read transactions that are in
+     * use are never closed by the pool; to detect long-running reads see
+     * {@link ReaderPoolStats#getOldestActiveReaderAgeMillis()}.
+     *
+     * @param idleTimeoutMillis The idle timeout, or 0 to keep unused readers until the thread calls
+     * {@link BoxStore#closeThreadResources()}.
+     */
+    public ReaderPoolOptions idleTimeoutMillis(long idleTimeoutMillis) {
+        if (idleTimeoutMillis < 0) {
+            throw new IllegalArgumentException("Idle timeout must be 0 or greater but was " + idleTimeoutMillis);
+        }
+        this.idleTimeoutMillis = idleTimeoutMillis;
+        return this;
+    }
+
+}
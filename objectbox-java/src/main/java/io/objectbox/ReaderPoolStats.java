@@ -0,0 +1,110 @@
+/*
+ * Copyright © 2026 ObjectBox Ltd. <https://objectbox.io>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.objectbox;
+
+import javax.annotation.concurrent.Immutable;
+
+import io.objectbox.annotation.apihint.Experimental;
+
+/**
+ * A snapshot of statistics of the reader pool of a store, returned by {@link BoxStore#getReaderPoolStats()}.
+ * Counts are totals since the store was opened.
+ */
+@Experimental
+@Immutable
+public final class ReaderPoolStats {
+
+    private final int activeReaderCount;
+    private final int idleReaderCount;
+    private final long oldestActiveReaderAgeMillis;
+    private final long leaseCount;
+    private final long leaseTimeoutCount;
+    private final long totalLeaseWaitMillis;
+    private final long maxLeaseWaitMillis;
+    private final long evictedReaderCount;
+
+    ReaderPoolStats(int activeReaderCount, int idleReaderCount, long oldestActiveReaderAgeMillis, long leaseCount,
+                    long leaseTimeoutCount, long totalLeaseWaitMillis, long maxLeaseWaitMillis,
+                    long evictedReaderCount) {
+        this.activeReaderCount = activeReaderCount;
+        this.idleReaderCount = idleReaderCount;
+        this.oldestActiveReaderAgeMillis = oldestActiveReaderAgeMillis;
+        this.leaseCount = leaseCount;
+        this.leaseTimeoutCount = leaseTimeoutCount;
+        this.totalLeaseWaitMillis = totalLeaseWaitMillis;
+        this.maxLeaseWaitMillis = maxLeaseWaitMillis;
+        this.evictedReaderCount = evictedReaderCount;
+    }
+
+    /**
+     * The number of read transactions currently in use by a read operation.
+     */
+    public int getActiveReaderCount() {
+        return activeReaderCount;
+    }
+
+    /**
+     * The number of read transactions kept for reuse; these do not hold on to a snapshot of the data.
+     */
+    public int getIdleReaderCount() {
+        return idleReaderCount;
+    }
+
+    /**
+     * How long the longest running read operation has been holding on to its snapshot of the data, or 0 if there is
+     * none. As old data can not be reused while a snapshot is in use, a high value can cause the database file to
+     * grow.
+     */
+    public long getOldestActiveReaderAgeMillis() {
+        return oldestActiveReaderAgeMillis;
+    }
+
+    public long getLeaseCount() {
+        return leaseCount;
+    }
+
+    /**
+     * The number of read operations that failed because no reader became available in time.
+     */
+    public long getLeaseTimeoutCount() {
+        return leaseTimeoutCount;
+    }
+
+    public long getTotalLeaseWaitMillis() {
+        return totalLeaseWaitMillis;
+    }
+
+    public long getMaxLeaseWaitMillis() {
+        return maxLeaseWaitMillis;
+    }
+
+    /**
+     * The number of read transactions closed because they were idle or too old.
+     */
+    public long getEvictedReaderCount() {
+        return evictedReaderCount;
+    }
+
+    @Override
+    public String toString() {
+        return "ReaderPoolStats{active=" + activeReaderCount + ", idle=" + idleReaderCount
+                + ", oldestActiveReaderAgeMillis=" + oldestActiveReaderAgeMillis + ", leases=" + leaseCount
+                + ", leaseTimeouts=" + leaseTimeoutCount + ", maxLeaseWaitMillis=" + maxLeaseWaitMillis
+                + ", evicted=" + evictedReaderCount + "}";
+    }
+
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright © 2026 ObjectBox Ltd. <https://objectbox.io>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.objectbox;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.concurrent.Immutable;
+
+import io.objectbox.annotation.apihint.Experimental;
+
+/**
+ * How long opening a store took, split into phases; returned by {@link BoxStore#getStartupTimings()}.
+ * All durations are in nanoseconds.
+ */
+@Experimental
+@Immutable
+public final class StartupTimings {
+
+    private final long nativeLibraryLoadNanos;
+    private final long openNanos;
+    private final long entityRegistrationNanos;
+    private final long modelVerificationNanos;
+    private final long totalNanos;
+
+    StartupTimings(long nativeLibraryLoadNanos, long openNanos, long entityRegistrationNanos,
+                   long modelVerificationNanos, long totalNanos) {
+        this.nativeLibraryLoadNanos = nativeLibraryLoadNanos;
+        this.openNanos = openNanos;
+        this.entityRegistrationNanos = entityRegistrationNanos;
+        this.modelVerificationNanos = modelVerificationNanos;
+        this.totalNanos = totalNanos;
+    }
+
+    /**
+     * Loading the native library; 0 if it was already loaded, e.g. by a previously opened store.
+     */
+    public long getNativeLibraryLoadNanos() {
+        return nativeLibraryLoadNanos;
+    }
+
+    /**
+     * Opening the database files and checking and updating the schema (model) of the database. This is a single step
+     * of the native library.
+     */
+    public long getOpenNanos() {
+        return openNanos;
+    }
+
+    /**
+     * Registering entity classes and custom types with the native library. With
+     * {@link BoxStoreBuilder#lazyEntityRegistration()} this does not include entities registered later on.
+     */
+    public long getEntityRegistrationNanos() {
+        return entityRegistrationNanos;
+    }
+
+    /**
+     * Checking the fingerprint of {@link BoxStoreBuilder#cacheModelVerification()}; 0 if not enabled.
+     */
+    public long getModelVerificationNanos() {
+        return modelVerificationNanos;
+    }
+
+    /**
+     * The duration of the whole constructor of the store, including the phases above.
+     */
+    public long getTotalNanos() {
+        return totalNanos;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(Locale.US,
+                "StartupTimings{nativeLibraryLoad=%.1fms, open=%.1fms, entityRegistration=%.1fms,"
+                        + " modelVerification=%.1fms, total=%.1fms}",
+                millis(nativeLibraryLoadNanos), millis(openNanos), millis(entityRegistrationNanos),
+                millis(modelVerificationNanos), millis(totalNanos));
+    }
+
+    private static double millis(long nanos) {
+        return nanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+}
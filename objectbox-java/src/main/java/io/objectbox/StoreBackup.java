@@ -0,0 +1,172 @@
+/*
+ * Copyright © 2026 ObjectBox Ltd. <https://objectbox.io>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.objectbox;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.zip.GZIPOutputStream;
+
+import io.objectbox.BackupOptions.ProgressListener;
+
+/**
+ * Copies the data file of an open store, see {@link BoxStore#backupTo(OutputStream, BackupOptions)}.
+ * <p>
+ * Pages other than the meta pages are copied as-is. This is consistent because a read transaction is held while
+ * copying: committed pages are never modified, and pages freed by commits after the snapshot of the read transaction
+ * was taken are not reused until the transaction ends. Writers are not blocked.
+ * <p>
+ * The meta pages (the first two pages, see {@link MetaPageLayout}) however are overwritten in place by commits, so
+ * copying them as-is could yield a torn meta page or one that points to pages that were not copied. Instead, the meta
+ * pages are read once the read transaction is active, until they are stable, and the one of the latest commit is
+ * written for both meta pages of the backup. The latest commit is at least as new as the snapshot of the read
+ * transaction, so all pages it references stay unchanged for the rest of the copy.
+ */
+class StoreBackup {
+
+    static final String DATA_FILE_NAME = "data.mdb";
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int MAX_META_READ_ATTEMPTS = 100;
+
+    private final BoxStore store;
+    private final File dataFile;
+    private final BackupOptions options;
+
+    StoreBackup(BoxStore store, File dataFile, BackupOptions options) {
+        this.store = store;
+        this.dataFile = dataFile;
+        this.options = options;
+    }
+
+    void writeTo(OutputStream out) throws IOException {
+        OutputStream target = options.compress ? new GZIPOutputStream(out, BUFFER_SIZE) : out;
+        // Keep the snapshot alive until the copy is complete
+        Transaction tx = store.beginReadTx();
+        try {
+            byte[] metaPages = readMetaPages();
+            copyDataFile(target, metaPages);
+        } finally {
+            tx.close();
+        }
+        if (target instanceof GZIPOutputStream) {
+            ((GZIPOutputStream) target).finish();
+        }
+        target.flush();
+    }
+
+    /**
+     * Returns the two meta pages to write to the backup, both containing the meta data of the latest commit.
+     */
+    private byte[] readMetaPages() throws IOException {
+        try (RandomAccessFile file = new RandomAccessFile(dataFile, "r")) {
+            byte[] first = new byte[MetaPageLayout.META_SIZE];
+            file.readFully(first);
+            ByteBuffer firstBuffer = ByteBuffer.wrap(first).order(ByteOrder.nativeOrder());
+            int pageSize = firstBuffer.getInt(MetaPageLayout.META_PAGE_SIZE_OFFSET);
+            if (firstBuffer.getInt(MetaPageLayout.META_MAGIC_OFFSET) != MetaPageLayout.META_MAGIC
+                    || pageSize < MetaPageLayout.META_SIZE || Integer.bitCount(pageSize) != 1) {
+                throw new IOException("Data file format not recognized, can not create a consistent backup");
+            }
+
+            // A commit may write a meta page while it is read, so only use a meta page if it is the same when read
+            // again.
+            byte[] pages = new byte[2 * pageSize];
+            byte[] pagesAgain = new byte[2 * pageSize];
+            ByteBuffer meta = ByteBuffer.wrap(pages).order(ByteOrder.nativeOrder());
+            for (int attempt = 0; attempt < MAX_META_READ_ATTEMPTS; attempt++) {
+                file.seek(0);
+                file.readFully(pages);
+                file.seek(0);
+                file.readFully(pagesAgain);
+                int latest = -1;
+                long latestTxnId = -1;
+                for (int page = 0; page < 2; page++) {
+                    int offset = page * pageSize;
+                    if (isSameMeta(pages, pagesAgain, offset)
+                            && meta.getInt(offset + MetaPageLayout.META_MAGIC_OFFSET) == MetaPageLayout.META_MAGIC) {
+                        long txnId = meta.getLong(offset + MetaPageLayout.META_TXN_ID_OFFSET);
+                        if (txnId > latestTxnId) {
+                            latest = page;
+                            latestTxnId = txnId;
+                        }
+                    }
+                }
+                if (latest >= 0) {
+                    // Keep the page header (it contains the page number), replace the meta data
+                    int other = 1 - latest;
+                    System.arraycopy(pages, latest * pageSize + MetaPageLayout.PAGE_HEADER_SIZE,
+                            pages, other * pageSize + MetaPageLayout.PAGE_HEADER_SIZE,
+                            pageSize - MetaPageLayout.PAGE_HEADER_SIZE);
+                    return pages;
+                }
+                Thread.yield();
+            }
+            throw new IOException("Meta pages were not stable, can not create a consistent backup");
+        }
+    }
+
+    private static boolean isSameMeta(byte[] pages, byte[] pagesAgain, int offset) {
+        for (int i = offset; i < offset + MetaPageLayout.META_SIZE; i++) {
+            if (pages[i] != pagesAgain[i]) return false;
+        }
+        return true;
+    }
+
+    private void copyDataFile(OutputStream out, byte[] metaPages) throws IOException {
+        ProgressListener listener = options.progressListener;
+        long maxBytesPerSecond = options.maxBytesPerSecond;
+        long bytesTotal = dataFile.length();
+        long startNanos = System.nanoTime();
+        out.write(metaPages);
+        long bytesWritten = metaPages.length;
+        byte[] buffer = new byte[BUFFER_SIZE];
+        try (FileInputStream in = new FileInputStream(dataFile)) {
+            in.getChannel().position(metaPages.length);
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                out.write(buffer, 0, read);
+                bytesWritten += read;
+                if (listener != null) {
+                    listener.onProgress(bytesWritten, bytesTotal);
+                }
+                if (maxBytesPerSecond > 0) {
+                    throttle(startNanos, bytesWritten, maxBytesPerSecond);
+                }
+            }
+        }
+    }
+
+    private static void throttle(long startNanos, long bytesWritten, long maxBytesPerSecond) throws IOException {
+        long expectedNanos = (long) (bytesWritten * 1_000_000_000.0 / maxBytesPerSecond);
+        long aheadMillis = (expectedNanos - (System.nanoTime() - startNanos)) / 1_000_000;
+        if (aheadMillis > 0) {
+            try {
+                Thread.sleep(aheadMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Backup was interrupted");
+            }
+        }
+    }
+
+}
@@ -42,6 +42,8 @@ public class Transaction implements Closeable {
 
     /** volatile because finalizer thread may interfere with "one thread, one TX" rule */
     private volatile boolean closed;
+    /** Set if a recycled TX is expected to be closed by another thread, e.g. by {@link ReaderPool}. */
+    private volatile boolean closingUnused;
 
     native void nativeDestroy(long transaction);
 
@@ -106,7 +108,7 @@ public class Transaction implements Closeable {
                 // Note: don't use isActive(), it returns false here because closed == true already
                 boolean isActive = nativeIsActive(transaction);
                 boolean isRecycled = nativeIsRecycled(transaction);
-                if (isActive || isRecycled) {
+                if (isActive || (isRecycled && !closingUnused)) {
                     String msgPostfix = " (initial commit count: " + initialCommitCount + ").";
                     if (isActive) {
                         System.err.println("Transaction is still active" + msgPostfix);
@@ -168,6 +170,14 @@ public class Transaction implements Closeable {
         }
     }
 
+    /**
+     * Like {@link #close()}, but for a recycled read transaction that may be closed by a thread other than its owner.
+     */
+    void closeUnused() {
+        closingUnused = true;
+        close();
+    }
+
     /**
      * For a write transaction commits the changes. For a read transaction throws.
      */
@@ -226,6 +236,7 @@ public class Transaction implements Closeable {
     public <T> Cursor<T> createCursor(Class<T> entityClass) {
         checkOpen();
         EntityInfo<T> entityInfo = store.getEntityInfo(entityClass);
+        store.ensureEntityRegistered(entityInfo);
         CursorFactory<T> factory = entityInfo.getCursorFactory();
         long cursorHandle = nativeCreateCursor(transaction, entityInfo.getDbName(), entityClass);
         if (cursorHandle == 0) throw new DbException("Could not create native cursor");
@@ -0,0 +1,106 @@
+/*
+ * Copyright © 2026 ObjectBox Ltd. <https://objectbox.io>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.objectbox.converter;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import javax.annotation.Nullable;
+
+import io.objectbox.annotation.apihint.Experimental;
+import io.objectbox.flatbuffers.ArrayReadWriteBuf;
+import io.objectbox.flatbuffers.FlexBuffersBuilder;
+
+/**
+ * Keeps {@link FlexBuffersBuilder}s for re-use by the FlexBuffers based converters, like {@link FlexObjectConverter}
+ * and {@link StringMapConverter}.
+ * <p>
+ * Builders are kept in a fixed number of slots (about two per CPU core). Each thread uses the slot selected by its ID,
+ * so threads putting concurrently mostly re-use their own builder instead of allocating a new one. A builder whose
+ * buffer grew larger than {@link #setMaxBuilderBytes(int) the maximum} is not kept to limit memory usage.
+ */
+@Experimental
+public final class FlexBuffersBuilderPool {
+
+    /** The default for {@link #setMaxBuilderBytes(int)}. */
+    public static final int DEFAULT_MAX_BUILDER_BYTES = 256 * 1024;
+
+    private static final int INITIAL_BUILDER_BYTES = 512;
+
+    static final FlexBuffersBuilderPool INSTANCE = new FlexBuffersBuilderPool(
+            Runtime.getRuntime().availableProcessors() * 2);
+
+    private static volatile int maxBuilderBytes = DEFAULT_MAX_BUILDER_BYTES;
+
+    private final AtomicReferenceArray<FlexBuffersBuilder> slots;
+    private final int mask;
+
+    FlexBuffersBuilderPool(int minSlots) {
+        int slotCount = Integer.highestOneBit(Math.max(1, minSlots - 1)) << 1; // Power of 2, at least 2
+        this.slots = new AtomicReferenceArray<>(slotCount);
+        this.mask = slotCount - 1;
+    }
+
+    /**
+     * Sets the maximum size of the buffer of a builder that is kept for re-use, by default
+     * {@link #DEFAULT_MAX_BUILDER_BYTES}. Builders needing larger buffers are discarded after use.
+     * Set to 0 to not keep any builders.
+     */
+    public static void setMaxBuilderBytes(int maxBytes) {
+        if (maxBytes < 0) {
+            throw new IllegalArgumentException("maxBytes must be 0 or greater");
+        }
+        maxBuilderBytes = maxBytes;
+    }
+
+    public static int getMaxBuilderBytes() {
+        return maxBuilderBytes;
+    }
+
+    private int slotIndex() {
+        long id = Thread.currentThread().getId();
+        // Spread thread IDs, which are typically sequential, over all slots
+        int hash = (int) (id ^ (id >>> 32)) * 0x9E3779B9;
+        return (hash ^ (hash >>> 16)) & mask;
+    }
+
+    /**
+     * Returns a cleared builder, either a kept one or a new one.
+     */
+    FlexBuffersBuilder acquire() {
+        FlexBuffersBuilder builder = slots.getAndSet(slotIndex(), null);
+        if (builder == null) {
+            // Note: BUILDER_FLAG_SHARE_KEYS_AND_STRINGS is as fast as no flags for small maps/strings
+            // and faster for larger maps/strings. BUILDER_FLAG_SHARE_STRINGS is always slower.
+            builder = new FlexBuffersBuilder(
+                    new ArrayReadWriteBuf(INITIAL_BUILDER_BYTES),
+                    FlexBuffersBuilder.BUILDER_FLAG_SHARE_KEYS_AND_STRINGS
+            );
+        }
+        return builder;
+    }
+
+    /**
+     * Keeps the given builder for re-use if its buffer is not too large.
+     *
+     * @param bufferBytes The size of the buffer used by the builder, e.g. the limit of the finished buffer.
+     */
+    void release(@Nullable FlexBuffersBuilder builder, int bufferBytes) {
+        if (builder == null || bufferBytes > maxBuilderBytes) return;
+        builder.clear();
+        slots.lazySet(slotIndex(), builder);
+    }
+}
@@ -22,7 +22,8 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.atomic.AtomicReference;
+
+import javax.annotation.Nullable;
 
 import io.objectbox.flatbuffers.ArrayReadWriteBuf;
 import io.objectbox.flatbuffers.FlexBuffers;
@@ -46,21 +47,11 @@ import io.objectbox.flatbuffers.FlexBuffersBuilder;
  */
 public class FlexObjectConverter implements PropertyConverter<Object, byte[]> {
 
-    private static final AtomicReference<FlexBuffersBuilder> cachedBuilder = new AtomicReference<>();
-
     @Override
     public byte[] convertToDatabaseValue(Object value) {
         if (value == null) return null;
 
-        FlexBuffersBuilder builder = cachedBuilder.getAndSet(null);
-        if (builder == null) {
-            // Note: BUILDER_FLAG_SHARE_KEYS_AND_STRINGS is as fast as no flags for small maps/strings
-            // and faster for larger maps/strings. BUILDER_FLAG_SHARE_STRINGS is always slower.
-            builder = new FlexBuffersBuilder(
-                    new ArrayReadWriteBuf(512),
-                    FlexBuffersBuilder.BUILDER_FLAG_SHARE_KEYS_AND_STRINGS
-            );
-        }
+        FlexBuffersBuilder builder = FlexBuffersBuilderPool.INSTANCE.acquire();
 
         addValue(builder, value);
 
@@ -69,11 +60,8 @@ public class FlexObjectConverter implements PropertyConverter<Object, byte[]> {
         byte[] out = new byte[buffer.limit()];
         buffer.get(out);
 
-        // Cache if builder does not consume too much memory
-        if (buffer.limit() <= 256 * 1024) {
-            builder.clear();
-            cachedBuilder.getAndSet(builder);
-        }
+        // Keep for re-use if builder does not consume too much memory
+        FlexBuffersBuilderPool.INSTANCE.release(builder, buffer.limit());
 
         return out;
     }
@@ -240,6 +228,38 @@ public class FlexObjectConverter implements PropertyConverter<Object, byte[]> {
         }
     }
 
+    /**
+     * Reads a single map value or list item for {@link LazyFlexMap} and {@link LazyFlexList}; maps and vectors are
+     * returned as lazy views as well.
+     *
+     * @param restoreAsLong If integers should be restored as Long, or null to check using
+     * {@link #shouldRestoreAsLong}.
+     */
+    @Nullable
+    Object readLazy(FlexBuffers.Reference value, @Nullable Boolean restoreAsLong) {
+        if (value.isNull()) {
+            return null;
+        } else if (value.isMap()) {
+            return new LazyFlexMap(this, value.asMap());
+        } else if (value.isVector()) {
+            return new LazyFlexList(this, value.asVector());
+        } else if (value.isString()) {
+            return value.asString();
+        } else if (value.isBoolean()) {
+            return value.asBoolean();
+        } else if (value.isInt()) {
+            boolean asLong = restoreAsLong != null ? restoreAsLong : shouldRestoreAsLong(value);
+            return asLong ? (Object) value.asLong() : (Object) value.asInt();
+        } else if (value.isFloat()) {
+            // Always return as double; if original was float consumer can cast to obtain original value.
+            return value.asFloat();
+        } else if (value.isBlob()) {
+            return value.asBlob().getBytes();
+        } else {
+            throw new IllegalArgumentException("FlexBuffers type is not supported: " + value.getType());
+        }
+    }
+
     /**
      * Converts a FlexBuffers string map key to the Java map key (e.g. String to Integer).
      * <p>
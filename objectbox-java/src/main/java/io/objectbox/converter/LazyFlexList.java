@@ -0,0 +1,103 @@
+/*
+ * Copyright © 2026 ObjectBox Ltd. <https://objectbox.io>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.objectbox.converter;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.annotation.Nullable;
+
+import io.objectbox.flatbuffers.FlexBuffers;
+
+/**
+ * A list that reads items from a FlexBuffers vector only when accessed, see {@link LazyStringFlexMapConverter}.
+ * <p>
+ * Items are not cached, so each access decodes the item again. Once modified, all items are copied into an
+ * {@link ArrayList} which is used from then on.
+ */
+final class LazyFlexList extends AbstractList<Object> {
+
+    private final FlexObjectConverter converter;
+    private final FlexBuffers.Vector vector;
+    @Nullable
+    private List<Object> copy;
+    /** FlexBuffers uses the byte width of the widest item for all items, so only need to check once. */
+    @Nullable
+    private Boolean restoreAsLong;
+
+    LazyFlexList(FlexObjectConverter converter, FlexBuffers.Vector vector) {
+        this.converter = converter;
+        this.vector = vector;
+    }
+
+    private Object read(int index) {
+        FlexBuffers.Reference item = vector.get(index);
+        if (item.isInt() && restoreAsLong == null) {
+            restoreAsLong = converter.shouldRestoreAsLong(item);
+        }
+        return converter.readLazy(item, restoreAsLong);
+    }
+
+    /**
+     * Returns the copy to modify, creates it on first call.
+     */
+    private List<Object> mutableCopy() {
+        List<Object> copy = this.copy;
+        if (copy == null) {
+            int size = vector.size();
+            copy = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                copy.add(read(i));
+            }
+            this.copy = copy;
+        }
+        return copy;
+    }
+
+    @Override
+    public Object get(int index) {
+        if (copy != null) return copy.get(index);
+        if (index < 0 || index >= vector.size()) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", size: " + vector.size());
+        }
+        return read(index);
+    }
+
+    @Override
+    public int size() {
+        return copy != null ? copy.size() : vector.size();
+    }
+
+    @Override
+    public Object set(int index, Object element) {
+        return mutableCopy().set(index, element);
+    }
+
+    @Override
+    public void add(int index, Object element) {
+        mutableCopy().add(index, element);
+        modCount++;
+    }
+
+    @Override
+    public Object remove(int index) {
+        Object removed = mutableCopy().remove(index);
+        modCount++;
+        return removed;
+    }
+}
@@ -0,0 +1,172 @@
+/*
+ * Copyright © 2026 ObjectBox Ltd. <https://objectbox.io>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.objectbox.converter;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import javax.annotation.Nullable;
+
+import io.objectbox.flatbuffers.FlexBuffers;
+
+/**
+ * A map with String keys that reads values from a FlexBuffers map only when accessed, see
+ * {@link LazyStringFlexMapConverter}.
+ * <p>
+ * Looking up a key uses a binary search on the sorted FlexBuffers keys. Values are not cached, so each access decodes
+ * the value again. Once modified, all entries are copied into a {@link HashMap} which is used from then on.
+ */
+final class LazyFlexMap extends AbstractMap<Object, Object> {
+
+    private final FlexObjectConverter converter;
+    private final FlexBuffers.Map flexMap;
+    @Nullable
+    private Map<Object, Object> copy;
+    @Nullable
+    private Set<Entry<Object, Object>> entrySet;
+
+    LazyFlexMap(FlexObjectConverter converter, FlexBuffers.Map flexMap) {
+        this.converter = converter;
+        this.flexMap = flexMap;
+    }
+
+    /**
+     * Returns the copy to modify, creates it on first call.
+     */
+    private Map<Object, Object> mutableCopy() {
+        Map<Object, Object> copy = this.copy;
+        if (copy == null) {
+            int size = flexMap.size();
+            copy = new HashMap<>((int) (size / 0.75 + 1));
+            FlexBuffers.KeyVector keys = flexMap.keys();
+            FlexBuffers.Vector values = flexMap.values();
+            for (int i = 0; i < size; i++) {
+                copy.put(keys.get(i).toString(), converter.readLazy(values.get(i), null));
+            }
+            this.copy = copy;
+        }
+        return copy;
+    }
+
+    @Override
+    public int size() {
+        return copy != null ? copy.size() : flexMap.size();
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        if (copy != null) return copy.containsKey(key);
+        if (!(key instanceof String)) return false;
+        if (!flexMap.get((String) key).isNull()) return true;
+        // Either no such key or the value is null: check keys
+        FlexBuffers.KeyVector keys = flexMap.keys();
+        for (int i = 0; i < keys.size(); i++) {
+            if (key.equals(keys.get(i).toString())) return true;
+        }
+        return false;
+    }
+
+    @Override
+    public Object get(Object key) {
+        if (copy != null) return copy.get(key);
+        if (!(key instanceof String)) return null;
+        return converter.readLazy(flexMap.get((String) key), null);
+    }
+
+    @Override
+    public Object put(Object key, Object value) {
+        return mutableCopy().put(key, value);
+    }
+
+    @Override
+    public Object remove(Object key) {
+        return mutableCopy().remove(key);
+    }
+
+    @Override
+    public void clear() {
+        mutableCopy().clear();
+    }
+
+    @Override
+    public Set<Entry<Object, Object>> entrySet() {
+        Set<Entry<Object, Object>> entrySet = this.entrySet;
+        if (entrySet == null) {
+            entrySet = new EntrySet();
+            this.entrySet = entrySet;
+        }
+        return entrySet;
+    }
+
+    private final class EntrySet extends AbstractSet<Entry<Object, Object>> {
+        @Override
+        public Iterator<Entry<Object, Object>> iterator() {
+            return copy != null ? copy.entrySet().iterator() : new EntryIterator();
+        }
+
+        @Override
+        public int size() {
+            return LazyFlexMap.this.size();
+        }
+    }
+
+    /**
+     * Iterates the FlexBuffers map. Modifying entries or removing through the iterator copies the map and applies the
+     * change to the copy.
+     */
+    private final class EntryIterator implements Iterator<Entry<Object, Object>> {
+        private final FlexBuffers.KeyVector keys = flexMap.keys();
+        private final FlexBuffers.Vector values = flexMap.values();
+        private final int size = flexMap.size();
+        private int index;
+        @Nullable
+        private String lastKey;
+
+        @Override
+        public boolean hasNext() {
+            return index < size;
+        }
+
+        @Override
+        public Entry<Object, Object> next() {
+            if (index >= size) throw new NoSuchElementException();
+            String key = keys.get(index).toString();
+            Object value = converter.readLazy(values.get(index), null);
+            index++;
+            lastKey = key;
+            return new SimpleEntry<Object, Object>(key, value) {
+                @Override
+                public Object setValue(Object newValue) {
+                    mutableCopy().put(key, newValue);
+                    return super.setValue(newValue);
+                }
+            };
+        }
+
+        @Override
+        public void remove() {
+            if (lastKey == null) throw new IllegalStateException();
+            mutableCopy().remove(lastKey);
+            lastKey = null;
+        }
+    }
+}
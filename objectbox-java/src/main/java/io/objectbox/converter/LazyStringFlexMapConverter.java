@@ -0,0 +1,41 @@
+/*
+ * Copyright © 2026 ObjectBox Ltd. <https://objectbox.io>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.objectbox.converter;
+
+import io.objectbox.flatbuffers.ArrayReadWriteBuf;
+import io.objectbox.flatbuffers.FlexBuffers;
+
+/**
+ * Like {@link StringFlexMapConverter}, but returns maps and lists that only decode values when they are accessed,
+ * instead of decoding all values when an object is read. Use this if typically only a few values of large maps are
+ * read, e.g. with {@code @Convert(converter = LazyStringFlexMapConverter.class, dbType = byte[].class)}.
+ * <p>
+ * The returned map keeps a reference to the database value. Looking up a key uses a binary search on the sorted
+ * FlexBuffers keys; values are decoded on each access, nested maps and lists are returned as lazy views as well.
+ * If a map or list is modified, it copies all of its entries first (copy-on-write), so modifying is slower than with
+ * {@link StringFlexMapConverter}. Iteration order is the sorted key order (byte-wise) of FlexBuffers.
+ */
+public class LazyStringFlexMapConverter extends StringFlexMapConverter {
+
+    @Override
+    public Object convertToEntityProperty(byte[] databaseValue) {
+        if (databaseValue == null) return null;
+
+        FlexBuffers.Reference value = FlexBuffers.getRoot(new ArrayReadWriteBuf(databaseValue, databaseValue.length));
+        return readLazy(value, null);
+    }
+}
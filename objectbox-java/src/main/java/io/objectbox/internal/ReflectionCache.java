@@ -17,13 +17,15 @@
 package io.objectbox.internal;
 
 import java.lang.reflect.Field;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.annotation.Nonnull;
 
 import io.objectbox.annotation.apihint.Internal;
 
+/**
+ * Caches fields looked up using reflection. Lock-free, so concurrent lookups do not block each other.
+ */
 @Internal
 public class ReflectionCache {
     private static final ReflectionCache instance = new ReflectionCache();
@@ -32,17 +34,21 @@ public class ReflectionCache {
         return instance;
     }
 
-    private final Map<Class<?>, Map<String, Field>> fields = new HashMap<>();
+    private final ConcurrentHashMap<Class<?>, ConcurrentHashMap<String, Field>> fields = new ConcurrentHashMap<>();
 
     @Nonnull
-    public synchronized Field getField(Class<?> clazz, String name) {
-        Map<String, Field> fieldsForClass = fields.get(clazz);
+    public Field getField(Class<?> clazz, String name) {
+        ConcurrentHashMap<String, Field> fieldsForClass = fields.get(clazz);
         if (fieldsForClass == null) {
-            fieldsForClass = new HashMap<>();
-            fields.put(clazz, fieldsForClass);
+            ConcurrentHashMap<String, Field> newFieldsForClass = new ConcurrentHashMap<>();
+            fieldsForClass = fields.putIfAbsent(clazz, newFieldsForClass);
+            if (fieldsForClass == null) {
+                fieldsForClass = newFieldsForClass;
+            }
         }
         Field field = fieldsForClass.get(name);
         if (field == null) {
+            // Looking up the same field concurrently is fine, the result is the same
             try {
                 field = clazz.getDeclaredField(name);
                 field.setAccessible(true);
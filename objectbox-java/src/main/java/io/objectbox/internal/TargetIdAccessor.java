@@ -0,0 +1,32 @@
+/*
+ * Copyright © 2026 ObjectBox Ltd. <https://objectbox.io>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.objectbox.internal;
+
+import java.io.Serializable;
+
+import io.objectbox.annotation.apihint.Internal;
+
+/**
+ * Generated accessor for the target ID property of a ToOne relation, so it can be read and set without reflection.
+ * Only for target ID properties that have a field (are not virtual).
+ */
+@Internal
+public interface TargetIdAccessor<SOURCE> extends Serializable {
+    long getTargetId(SOURCE object);
+
+    void setTargetId(SOURCE object, long targetId);
+}
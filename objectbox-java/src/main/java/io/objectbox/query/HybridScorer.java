@@ -0,0 +1,207 @@
+/*
+ * Copyright © 2026 ObjectBox Ltd. <https://objectbox.io>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.objectbox.query;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.annotation.Nullable;
+
+import io.objectbox.annotation.HnswIndex;
+import io.objectbox.annotation.VectorDistanceType;
+
+/**
+ * A {@link QueryScorer} that combines the score of a query, e.g. the distance of a nearest neighbor search, with
+ * weighted terms based on the values of the matching objects.
+ * <p>
+ * The score of an object is the sum of all terms. Like for distances, a lower score ranks a result higher. So use a
+ * positive weight for terms that should penalize a result and a negative weight for terms that should boost it.
+ * <p>
+ * Example, prefer recently created and popular articles:
+ * <pre>
+ * HybridScorer&lt;Article&gt; scorer = new HybridScorer&lt;Article&gt;()
+ *         .queryScore(0.7)
+ *         .decay(0.3, article -> article.getCreatedAt().getTime(), TimeUnit.DAYS.toMillis(7))
+ *         .value(-0.01, Article::getPopularity);
+ * List&lt;ObjectWithScore&lt;Article&gt;&gt; results = box
+ *         .query(Article_.embedding.nearestNeighbors(queryVector, 100))
+ *         .score(scorer)
+ *         .build()
+ *         .findWithScores(0, 10);
+ * </pre>
+ *
+ * @param <T> The entity
+ */
+public class HybridScorer<T> implements QueryScorer<T> {
+
+    /** Returns a numeric value of an object, e.g. a property value. */
+    public interface ValueGetter<T> {
+        double getValue(T entity);
+    }
+
+    /** Returns a time of an object in milliseconds since the epoch, e.g. a date property value. */
+    public interface TimeGetter<T> {
+        long getTime(T entity);
+    }
+
+    /** Returns a vector of an object, e.g. a float array property value. May return null if there is none. */
+    public interface VectorGetter<T> {
+        @Nullable
+        float[] getVector(T entity);
+    }
+
+    private interface Term<T> {
+        double score(T entity, double queryScore, long now);
+    }
+
+    private final List<Term<T>> terms = new ArrayList<>();
+
+    /**
+     * Adds the score determined by the query, e.g. the distance of a nearest neighbor search, multiplied by the
+     * given weight.
+     */
+    public HybridScorer<T> queryScore(double weight) {
+        terms.add((entity, queryScore, now) -> weight * queryScore);
+        return this;
+    }
+
+    /**
+     * Adds the value returned by {@code getter} multiplied by the given weight.
+     * <p>
+     * As a lower score ranks higher, use a negative weight to boost objects with a higher value.
+     */
+    public HybridScorer<T> value(double weight, ValueGetter<T> getter) {
+        terms.add((entity, queryScore, now) -> weight * getter.getValue(entity));
+        return this;
+    }
+
+    /**
+     * Like {@link #decay(double, TimeGetter, long, long)}, but uses the current time at the time of scoring as the
+     * reference time.
+     */
+    public HybridScorer<T> decay(double weight, TimeGetter<T> getter, long halfLifeMillis) {
+        return decay(weight, getter, halfLifeMillis, 0);
+    }
+
+    /**
+     * Adds an exponential time decay multiplied by the given weight.
+     * <p>
+     * The decay is 0 for the reference time (or later) and approaches 1 with increasing age. It is 0.5 if the time
+     * returned by {@code getter} is {@code halfLifeMillis} before the reference time.
+     *
+     * @param referenceTimeMillis The time to compute the age against; if 0 the current time when scoring.
+     */
+    public HybridScorer<T> decay(double weight, TimeGetter<T> getter, long halfLifeMillis, long referenceTimeMillis) {
+        if (halfLifeMillis <= 0) {
+            throw new IllegalArgumentException("halfLifeMillis must be greater than 0, but was " + halfLifeMillis);
+        }
+        terms.add((entity, queryScore, now) -> {
+            long reference = referenceTimeMillis != 0 ? referenceTimeMillis : now;
+            long age = Math.max(0, reference - getter.getTime(entity));
+            return weight * (1 - Math.pow(0.5, (double) age / halfLifeMillis));
+        });
+        return this;
+    }
+
+    /**
+     * Adds the distance of a vector of the object, e.g. a second vector property, to the given query vector,
+     * multiplied by the given weight.
+     * <p>
+     * This computes the distance for each result and does not use an {@link HnswIndex}. If {@code getter} returns no
+     * vector, the distance is positive infinity.
+     *
+     * @param distanceType Supported are {@link VectorDistanceType#DEFAULT}, {@link VectorDistanceType#EUCLIDEAN},
+     * {@link VectorDistanceType#COSINE}, {@link VectorDistanceType#DOT_PRODUCT} and {@link VectorDistanceType#GEO}.
+     * The distance has the same value range as documented for the type.
+     */
+    public HybridScorer<T> vectorDistance(double weight, VectorGetter<T> getter, float[] queryVector,
+                                          VectorDistanceType distanceType) {
+        if (distanceType == VectorDistanceType.DOT_PRODUCT_NON_NORMALIZED) {
+            throw new IllegalArgumentException("Distance type is not supported: " + distanceType);
+        }
+        float[] queryVectorCopy = queryVector.clone();
+        terms.add((entity, queryScore, now) -> {
+            if (weight == 0) return 0;
+            float[] vector = getter.getVector(entity);
+            if (vector == null) return weight * Double.POSITIVE_INFINITY;
+            return weight * distance(distanceType, queryVectorCopy, vector);
+        });
+        return this;
+    }
+
+    @Override
+    public double score(T entity, double queryScore) {
+        long now = System.currentTimeMillis();
+        double score = 0;
+        for (Term<T> term : terms) {
+            score += term.score(entity, queryScore, now);
+        }
+        return score;
+    }
+
+    static double distance(VectorDistanceType distanceType, float[] a, float[] b) {
+        switch (distanceType) {
+            case DEFAULT:
+            case EUCLIDEAN:
+                return euclideanSquared(a, b);
+            case COSINE:
+                return cosineDistance(a, b);
+            case DOT_PRODUCT:
+                return 1 - dotProduct(a, b);
+            case GEO:
+                return haversineKm(a, b);
+            default:
+                throw new IllegalArgumentException("Distance type is not supported: " + distanceType);
+        }
+    }
+
+    private static double euclideanSquared(float[] a, float[] b) {
+        int length = Math.min(a.length, b.length);
+        double sum = 0;
+        for (int i = 0; i < length; i++) {
+            double diff = a[i] - b[i];
+            sum += diff * diff;
+        }
+        return sum;
+    }
+
+    private static double dotProduct(float[] a, float[] b) {
+        int length = Math.min(a.length, b.length);
+        double sum = 0;
+        for (int i = 0; i < length; i++) {
+            sum += (double) a[i] * b[i];
+        }
+        return sum;
+    }
+
+    private static double cosineDistance(float[] a, float[] b) {
+        double normProduct = Math.sqrt(dotProduct(a, a) * dotProduct(b, b));
+        if (normProduct == 0) return 1; // Treat like orthogonal
+        return 1 - dotProduct(a, b) / normProduct;
+    }
+
+    private static double haversineKm(float[] a, float[] b) {
+        if (a.length < 2 || b.length < 2) return 0;
+        double lat1 = Math.toRadians(a[0]);
+        double lat2 = Math.toRadians(b[0]);
+        double sinLat = Math.sin((lat2 - lat1) / 2);
+        double sinLon = Math.sin(Math.toRadians(b[1] - a[1]) / 2);
+        double h = sinLat * sinLat + Math.cos(lat1) * Math.cos(lat2) * sinLon * sinLon;
+        return 2 * 6371 * Math.asin(Math.min(1, Math.sqrt(h)));
+    }
+
+}
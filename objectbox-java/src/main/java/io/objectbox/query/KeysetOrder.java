@@ -0,0 +1,50 @@
+/*
+ * Copyright © 2026 ObjectBox Ltd. <https://objectbox.io>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.objectbox.query;
+
+import javax.annotation.Nullable;
+
+/**
+ * The keyset order of a query, see {@link QueryBuilder#keysetOrder(io.objectbox.Property, SortKeyGetter)}.
+ */
+class KeysetOrder<T> {
+
+    // Prefixed to not collide with aliases set by users
+    static final String ALIAS_AFTER = "__keysetAfter";
+    static final String ALIAS_AFTER_EQUAL = "__keysetAfterEqual";
+    static final String ALIAS_AFTER_ID = "__keysetAfterId";
+
+    final boolean descending;
+    /** If null, orders by ID only. */
+    @Nullable final SortKeyGetter<T> sortKeyGetter;
+
+    KeysetOrder(boolean descending, @Nullable SortKeyGetter<T> sortKeyGetter) {
+        this.descending = descending;
+        this.sortKeyGetter = sortKeyGetter;
+    }
+
+    /** The sort key before any sort key in this order. */
+    long initialSortKey() {
+        return descending ? Long.MAX_VALUE : Long.MIN_VALUE;
+    }
+
+    /** The ID before any ID in this order. */
+    long initialId() {
+        return descending ? Long.MAX_VALUE : 0;
+    }
+
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright © 2026 ObjectBox Ltd. <https://objectbox.io>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.objectbox.query;
+
+import java.util.List;
+
+import javax.annotation.Nullable;
+
+/**
+ * A page of results returned by {@link Query#findPage(PageKey, int)}.
+ *
+ * @param <T> The entity
+ */
+public class Page<T> {
+
+    private final List<T> items;
+    @Nullable private final PageKey nextKey;
+
+    Page(List<T> items, @Nullable PageKey nextKey) {
+        this.items = items;
+        this.nextKey = nextKey;
+    }
+
+    /**
+     * The objects of this page. Empty if there are no further results.
+     */
+    public List<T> getItems() {
+        return items;
+    }
+
+    /**
+     * The key to get the next page with, or null if this is the last page.
+     */
+    @Nullable
+    public PageKey getNextKey() {
+        return nextKey;
+    }
+
+    /**
+     * Returns true if there are results after this page (at the time this page was found).
+     */
+    public boolean hasNext() {
+        return nextKey != null;
+    }
+}
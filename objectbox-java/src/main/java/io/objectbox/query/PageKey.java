@@ -0,0 +1,99 @@
+/*
+ * Copyright © 2026 ObjectBox Ltd. <https://objectbox.io>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.objectbox.query;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * Identifies the position of an object within the results of a query with a
+ * {@link QueryBuilder#keysetOrder keyset order}: the value of its sort property and its ID.
+ * <p>
+ * Use with {@link Query#findPage(PageKey, int)} to get the results after it. To pass it e.g. to a client of a
+ * server, use {@link #toToken()} and {@link #fromToken(String)}.
+ */
+@Immutable
+public final class PageKey {
+
+    private final long sortKey;
+    private final long id;
+
+    public PageKey(long sortKey, long id) {
+        this.sortKey = sortKey;
+        this.id = id;
+    }
+
+    /**
+     * The value of the sort property. Not used if the query is only ordered by ID.
+     */
+    public long getSortKey() {
+        return sortKey;
+    }
+
+    /**
+     * The ID of the object.
+     */
+    public long getId() {
+        return id;
+    }
+
+    /**
+     * Returns a URL-safe string representation of this, like {@code "1700000000000_42"}.
+     *
+     * @see #fromToken(String)
+     */
+    public String toToken() {
+        return sortKey + "_" + id;
+    }
+
+    /**
+     * Parses a string returned by {@link #toToken()}.
+     *
+     * @throws IllegalArgumentException if the token is not valid.
+     */
+    public static PageKey fromToken(String token) {
+        int separator = token.indexOf('_');
+        if (separator <= 0) {
+            throw new IllegalArgumentException("Invalid page token: " + token);
+        }
+        try {
+            long sortKey = Long.parseLong(token.substring(0, separator));
+            long id = Long.parseLong(token.substring(separator + 1));
+            return new PageKey(sortKey, id);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid page token: " + token, e);
+        }
+    }
+
+    @Override
+    public boolean equals(@Nullable Object o) {
+        if (this == o) return true;
+        if (!(o instanceof PageKey)) return false;
+        PageKey pageKey = (PageKey) o;
+        return sortKey == pageKey.sortKey && id == pageKey.id;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * (int) (sortKey ^ (sortKey >>> 32)) + (int) (id ^ (id >>> 32));
+    }
+
+    @Override
+    public String toString() {
+        return "PageKey{sortKey=" + sortKey + ", id=" + id + '}';
+    }
+}
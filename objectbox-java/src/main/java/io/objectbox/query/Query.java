@@ -17,11 +17,14 @@
 package io.objectbox.query;
 
 import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.Date;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.Callable;
 
 import javax.annotation.Nonnull;
@@ -33,6 +36,7 @@ import io.objectbox.InternalAccess;
 import io.objectbox.Property;
 import io.objectbox.annotation.Entity;
 import io.objectbox.annotation.HnswIndex;
+import io.objectbox.annotation.apihint.Experimental;
 import io.objectbox.exception.NonUniqueResultException;
 import io.objectbox.reactive.DataObserver;
 import io.objectbox.reactive.DataSubscriptionList;
@@ -124,14 +128,21 @@ public class Query<T> implements Closeable {
     @Nullable private final List<EagerRelation<T, ?>> eagerRelations;
     @Nullable private final QueryFilter<T> filter;
     @Nullable private final Comparator<T> comparator;
+    private final int comparatorLimit;
+    @Nullable private final QueryScorer<T> scorer;
+    @Nullable private final KeysetOrder<T> keysetOrder;
+    private final List<QueryPlan.Link> links;
     private final int queryAttempts;
     private static final int INITIAL_RETRY_BACK_OFF_IN_MS = 10;
+    /** Number of objects to get at once when the results are selected in Java, e.g. for top-k. */
+    private static final int GET_BATCH_SIZE = 1000;
 
     // volatile so checkOpen() is more up-to-date (no need for synchronized; it's a race anyway)
     volatile long handle;
 
     Query(Box<T> box, long queryHandle, @Nullable List<EagerRelation<T, ?>> eagerRelations, @Nullable QueryFilter<T> filter,
-          @Nullable Comparator<T> comparator) {
+          @Nullable Comparator<T> comparator, int comparatorLimit, @Nullable QueryScorer<T> scorer,
+          @Nullable KeysetOrder<T> keysetOrder, List<QueryPlan.Link> links) {
         this.box = box;
         store = box.getStore();
         queryAttempts = store.internalQueryAttempts();
@@ -140,6 +151,10 @@ public class Query<T> implements Closeable {
         this.eagerRelations = eagerRelations;
         this.filter = filter;
         this.comparator = comparator;
+        this.comparatorLimit = comparatorLimit;
+        this.scorer = scorer;
+        this.keysetOrder = keysetOrder;
+        this.links = links;
     }
 
     /**
@@ -152,10 +167,21 @@ public class Query<T> implements Closeable {
                 handle,
                 originalQuery.eagerRelations,
                 originalQuery.filter,
-                originalQuery.comparator
+                originalQuery.comparator,
+                originalQuery.comparatorLimit,
+                originalQuery.scorer,
+                originalQuery.keysetOrder,
+                originalQuery.links
         );
     }
 
+    /**
+     * Returns the Box this query was built for.
+     */
+    public Box<T> getBox() {
+        return box;
+    }
+
     /**
      * Explicitly call {@link #close()} instead to avoid expensive finalization.
      */
@@ -270,8 +296,20 @@ public class Query<T> implements Closeable {
      */
     @Nonnull
     public List<T> find() {
+        return find((QueryProfile) null);
+    }
+
+    /**
+     * Runs {@link #find()}, recording timings and counts of each stage to the given profile, if not null.
+     */
+    private List<T> find(@Nullable QueryProfile profile) {
+        if (comparator != null && comparatorLimit > 0) {
+            return findTopK(comparator, comparatorLimit, profile);
+        }
         return callInReadTx(() -> {
+            long time = profile != null ? System.nanoTime() : 0;
             List<T> entities = nativeFind(Query.this.handle, cursorHandle(), 0, 0);
+            if (profile != null) time = profile.record(QueryPlan.Stage.DATABASE, time, entities.size());
             if (filter != null) {
                 Iterator<T> iterator = entities.iterator();
                 while (iterator.hasNext()) {
@@ -280,15 +318,102 @@ public class Query<T> implements Closeable {
                         iterator.remove();
                     }
                 }
+                if (profile != null) time = profile.record(QueryPlan.Stage.FILTER, time, entities.size());
             }
             resolveEagerRelations(entities);
+            if (profile != null && eagerRelations != null) {
+                time = profile.record(QueryPlan.Stage.EAGER_RELATIONS, time, entities.size());
+            }
             if (comparator != null) {
                 Collections.sort(entities, comparator);
+                if (profile != null) profile.record(QueryPlan.Stage.SORT, time, entities.size());
+            }
+            return entities;
+        });
+    }
+
+    /**
+     * Streams matching objects, applying the filter, and keeps only the first {@code k} in the order of the comparator.
+     */
+    private List<T> findTopK(Comparator<T> comparator, int k, @Nullable QueryProfile profile) {
+        return callInReadTx(() -> {
+            long time = profile != null ? System.nanoTime() : 0;
+            // Only get IDs so objects not making it into the result are dropped right away
+            long[] ids = nativeFindIds(handle, cursorHandle(), 0, 0);
+            if (profile != null) time = profile.record(QueryPlan.Stage.DATABASE, time, 0);
+            TopK<T> topK = new TopK<>(k, comparator);
+            // Get objects in batches so only a batch of objects not making it into the result is held at a time
+            for (int from = 0; from < ids.length; from += GET_BATCH_SIZE) {
+                long[] batchIds = Arrays.copyOfRange(ids, from, Math.min(from + GET_BATCH_SIZE, ids.length));
+                List<T> batch = box.get(batchIds);
+                if (batch.size() != batchIds.length) {
+                    throw new IllegalStateException("Internal error: data object was null");
+                }
+                if (profile != null) time = profile.record(QueryPlan.Stage.DATABASE, time, batch.size());
+                int kept = 0;
+                for (T entity : batch) {
+                    if (filter == null || filter.keep(entity)) {
+                        topK.offer(entity);
+                        kept++;
+                    }
+                }
+                if (profile != null) {
+                    if (filter != null) time = profile.record(QueryPlan.Stage.FILTER, time, kept);
+                    time = profile.record(QueryPlan.Stage.TOP_K, time, 0);
+                }
+            }
+            List<T> entities = topK.toSortedList(0);
+            if (profile != null) time = profile.record(QueryPlan.Stage.TOP_K, time, entities.size());
+            resolveEagerRelations(entities);
+            if (profile != null && eagerRelations != null) {
+                profile.record(QueryPlan.Stage.EAGER_RELATIONS, time, entities.size());
             }
             return entities;
         });
     }
 
+    /**
+     * Returns how this query is run, e.g. its links and which stages {@link #find()} runs in Java.
+     * <p>
+     * This does not run the query, use {@link #profile()} to get timings and result counts.
+     * <p>
+     * Note: which index the database uses is decided when running the query and is not part of the plan.
+     */
+    @Experimental
+    public QueryPlan explain() {
+        List<QueryPlan.Stage> stages = new ArrayList<>();
+        stages.add(QueryPlan.Stage.DATABASE);
+        if (filter != null) {
+            stages.add(QueryPlan.Stage.FILTER);
+        }
+        if (comparator != null && comparatorLimit > 0) {
+            stages.add(QueryPlan.Stage.TOP_K);
+            if (eagerRelations != null) stages.add(QueryPlan.Stage.EAGER_RELATIONS);
+        } else {
+            if (eagerRelations != null) stages.add(QueryPlan.Stage.EAGER_RELATIONS);
+            if (comparator != null) stages.add(QueryPlan.Stage.SORT);
+        }
+        return new QueryPlan(box.getEntityInfo().getEntityName(), describe(), describeParameters(),
+                new ArrayList<>(links), stages, scorer != null, keysetOrder != null);
+    }
+
+    /**
+     * Runs {@link #find()} and returns the time spent and the number of objects returned by each stage of its
+     * {@link #explain() plan}. The results are discarded.
+     * <p>
+     * For the {@link QueryPlan.Stage#DATABASE} stage, this is the number of objects matching the conditions. Combined
+     * with the count of the {@link QueryPlan.Stage#FILTER} stage this helps to decide if a filter should be replaced
+     * by a (possibly indexed) condition.
+     */
+    @Experimental
+    public QueryProfile profile() {
+        QueryProfile profile = new QueryProfile(explain());
+        long start = System.nanoTime();
+        List<T> entities = find(profile);
+        profile.finish(System.nanoTime() - start, entities.size());
+        return profile;
+    }
+
     /**
      * Like {@link #find()}, but can skip and limit results.
      * <p>
@@ -307,6 +432,86 @@ public class Query<T> implements Closeable {
         });
     }
 
+    /**
+     * For a query with a {@link QueryBuilder#keysetOrder(Property, SortKeyGetter) keyset order}, returns up to
+     * {@code limit} results after the object with the given sort key and ID (typically the last object of the
+     * previous page).
+     * <p>
+     * Unlike {@link #find(long, long)} with an offset, this does not skip previous results but directly continues
+     * after the given object. Note that the given object does not have to exist anymore.
+     * <p>
+     * Like {@link #setParameter}, this changes parameters of this query (they are reset once this returns), so do not
+     * run this concurrently with other methods of this query. Use {@link #copy()} for other threads.
+     *
+     * @param lastSortKey The sort key of the last object of the previous page. Ignored if ordered by ID only.
+     * @param lastId The ID of the last object of the previous page.
+     * @param limit If greater than 0, returns at most this many results.
+     */
+    @Nonnull
+    public synchronized List<T> findAfter(long lastSortKey, long lastId, long limit) {
+        KeysetOrder<T> keysetOrder = checkKeysetOrder();
+        setKeysetParameters(keysetOrder, lastSortKey, lastId);
+        try {
+            return find(0, limit);
+        } finally {
+            setKeysetParameters(keysetOrder, keysetOrder.initialSortKey(), keysetOrder.initialId());
+        }
+    }
+
+    /**
+     * For a query with a {@link QueryBuilder#keysetOrder(Property, SortKeyGetter) keyset order}, returns the page of
+     * up to {@code pageSize} results after the given key.
+     * <p>
+     * Pass null to get the first page, then pass the {@link Page#getNextKey() next key} of a page to get the
+     * following page. See {@link #findAfter(long, long, long)} for details.
+     *
+     * @param after The key of the last object of the previous page, or null for the first page.
+     * @param pageSize Maximum number of results of the page, must be 1 or greater.
+     */
+    @Nonnull
+    public Page<T> findPage(@Nullable PageKey after, int pageSize) {
+        if (pageSize < 1) {
+            throw new IllegalArgumentException("pageSize must be 1 or greater, but was " + pageSize);
+        }
+        KeysetOrder<T> keysetOrder = checkKeysetOrder();
+        long lastSortKey = after != null ? after.getSortKey() : keysetOrder.initialSortKey();
+        long lastId = after != null ? after.getId() : keysetOrder.initialId();
+        // Get one more to know if there is a next page
+        List<T> items = findAfter(lastSortKey, lastId, pageSize + 1L);
+        PageKey nextKey = null;
+        if (items.size() > pageSize) {
+            items = new ArrayList<>(items.subList(0, pageSize));
+            nextKey = getPageKey(items.get(pageSize - 1));
+        }
+        return new Page<>(items, nextKey);
+    }
+
+    /**
+     * For a query with a {@link QueryBuilder#keysetOrder(Property, SortKeyGetter) keyset order}, returns the key
+     * of the given object to get the results after it.
+     */
+    public PageKey getPageKey(T entity) {
+        KeysetOrder<T> keysetOrder = checkKeysetOrder();
+        long sortKey = keysetOrder.sortKeyGetter != null ? keysetOrder.sortKeyGetter.getSortKey(entity) : 0;
+        return new PageKey(sortKey, box.getId(entity));
+    }
+
+    private KeysetOrder<T> checkKeysetOrder() {
+        if (keysetOrder == null) {
+            throw new IllegalStateException("This query has no keyset order, use QueryBuilder.keysetOrder() to set one.");
+        }
+        return keysetOrder;
+    }
+
+    private void setKeysetParameters(KeysetOrder<T> keysetOrder, long sortKey, long id) {
+        checkOpen();
+        if (keysetOrder.sortKeyGetter != null) {
+            nativeSetParameter(handle, 0, 0, KeysetOrder.ALIAS_AFTER, sortKey);
+            nativeSetParameter(handle, 0, 0, KeysetOrder.ALIAS_AFTER_EQUAL, sortKey);
+        }
+        nativeSetParameter(handle, 0, 0, KeysetOrder.ALIAS_AFTER_ID, id);
+    }
+
     /**
      * Like {@link #findFirst()}, but returns just the ID of the object.
      * <p>
@@ -401,6 +606,16 @@ public class Query<T> implements Closeable {
     @Nonnull
     public List<IdWithScore> findIdsWithScores(final long offset, final long limit) {
         checkOpen();
+        if (scorer != null) {
+            return callInReadTx(() -> {
+                List<ObjectWithScore<T>> results = findWithScorer(offset, limit);
+                List<IdWithScore> idsWithScores = new ArrayList<>(results.size());
+                for (ObjectWithScore<T> result : results) {
+                    idsWithScores.add(new IdWithScore(box.getId(result.get()), result.getScore()));
+                }
+                return idsWithScores;
+            });
+        }
         return box.internalCallWithReaderHandle(cursorHandle -> nativeFindIdsWithScores(handle, cursorHandle, offset, limit));
     }
 
@@ -429,7 +644,9 @@ public class Query<T> implements Closeable {
     public List<ObjectWithScore<T>> findWithScores(final long offset, final long limit) {
         ensureNoFilterNoComparator();
         return callInReadTx(() -> {
-            List<ObjectWithScore<T>> results = nativeFindWithScores(handle, cursorHandle(), offset, limit);
+            List<ObjectWithScore<T>> results = scorer != null
+                    ? findWithScorer(offset, limit)
+                    : nativeFindWithScores(handle, cursorHandle(), offset, limit);
             if (eagerRelations != null) {
                 for (int i = 0; i < results.size(); i++) {
                     resolveEagerRelationForNonNullEagerRelations(results.get(i).get(), i);
@@ -452,6 +669,41 @@ public class Query<T> implements Closeable {
         return findWithScores(0, 0);
     }
 
+    /**
+     * Scores all results using the {@link QueryBuilder#score(QueryScorer) scorer} and keeps only the results within
+     * offset and limit, ordered by score. To be called inside a read TX.
+     */
+    private List<ObjectWithScore<T>> findWithScorer(long offset, long limit) {
+        //noinspection ConstantConditions Only called if scorer is set.
+        QueryScorer<T> scorer = this.scorer;
+        // Only get IDs so objects not making it into the result are dropped right away
+        List<IdWithScore> candidates = nativeFindIdsWithScores(handle, cursorHandle(), 0, 0);
+        // Treat a limit beyond the maximum of offset + limit like no limit, do not overflow
+        long maxCount = limit > 0 && limit <= Long.MAX_VALUE - offset ? offset + limit : candidates.size();
+        int k = (int) Math.min(maxCount, candidates.size());
+        if (k <= 0 || offset >= k) {
+            return new ArrayList<>();
+        }
+        TopK<ObjectWithScore<T>> topK = new TopK<>(k, (a, b) -> Double.compare(a.getScore(), b.getScore()));
+        // Get objects in batches so only a batch of objects not making it into the result is held at a time
+        for (int from = 0; from < candidates.size(); from += GET_BATCH_SIZE) {
+            List<IdWithScore> batchCandidates = candidates.subList(from,
+                    Math.min(from + GET_BATCH_SIZE, candidates.size()));
+            List<Long> batchIds = new ArrayList<>(batchCandidates.size());
+            for (IdWithScore candidate : batchCandidates) {
+                batchIds.add(candidate.getId());
+            }
+            Map<Long, T> batch = box.getMap(batchIds);
+            for (IdWithScore candidate : batchCandidates) {
+                T entity = batch.get(candidate.getId());
+                if (entity != null) {
+                    topK.offer(new ObjectWithScore<>(entity, scorer.score(entity, candidate.getScore())));
+                }
+            }
+        }
+        return topK.toSortedList((int) offset);
+    }
+
     /**
      * Creates a {@link PropertyQuery} for the given property.
      * <p>
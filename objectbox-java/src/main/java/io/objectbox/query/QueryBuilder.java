@@ -134,6 +134,18 @@ public class QueryBuilder<T> {
     @Nullable
     private Comparator<T> comparator;
 
+    /** If greater than 0, only this many results ordered by {@link #comparator} are kept. */
+    private int comparatorLimit;
+
+    @Nullable
+    private QueryScorer<T> scorer;
+
+    @Nullable
+    private KeysetOrder<T> keysetOrder;
+
+    /** Links of this and any link builders, shared with link builders, for {@link Query#explain()}. */
+    private final List<QueryPlan.Link> links;
+
     private final boolean isSubQuery;
 
     private native long nativeCreate(long storeHandle, String entityName);
@@ -251,13 +263,15 @@ public class QueryBuilder<T> {
         handle = nativeCreate(storeHandle, entityName);
         if (handle == 0) throw new DbException("Could not create native query builder");
         isSubQuery = false;
+        links = new ArrayList<>();
     }
 
-    private QueryBuilder(long storeHandle, long subQueryBuilderHandle) {
+    private QueryBuilder(long storeHandle, long subQueryBuilderHandle, List<QueryPlan.Link> links) {
         this.box = null;
         this.storeHandle = storeHandle;
         handle = subQueryBuilderHandle;
         isSubQuery = true;
+        this.links = links;
     }
 
     /**
@@ -300,7 +314,8 @@ public class QueryBuilder<T> {
         }
         long queryHandle = nativeBuild(handle);
         if (queryHandle == 0) throw new DbException("Could not create native query");
-        Query<T> query = new Query<>(box, queryHandle, eagerRelations, filter, comparator);
+        Query<T> query = new Query<>(box, queryHandle, eagerRelations, filter, comparator, comparatorLimit, scorer,
+                keysetOrder, links);
         close();
         return query;
     }
@@ -373,6 +388,9 @@ public class QueryBuilder<T> {
      * <p>
      * Here, "Name" defines the primary sort order. The secondary sort order "YearOfBirth" is only used to compare
      * entries with the same "Name" values.
+     * <p>
+     * Note: indexes cover a single property only (see {@link io.objectbox.annotation.Index}), so there is no index
+     * that matches a condition on one property and an order by another.
      *
      * @param property the property defining the order
      * @param flags    Bit flags that can be combined using the binary OR operator (|). Available flags are
@@ -389,8 +407,151 @@ public class QueryBuilder<T> {
         return this;
     }
 
+    /**
+     * Orders results by the given property and then by ID, and enables keyset (seek) paging using
+     * {@link Query#findPage(PageKey, int)} and {@link Query#findAfter(long, long, long)}.
+     * <p>
+     * Unlike paging with an offset, which has to skip all previous results, each page directly continues after the
+     * last object of the previous page. With an {@link io.objectbox.annotation.Index @Index} on the property, getting
+     * a page costs the same regardless of its position. Also, objects inserted or removed before the last object do
+     * not shift the following pages.
+     * <p>
+     * This adds a condition on the property and the ID, so objects with a null value for the property are not
+     * returned. Supported are integer and Date properties, and the ID property (see {@link #keysetOrderById()}).
+     *
+     * @param property The property to order by, its value must be returned by {@code sortKeyGetter}.
+     * @param sortKeyGetter Returns the value of the property of an object.
+     * @see #keysetOrderDesc(Property, SortKeyGetter)
+     */
+    public QueryBuilder<T> keysetOrder(Property<T> property, SortKeyGetter<T> sortKeyGetter) {
+        return keysetOrder(property, false, sortKeyGetter);
+    }
+
+    /**
+     * Like {@link #keysetOrder(Property, SortKeyGetter)}, but orders by the given property and ID in descending order.
+     */
+    public QueryBuilder<T> keysetOrderDesc(Property<T> property, SortKeyGetter<T> sortKeyGetter) {
+        return keysetOrder(property, true, sortKeyGetter);
+    }
+
+    /**
+     * Like {@link #keysetOrder(Property, SortKeyGetter)}, but orders by ID only.
+     */
+    public QueryBuilder<T> keysetOrderById() {
+        return keysetOrder(null, false, null);
+    }
+
+    /**
+     * Like {@link #keysetOrder(Property, SortKeyGetter)}, but orders by ID only, in descending order.
+     */
+    public QueryBuilder<T> keysetOrderByIdDesc() {
+        return keysetOrder(null, true, null);
+    }
+
+    private QueryBuilder<T> keysetOrder(@Nullable Property<T> property, boolean descending,
+                                        @Nullable SortKeyGetter<T> sortKeyGetter) {
+        verifyNotSubQuery();
+        verifyHandle();
+        checkNoOperatorPending();
+        if (keysetOrder != null) {
+            throw new IllegalStateException("A keyset order was already defined, you can only assign one");
+        }
+        Property<T> idProperty = box.getEntityInfo().getIdProperty();
+        if (property != null && !property.isId) {
+            Class<?> type = property.type;
+            if (type != long.class && type != int.class && type != short.class && type != byte.class
+                    && type != Long.class && type != Integer.class && type != Short.class && type != Byte.class
+                    && type != Date.class) {
+                throw new IllegalArgumentException("Keyset order requires an integer or Date property: " + property);
+            }
+        } else {
+            // The ID is already the tie-breaker, so there is no separate sort key
+            sortKeyGetter = null;
+        }
+        KeysetOrder<T> keyset = new KeysetOrder<>(descending, sortKeyGetter);
+        long initialSortKey = keyset.initialSortKey();
+        long initialId = keyset.initialId();
+
+        // Conditions are added as another top-level condition (combined using AND), not using lastCondition to not
+        // change how following conditions are combined.
+        long idCondition = descending
+                ? nativeLess(handle, idProperty.getId(), initialId, false)
+                : nativeGreater(handle, idProperty.getId(), initialId, false);
+        nativeSetParameterAlias(idCondition, KeysetOrder.ALIAS_AFTER_ID);
+        if (sortKeyGetter != null) {
+            //noinspection ConstantConditions Not null if sortKeyGetter is set.
+            int propertyId = property.getId();
+            // (property > after) OR (property == after AND id > afterId), or reversed for descending
+            long afterCondition = descending
+                    ? nativeLess(handle, propertyId, initialSortKey, false)
+                    : nativeGreater(handle, propertyId, initialSortKey, false);
+            nativeSetParameterAlias(afterCondition, KeysetOrder.ALIAS_AFTER);
+            long equalCondition = nativeEqual(handle, propertyId, initialSortKey);
+            nativeSetParameterAlias(equalCondition, KeysetOrder.ALIAS_AFTER_EQUAL);
+            long tieCondition = nativeCombine(handle, equalCondition, idCondition, false);
+            nativeCombine(handle, afterCondition, tieCondition, true);
+            nativeOrder(handle, propertyId, descending ? DESCENDING : 0);
+        }
+        nativeOrder(handle, idProperty.getId(), descending ? DESCENDING : 0);
+        keysetOrder = keyset;
+        return this;
+    }
+
+    /**
+     * Sets a comparator to sort the results of {@link Query#find()} on a Java level after filtering.
+     * <p>
+     * Note: this requires to get and sort all matching objects. If only the first results are needed, use
+     * {@link #topK(Comparator, int)} instead.
+     */
     public QueryBuilder<T> sort(Comparator<T> comparator) {
         this.comparator = comparator;
+        this.comparatorLimit = 0;
+        return this;
+    }
+
+    /**
+     * Like {@link #sort(Comparator)}, but {@link Query#find()} only returns the first {@code k} results in the order of
+     * the given comparator.
+     * <p>
+     * Matching objects are read from the database in batches and only the first {@code k} are kept (using a bounded
+     * heap), so memory usage depends on {@code k} and not on the number of matching objects. Note that this does not
+     * reduce how many objects are read: like with {@link #sort(Comparator)}, every matching object is read and passed
+     * to the comparator. Eager relations are only resolved for the returned objects.
+     * <p>
+     * If the order can be expressed using properties, prefer {@link #order(Property)} with
+     * {@link Query#find(long, long)} which runs in the database.
+     *
+     * @param k The maximum number of results, must be 1 or greater.
+     */
+    public QueryBuilder<T> topK(Comparator<T> comparator, int k) {
+        if (k < 1) {
+            throw new IllegalArgumentException("k must be 1 or greater, but was " + k);
+        }
+        this.comparator = comparator;
+        this.comparatorLimit = k;
+        return this;
+    }
+
+    /**
+     * Sets a scorer that computes the score of results returned by {@link Query#findWithScores()},
+     * {@link Query#findIdsWithScores()} and their variants, replacing the score determined by the query.
+     * <p>
+     * For example, use a {@link HybridScorer} to combine the distance of a
+     * {@link #nearestNeighbors(Property, float[], int) nearest neighbor search} with property values of the objects.
+     * <p>
+     * Results are then ordered by the computed score in ascending order. Only the results within the requested
+     * offset and limit are kept while scoring, so the full result is never sorted. Note that the scorer only sees
+     * the results of the query, e.g. for a nearest neighbor search increase {@code maxResultCount} to score more
+     * candidates than the limit that is requested.
+     * <p>
+     * The scorer runs in the thread calling the find method and within its read transaction.
+     */
+    public QueryBuilder<T> score(QueryScorer<T> scorer) {
+        verifyNotSubQuery();
+        if (this.scorer != null) {
+            throw new IllegalStateException("A scorer was already defined, you can only assign one scorer");
+        }
+        this.scorer = scorer;
         return this;
     }
 
@@ -433,7 +594,15 @@ public class QueryBuilder<T> {
         int relationId = relationInfo.targetRelationId != 0 ? relationInfo.targetRelationId : relationInfo.relationId;
         long linkQBHandle = nativeLink(handle, storeHandle, relationOwner.getEntityId(), target.getEntityId(),
                 propertyId, relationId, backlink);
-        return new QueryBuilder<>(storeHandle, linkQBHandle);
+        EntityInfo<?> source = target == relationInfo.targetInfo ? relationInfo.sourceInfo : relationInfo.targetInfo;
+        if (relationInfo.targetIdProperty != null) {
+            links.add(new QueryPlan.Link(source.getEntityName(), target.getEntityName(), backlink,
+                    QueryPlan.LinkStrategy.TARGET_ID_PROPERTY, relationInfo.targetIdProperty.name));
+        } else {
+            links.add(new QueryPlan.Link(source.getEntityName(), target.getEntityName(), backlink,
+                    QueryPlan.LinkStrategy.RELATION, null));
+        }
+        return new QueryBuilder<>(storeHandle, linkQBHandle, links);
     }
 
     /**
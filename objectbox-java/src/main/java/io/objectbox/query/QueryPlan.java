@@ -0,0 +1,190 @@
+/*
+ * Copyright © 2026 ObjectBox Ltd. <https://objectbox.io>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.objectbox.query;
+
+import java.util.Collections;
+import java.util.List;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+import io.objectbox.annotation.apihint.Experimental;
+
+/**
+ * Describes how a {@link Query} is executed, as returned by {@link Query#explain()}.
+ * <p>
+ * The database part of a query (its conditions, links and {@link QueryBuilder#order(io.objectbox.Property) order})
+ * runs natively. Which index the database uses for it is decided when the query runs and is not reported here,
+ * {@link #getDescription()} and {@link #getParameters()} describe the conditions it works with. The remaining
+ * {@link #getStages() stages} run in Java; use {@link Query#profile()} to get their timings.
+ * <p>
+ * Note: the format of the descriptions may change without notice.
+ */
+@Experimental
+@Immutable
+public class QueryPlan {
+
+    /**
+     * A step of {@link Query#find()}, in the order of {@link #getStages()}.
+     */
+    public enum Stage {
+        /** Finds objects matching the conditions, following links and ordering results in the database. */
+        DATABASE,
+        /** Applies the {@link QueryBuilder#filter(QueryFilter) filter}. */
+        FILTER,
+        /** Keeps only the first results of a {@link QueryBuilder#topK(java.util.Comparator, int) top-k comparator}. */
+        TOP_K,
+        /** Resolves eager relations, see {@code QueryBuilder.eager()}. */
+        EAGER_RELATIONS,
+        /** Sorts results using the {@link QueryBuilder#sort(java.util.Comparator) comparator}. */
+        SORT
+    }
+
+    /**
+     * How the database gets from the objects of one entity to the related objects of another one.
+     */
+    public enum LinkStrategy {
+        /**
+         * Follows the target ID property of a ToOne. For a backlink, looks up objects using the index of the target
+         * ID property.
+         */
+        TARGET_ID_PROPERTY,
+        /** Looks up the stored relation entries of a ToMany (stand-alone or backlink of a ToMany). */
+        RELATION
+    }
+
+    /**
+     * A {@link QueryBuilder#link(io.objectbox.relation.RelationInfo) link} or
+     * {@link QueryBuilder#backlink(io.objectbox.relation.RelationInfo) backlink} of a query.
+     */
+    @Immutable
+    public static class Link {
+        private final String sourceEntity;
+        private final String targetEntity;
+        private final boolean backlink;
+        private final LinkStrategy strategy;
+        @Nullable private final String targetIdProperty;
+
+        Link(String sourceEntity, String targetEntity, boolean backlink, LinkStrategy strategy,
+             @Nullable String targetIdProperty) {
+            this.sourceEntity = sourceEntity;
+            this.targetEntity = targetEntity;
+            this.backlink = backlink;
+            this.strategy = strategy;
+            this.targetIdProperty = targetIdProperty;
+        }
+
+        /** Name of the entity the link starts at. */
+        public String getSourceEntity() {
+            return sourceEntity;
+        }
+
+        /** Name of the entity that conditions of the link apply to. */
+        public String getTargetEntity() {
+            return targetEntity;
+        }
+
+        /** If the relation is followed in reverse direction. */
+        public boolean isBacklink() {
+            return backlink;
+        }
+
+        public LinkStrategy getStrategy() {
+            return strategy;
+        }
+
+        /** For {@link LinkStrategy#TARGET_ID_PROPERTY}, the name of the property, otherwise null. */
+        @Nullable
+        public String getTargetIdProperty() {
+            return targetIdProperty;
+        }
+
+        @Override
+        public String toString() {
+            return (backlink ? "backlink " : "link ") + sourceEntity + " -> " + targetEntity + " via " + strategy
+                    + (targetIdProperty != null ? " (" + targetIdProperty + ")" : "");
+        }
+    }
+
+    private final String entityName;
+    private final String description;
+    private final String parameters;
+    private final List<Link> links;
+    private final List<Stage> stages;
+    private final boolean scored;
+    private final boolean keysetOrdered;
+
+    QueryPlan(String entityName, String description, String parameters, List<Link> links, List<Stage> stages,
+              boolean scored, boolean keysetOrdered) {
+        this.entityName = entityName;
+        this.description = description;
+        this.parameters = parameters;
+        this.links = Collections.unmodifiableList(links);
+        this.stages = Collections.unmodifiableList(stages);
+        this.scored = scored;
+        this.keysetOrdered = keysetOrdered;
+    }
+
+    /** Name of the entity the query returns. */
+    public String getEntityName() {
+        return entityName;
+    }
+
+    /** Like {@link Query#describe()}. */
+    public String getDescription() {
+        return description;
+    }
+
+    /** Like {@link Query#describeParameters()}. */
+    public String getParameters() {
+        return parameters;
+    }
+
+    /** The links and backlinks of the query (including those of links), in the order they were added. */
+    public List<Link> getLinks() {
+        return links;
+    }
+
+    /** The stages {@link Query#find()} runs, in order. The first one is always {@link Stage#DATABASE}. */
+    public List<Stage> getStages() {
+        return stages;
+    }
+
+    /** If the query has a {@link QueryBuilder#score(QueryScorer) scorer} (only used for the with-scores methods). */
+    public boolean isScored() {
+        return scored;
+    }
+
+    /** If the query has a {@link QueryBuilder#keysetOrder(io.objectbox.Property, SortKeyGetter) keyset order}. */
+    public boolean isKeysetOrdered() {
+        return keysetOrdered;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(description).append('\n');
+        sb.append("Conditions: ").append(parameters).append('\n');
+        for (Link link : links) {
+            sb.append("Link: ").append(link).append('\n');
+        }
+        sb.append("Stages: ").append(stages);
+        if (keysetOrdered) sb.append("\nKeyset ordered");
+        if (scored) sb.append("\nScored");
+        return sb.toString();
+    }
+}
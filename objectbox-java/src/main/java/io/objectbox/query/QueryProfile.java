@@ -0,0 +1,103 @@
+/*
+ * Copyright © 2026 ObjectBox Ltd. <https://objectbox.io>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.objectbox.query;
+
+import java.util.concurrent.TimeUnit;
+
+import io.objectbox.annotation.apihint.Experimental;
+import io.objectbox.query.QueryPlan.Stage;
+
+/**
+ * Timings and counts of running a query once, as returned by {@link Query#profile()}.
+ * <p>
+ * Times are measured with {@link System#nanoTime()}, so for short queries measure multiple runs.
+ */
+@Experimental
+public class QueryProfile {
+
+    private final QueryPlan plan;
+    private final long[] stageNanos = new long[Stage.values().length];
+    private final long[] stageCounts = new long[Stage.values().length];
+    private long totalNanos;
+    private int resultCount;
+
+    QueryProfile(QueryPlan plan) {
+        this.plan = plan;
+    }
+
+    /**
+     * Adds the time since {@code startNanos} and the given count to the stage. Returns the current time to measure
+     * the next stage from.
+     */
+    long record(Stage stage, long startNanos, long count) {
+        long now = System.nanoTime();
+        stageNanos[stage.ordinal()] += now - startNanos;
+        stageCounts[stage.ordinal()] += count;
+        return now;
+    }
+
+    void finish(long totalNanos, int resultCount) {
+        this.totalNanos = totalNanos;
+        this.resultCount = resultCount;
+    }
+
+    /** The plan of the profiled query. */
+    public QueryPlan getPlan() {
+        return plan;
+    }
+
+    /**
+     * Time spent in the given stage. 0 if the query does not have that stage.
+     */
+    public long getNanos(Stage stage) {
+        return stageNanos[stage.ordinal()];
+    }
+
+    /**
+     * Number of objects returned by the given stage, e.g. the number of objects that matched the conditions for
+     * {@link Stage#DATABASE} and the number of objects kept by the filter for {@link Stage#FILTER}.
+     * 0 if the query does not have that stage.
+     */
+    public long getCount(Stage stage) {
+        return stageCounts[stage.ordinal()];
+    }
+
+    /** Time the whole query took, including the transaction. */
+    public long getTotalNanos() {
+        return totalNanos;
+    }
+
+    /** Number of objects the query returned. */
+    public int getResultCount() {
+        return resultCount;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("Query profile: ");
+        sb.append(resultCount).append(" results in ").append(toMicros(totalNanos)).append(" µs");
+        for (Stage stage : plan.getStages()) {
+            sb.append("\n  ").append(stage).append(": ").append(getCount(stage)).append(" objects in ")
+                    .append(toMicros(getNanos(stage))).append(" µs");
+        }
+        return sb.toString();
+    }
+
+    private static long toMicros(long nanos) {
+        return TimeUnit.NANOSECONDS.toMicros(nanos);
+    }
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright © 2026 ObjectBox Ltd. <https://objectbox.io>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.objectbox.query;
+
+/**
+ * Computes the score of a query result, e.g. to combine the distance of a vector search with other property values
+ * of the object.
+ * <p>
+ * Like with the distance of a nearest neighbor search, a lower score ranks a result higher.
+ *
+ * @param <T> The entity
+ * @see QueryBuilder#score(QueryScorer)
+ * @see HybridScorer
+ */
+public interface QueryScorer<T> {
+
+    /**
+     * Returns the score of the given object.
+     *
+     * @param entity The matching object.
+     * @param queryScore The score as determined by the query, e.g. the distance for a nearest neighbor search.
+     */
+    double score(T entity, double queryScore);
+
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright © 2026 ObjectBox Ltd. <https://objectbox.io>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.objectbox.query;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Keeps only the first {@code k} elements of a stream of elements in the order of a comparator, using a bounded heap.
+ * <p>
+ * Elements that do not make it into the first {@code k} are dropped immediately, so at most {@code k + 1} elements
+ * are referenced at any time. Elements that compare equal keep their insertion order.
+ */
+class TopK<E> {
+
+    private static class Entry<E> {
+        final E element;
+        final long sequence;
+
+        Entry(E element, long sequence) {
+            this.element = element;
+            this.sequence = sequence;
+        }
+    }
+
+    private final int k;
+    private final Comparator<Entry<E>> entryComparator;
+    /** Head is the element ranked last, so it is the one to drop once there are more than k elements. */
+    private final PriorityQueue<Entry<E>> heap;
+    private long sequence;
+
+    /**
+     * @param k Maximum number of elements to keep, must be 1 or greater.
+     */
+    TopK(int k, Comparator<? super E> comparator) {
+        if (k < 1) {
+            throw new IllegalArgumentException("k must be 1 or greater, but was " + k);
+        }
+        this.k = k;
+        this.entryComparator = (a, b) -> {
+            int compare = comparator.compare(a.element, b.element);
+            return compare != 0 ? compare : Long.compare(a.sequence, b.sequence);
+        };
+        // Start small: k may be large while only few elements are offered
+        heap = new PriorityQueue<>(Math.min(k + 1, 64), Collections.reverseOrder(entryComparator));
+    }
+
+    /**
+     * Offers the element. Returns false if it did not make it into the first k elements (was dropped).
+     */
+    boolean offer(E element) {
+        Entry<E> entry = new Entry<>(element, sequence++);
+        if (heap.size() >= k) {
+            // Compare with the last ranked element first to avoid heap operations for most elements
+            if (entryComparator.compare(entry, heap.peek()) >= 0) {
+                return false;
+            }
+            heap.poll();
+        }
+        heap.offer(entry);
+        return true;
+    }
+
+    int size() {
+        return heap.size();
+    }
+
+    /**
+     * Returns the kept elements in the order of the comparator, skipping the first {@code offset} elements.
+     */
+    List<E> toSortedList(int offset) {
+        List<Entry<E>> entries = new ArrayList<>(heap);
+        Collections.sort(entries, entryComparator);
+        int size = Math.max(0, entries.size() - offset);
+        List<E> result = new ArrayList<>(size);
+        for (int i = offset; i < entries.size(); i++) {
+            result.add(entries.get(i).element);
+        }
+        return result;
+    }
+
+}
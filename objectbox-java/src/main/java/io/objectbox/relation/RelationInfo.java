@@ -18,11 +18,13 @@ package io.objectbox.relation;
 
 import java.io.Serializable;
 
+import javax.annotation.Nullable;
 import javax.annotation.concurrent.Immutable;
 
 import io.objectbox.EntityInfo;
 import io.objectbox.Property;
 import io.objectbox.annotation.apihint.Internal;
+import io.objectbox.internal.TargetIdAccessor;
 import io.objectbox.internal.ToManyGetter;
 import io.objectbox.internal.ToOneGetter;
 import io.objectbox.query.QueryCondition;
@@ -48,6 +50,9 @@ public class RelationInfo<SOURCE, TARGET> implements Serializable {
     /** Only set for ToOne relations */
     public final ToOneGetter<SOURCE, TARGET> toOneGetter;
 
+    /** Optional for ToOne relations with a non-virtual target ID property (null otherwise). */
+    public final TargetIdAccessor<SOURCE> targetIdAccessor;
+
     /** Only set for ToMany relations */
     public final ToManyGetter<SOURCE, TARGET> toManyGetter;
 
@@ -65,10 +70,19 @@ public class RelationInfo<SOURCE, TARGET> implements Serializable {
      */
     public RelationInfo(EntityInfo<SOURCE> sourceInfo, EntityInfo<TARGET> targetInfo, Property<SOURCE> targetIdProperty,
                         ToOneGetter<SOURCE, TARGET> toOneGetter) {
+        this(sourceInfo, targetInfo, targetIdProperty, toOneGetter, null);
+    }
+
+    /**
+     * ToOne with an accessor for its target ID property to avoid reflection.
+     */
+    public RelationInfo(EntityInfo<SOURCE> sourceInfo, EntityInfo<TARGET> targetInfo, Property<SOURCE> targetIdProperty,
+                        ToOneGetter<SOURCE, TARGET> toOneGetter, @Nullable TargetIdAccessor<SOURCE> targetIdAccessor) {
         this.sourceInfo = sourceInfo;
         this.targetInfo = targetInfo;
         this.targetIdProperty = targetIdProperty;
         this.toOneGetter = toOneGetter;
+        this.targetIdAccessor = targetIdAccessor;
         this.targetRelationId = 0;
         this.backlinkToOneGetter = null;
         this.backlinkToManyGetter = null;
@@ -88,6 +102,7 @@ public class RelationInfo<SOURCE, TARGET> implements Serializable {
         this.backlinkToOneGetter = backlinkToOneGetter;
         this.targetRelationId = 0;
         this.toOneGetter = null;
+        this.targetIdAccessor = null;
         this.backlinkToManyGetter = null;
         this.relationId = 0;
     }
@@ -104,6 +119,7 @@ public class RelationInfo<SOURCE, TARGET> implements Serializable {
         this.backlinkToManyGetter = backlinkToManyGetter;
         this.targetIdProperty = null;
         this.toOneGetter = null;
+        this.targetIdAccessor = null;
         this.backlinkToOneGetter = null;
         this.relationId = 0;
     }
@@ -120,6 +136,7 @@ public class RelationInfo<SOURCE, TARGET> implements Serializable {
         this.targetRelationId = 0;
         this.targetIdProperty = null;
         this.toOneGetter = null;
+        this.targetIdAccessor = null;
         this.backlinkToOneGetter = null;
         this.backlinkToManyGetter = null;
     }
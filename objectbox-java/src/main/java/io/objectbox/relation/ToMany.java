@@ -16,7 +16,6 @@
 package io.objectbox.relation;
 
 import java.io.Serializable;
-import java.lang.reflect.Field;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -42,7 +41,6 @@ import io.objectbox.annotation.apihint.Experimental;
 import io.objectbox.annotation.apihint.Internal;
 import io.objectbox.exception.DbDetachedException;
 import io.objectbox.internal.IdGetter;
-import io.objectbox.internal.ReflectionCache;
 import io.objectbox.internal.ToManyGetter;
 import io.objectbox.internal.ToOneGetter;
 import io.objectbox.query.QueryBuilder;
@@ -188,15 +186,10 @@ public class ToMany<TARGET> implements List<TARGET>, Serializable {
 
     private void ensureBoxes() {
         if (targetBox == null) {
-            Field boxStoreField = ReflectionCache.getInstance().getField(entity.getClass(), "__boxStore");
-            try {
-                boxStore = (BoxStore) boxStoreField.get(entity);
-                if (boxStore == null) {
-                    throw new DbDetachedException("Cannot resolve relation for detached objects, " +
-                            "call box.attach(object) beforehand.");
-                }
-            } catch (IllegalAccessException e) {
-                throw new RuntimeException(e);
+            boxStore = ToOne.getBoxStore(relationInfo.sourceInfo, entity);
+            if (boxStore == null) {
+                throw new DbDetachedException("Cannot resolve relation for detached objects, " +
+                        "call box.attach(object) beforehand.");
             }
             entityBox = boxStore.boxFor(relationInfo.sourceInfo.getEntityClass());
             targetBox = boxStore.boxFor(relationInfo.targetInfo.getEntityClass());
@@ -24,11 +24,14 @@ import javax.annotation.Nullable;
 import io.objectbox.Box;
 import io.objectbox.BoxStore;
 import io.objectbox.Cursor;
+import io.objectbox.EntityInfo;
 import io.objectbox.annotation.Backlink;
 import io.objectbox.annotation.Entity;
 import io.objectbox.annotation.apihint.Internal;
 import io.objectbox.exception.DbDetachedException;
+import io.objectbox.internal.BoxStoreAccessor;
 import io.objectbox.internal.ReflectionCache;
+import io.objectbox.internal.TargetIdAccessor;
 
 /**
  * A to-one relation of an entity that references one object of a {@link TARGET} entity.
@@ -155,28 +158,40 @@ public class ToOne<TARGET> implements Serializable {
     private void ensureBoxes(@Nullable TARGET target) {
         // Only check the property set last
         if (targetBox == null) {
-            Field boxStoreField = ReflectionCache.getInstance().getField(entity.getClass(), "__boxStore");
-            try {
-                boxStore = (BoxStore) boxStoreField.get(entity);
+            boxStore = getBoxStore(relationInfo.sourceInfo, entity);
+            if (boxStore == null) {
+                if (target != null) {
+                    boxStore = getBoxStore(relationInfo.targetInfo, target);
+                }
                 if (boxStore == null) {
-                    if (target != null) {
-                        boxStoreField = ReflectionCache.getInstance().getField(target.getClass(), "__boxStore");
-                        boxStore = (BoxStore) boxStoreField.get(target);
-                    }
-                    if (boxStore == null) {
-                        throw new DbDetachedException("Cannot resolve relation for detached entities, " +
-                                "call box.attach(entity) beforehand.");
-                    }
+                    throw new DbDetachedException("Cannot resolve relation for detached entities, " +
+                            "call box.attach(entity) beforehand.");
                 }
-                debugRelations = boxStore.isDebugRelations();
-            } catch (IllegalAccessException e) {
-                throw new RuntimeException(e);
             }
+            debugRelations = boxStore.isDebugRelations();
             entityBox = boxStore.boxFor(relationInfo.sourceInfo.getEntityClass());
             targetBox = boxStore.boxFor(relationInfo.targetInfo.getEntityClass());
         }
     }
 
+    /**
+     * Returns the value of the {@code __boxStore} field of the given object. Uses the generated accessor of its
+     * EntityInfo, if available, or reflection.
+     */
+    @SuppressWarnings("unchecked")
+    @Nullable
+    static <T> BoxStore getBoxStore(EntityInfo<T> entityInfo, Object entity) {
+        if (entityInfo instanceof BoxStoreAccessor) {
+            return ((BoxStoreAccessor<T>) entityInfo).getBoxStore((T) entity);
+        }
+        Field boxStoreField = ReflectionCache.getInstance().getField(entity.getClass(), "__boxStore");
+        try {
+            return (BoxStore) boxStoreField.get(entity);
+        } catch (IllegalAccessException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
     public TARGET getCachedTarget() {
         return target;
     }
@@ -203,8 +218,11 @@ public class ToOne<TARGET> implements Serializable {
      * @see #setTarget
      */
     public void setTargetId(long targetId) {
+        TargetIdAccessor<Object> targetIdAccessor = relationInfo.targetIdAccessor;
         if (virtualProperty) {
             this.targetId = targetId;
+        } else if (targetIdAccessor != null) {
+            targetIdAccessor.setTargetId(entity, targetId);
         } else {
             try {
                 getTargetIdField().set(entity, targetId);
@@ -311,10 +329,13 @@ public class ToOne<TARGET> implements Serializable {
     }
 
     public long getTargetId() {
+        TargetIdAccessor<Object> targetIdAccessor = relationInfo.targetIdAccessor;
         if (virtualProperty) {
             return targetId;
+        } else if (targetIdAccessor != null) {
+            return targetIdAccessor.getTargetId(entity);
         } else {
-            // Future alternative: Implemented by generated ToOne sub classes to avoid reflection
+            // Fallback if there is no generated accessor
             Field keyField = getTargetIdField();
             try {
                 Long key = (Long) keyField.get(entity);
@@ -0,0 +1,27 @@
+/*
+ * Copyright © 2026 ObjectBox Ltd. <https://objectbox.io>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.objectbox.shard;
+
+/**
+ * Returns the key of an object that decides in which shard of a {@link ShardedBoxStore} it is stored, e.g.
+ * {@code order -> order.getTenantId()}. Objects with the same key are always stored in the same shard.
+ *
+ * @param <T> The entity
+ */
+public interface ShardKeyGetter<T> {
+    long getShardKey(T entity);
+}
@@ -0,0 +1,216 @@
+/*
+ * Copyright © 2026 ObjectBox Ltd. <https://objectbox.io>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.objectbox.shard;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+
+import io.objectbox.Box;
+import io.objectbox.Property;
+import io.objectbox.annotation.apihint.Experimental;
+import io.objectbox.query.Query;
+import io.objectbox.query.QueryBuilder;
+import io.objectbox.query.QueryCondition;
+
+/**
+ * A box of a {@link ShardedBoxStore}: puts objects into the shard selected by their shard key and runs reads and
+ * queries on all shards in parallel.
+ * <p>
+ * Object IDs are only unique within a shard. To get or remove an object by ID, use the {@link Box} of its shard, see
+ * {@link #getShardBoxForKey(long)}.
+ */
+@Experimental
+@ThreadSafe
+public final class ShardedBox<T> {
+
+    private final ShardedBoxStore store;
+    private final ShardKeyGetter<T> shardKeyGetter;
+    private final List<Box<T>> shardBoxes;
+
+    ShardedBox(ShardedBoxStore store, Class<T> entityClass, ShardKeyGetter<T> shardKeyGetter) {
+        this.store = store;
+        this.shardKeyGetter = shardKeyGetter;
+        int shardCount = store.getShardCount();
+        shardBoxes = new ArrayList<>(shardCount);
+        for (int i = 0; i < shardCount; i++) {
+            shardBoxes.add(store.getShard(i).boxFor(entityClass));
+        }
+    }
+
+    public ShardedBoxStore getStore() {
+        return store;
+    }
+
+    /**
+     * Returns the index of the shard the given object is stored in.
+     */
+    public int getShardIndex(T entity) {
+        return store.getShardIndex(shardKeyGetter.getShardKey(entity));
+    }
+
+    /**
+     * Returns the box of the shard with the given index.
+     */
+    public Box<T> getShardBox(int shardIndex) {
+        return shardBoxes.get(shardIndex);
+    }
+
+    /**
+     * Returns the box of the shard for the given shard key.
+     */
+    public Box<T> getShardBoxForKey(long shardKey) {
+        return shardBoxes.get(store.getShardIndex(shardKey));
+    }
+
+    /**
+     * Puts the given object into its shard, see {@link Box#put(Object)}.
+     *
+     * @return The ID of the object within its shard.
+     */
+    public long put(T entity) {
+        return shardBoxes.get(getShardIndex(entity)).put(entity);
+    }
+
+    /**
+     * Puts the given objects into their shards. Uses a single transaction per shard, and puts into different shards in
+     * parallel.
+     * <p>
+     * Note that if putting into one shard fails, the objects of other shards may have been put.
+     */
+    public void put(@Nullable Collection<T> entities) {
+        if (entities == null || entities.isEmpty()) {
+            return;
+        }
+        int shardCount = store.getShardCount();
+        List<List<T>> entitiesByShard = new ArrayList<>(shardCount);
+        for (int i = 0; i < shardCount; i++) {
+            entitiesByShard.add(null);
+        }
+        int usedShards = 0;
+        for (T entity : entities) {
+            int shardIndex = getShardIndex(entity);
+            List<T> shardEntities = entitiesByShard.get(shardIndex);
+            if (shardEntities == null) {
+                shardEntities = new ArrayList<>();
+                entitiesByShard.set(shardIndex, shardEntities);
+                usedShards++;
+            }
+            shardEntities.add(entity);
+        }
+
+        int[] shardIndexes = new int[usedShards];
+        int next = 0;
+        for (int i = 0; i < shardCount; i++) {
+            if (entitiesByShard.get(i) != null) {
+                shardIndexes[next++] = i;
+            }
+        }
+        store.forShards(shardIndexes, (shardIndex, shard) -> {
+            shardBoxes.get(shardIndex).put(entitiesByShard.get(shardIndex));
+            return null;
+        });
+    }
+
+    /**
+     * Removes the given object from its shard.
+     *
+     * @return true if the object was removed.
+     */
+    public boolean remove(T entity) {
+        Box<T> box = shardBoxes.get(getShardIndex(entity));
+        return box.remove(box.getId(entity));
+    }
+
+    /**
+     * Returns the number of objects in all shards.
+     */
+    public long count() {
+        long count = 0;
+        for (Long shardCount : store.forEachShard((shardIndex, shard) -> shardBoxes.get(shardIndex).count())) {
+            count += shardCount;
+        }
+        return count;
+    }
+
+    /**
+     * Returns all objects of all shards, ordered by shard index.
+     */
+    public List<T> getAll() {
+        List<T> all = new ArrayList<>();
+        for (List<T> shardObjects : store.forEachShard((shardIndex, shard) -> shardBoxes.get(shardIndex).getAll())) {
+            all.addAll(shardObjects);
+        }
+        return all;
+    }
+
+    /**
+     * Removes all objects of all shards.
+     */
+    public void removeAll() {
+        store.forEachShard((shardIndex, shard) -> {
+            shardBoxes.get(shardIndex).removeAll();
+            return null;
+        });
+    }
+
+    /**
+     * Builds a query with the given condition for each shard. Results are combined in shard order.
+     * <p>
+     * Close the returned query when no longer needed.
+     */
+    public ShardedQuery<T> query(QueryCondition<T> queryCondition) {
+        return buildQuery(queryCondition, null, 0, null);
+    }
+
+    /**
+     * Builds a query with the given condition for each shard, ordered by the given property (see
+     * {@link QueryBuilder#order(Property, int)}). The results of the shards are merged using the given comparator,
+     * which must order objects like the property order does.
+     * <p>
+     * Close the returned query when no longer needed.
+     */
+    public ShardedQuery<T> query(QueryCondition<T> queryCondition, Property<T> orderProperty, int orderFlags,
+                                 Comparator<? super T> comparator) {
+        return buildQuery(queryCondition, orderProperty, orderFlags, comparator);
+    }
+
+    private ShardedQuery<T> buildQuery(QueryCondition<T> queryCondition, @Nullable Property<T> orderProperty,
+                                       int orderFlags, @Nullable Comparator<? super T> comparator) {
+        List<Query<T>> queries = new ArrayList<>(shardBoxes.size());
+        try {
+            for (Box<T> box : shardBoxes) {
+                QueryBuilder<T> builder = box.query(queryCondition);
+                if (orderProperty != null) {
+                    builder.order(orderProperty, orderFlags);
+                }
+                queries.add(builder.build());
+            }
+        } catch (RuntimeException e) {
+            for (Query<T> query : queries) {
+                query.close();
+            }
+            throw e;
+        }
+        return new ShardedQuery<>(store, queries, comparator);
+    }
+
+}
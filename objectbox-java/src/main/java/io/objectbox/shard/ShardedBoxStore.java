@@ -0,0 +1,256 @@
+/*
+ * Copyright © 2026 ObjectBox Ltd. <https://objectbox.io>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.objectbox.shard;
+
+import java.io.Closeable;
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+import io.objectbox.BoxStore;
+import io.objectbox.BoxStoreBuilder;
+import io.objectbox.InternalAccess;
+import io.objectbox.annotation.apihint.Experimental;
+import io.objectbox.exception.DbException;
+
+/**
+ * Distributes objects over multiple {@link BoxStore} instances (shards) that share the same model.
+ * <p>
+ * A store allows only one write transaction at a time. With shards, writes to different shards run in parallel, e.g.
+ * to scale writes of a multi-tenant service with the number of CPU cores. Objects are assigned to a shard using a
+ * {@link ShardKeyGetter}, e.g. using the tenant ID, see {@link #boxFor(Class, ShardKeyGetter)}.
+ * <p>
+ * Note that each shard assigns object IDs on its own, so IDs are only unique within a shard. Also relations only work
+ * between objects of the same shard.
+ */
+@Experimental
+@ThreadSafe
+public final class ShardedBoxStore implements Closeable {
+
+    /**
+     * Interface for {@link #forEachShard(ShardFunction)}.
+     */
+    public interface ShardFunction<R> {
+        R apply(int shardIndex, BoxStore shard) throws Exception;
+    }
+
+    /**
+     * Opens a sharded store with the given number of shards. Each shard uses a copy of the given builder, with
+     * {@code /shard-<index>} appended to its directory, name or in-memory identifier. So the builder must have set one
+     * of these, e.g. using {@link BoxStoreBuilder#directory(File)}.
+     * <p>
+     * If opening a shard fails, already opened shards are closed.
+     */
+    public static ShardedBoxStore create(BoxStoreBuilder storeBuilder, int shardCount) {
+        if (shardCount < 1) {
+            throw new IllegalArgumentException("Shard count must be 1 or greater but was " + shardCount);
+        }
+        BoxStore[] shards = new BoxStore[shardCount];
+        try {
+            for (int i = 0; i < shardCount; i++) {
+                shards[i] = InternalAccess.clone(storeBuilder, File.separator + "shard-" + i).build();
+            }
+        } catch (RuntimeException e) {
+            for (BoxStore shard : shards) {
+                if (shard != null) shard.close();
+            }
+            throw e;
+        }
+        return new ShardedBoxStore(shards);
+    }
+
+    private final BoxStore[] shards;
+
+    private ShardedBoxStore(BoxStore[] shards) {
+        this.shards = shards;
+    }
+
+    public int getShardCount() {
+        return shards.length;
+    }
+
+    /**
+     * Returns the store of the shard with the given index, from 0 to {@link #getShardCount()} - 1.
+     */
+    public BoxStore getShard(int shardIndex) {
+        return shards[shardIndex];
+    }
+
+    /**
+     * Returns the stores of all shards, ordered by shard index.
+     */
+    public List<BoxStore> getShards() {
+        return Collections.unmodifiableList(Arrays.asList(shards));
+    }
+
+    /**
+     * Returns the index of the shard for the given shard key. Keys are spread evenly across shards, also if they are
+     * sequential.
+     */
+    public int getShardIndex(long shardKey) {
+        // Fibonacci hashing: the high 32 bits of the product depend on all bits of the key;
+        // map them to [0, shard count) using a multiply and shift instead of a modulo.
+        long hash = (shardKey * 0x9E3779B97F4A7C15L) >>> 32;
+        return (int) ((hash * shards.length) >>> 32);
+    }
+
+    /**
+     * Returns the store of the shard for the given shard key.
+     */
+    public BoxStore getShardForKey(long shardKey) {
+        return shards[getShardIndex(shardKey)];
+    }
+
+    /**
+     * Returns a box that assigns objects to shards using the given shard key getter.
+     */
+    public <T> ShardedBox<T> boxFor(Class<T> entityClass, ShardKeyGetter<T> shardKeyGetter) {
+        return new ShardedBox<>(this, entityClass, shardKeyGetter);
+    }
+
+    /**
+     * Runs the given function for all shards in parallel, each on a thread of the shard's thread pool. Waits until all
+     * have completed and returns their results ordered by shard index.
+     * <p>
+     * If a function throws, rethrows its exception (if it is a RuntimeException or Error) or a {@link DbException}
+     * after all have completed.
+     */
+    public <R> List<R> forEachShard(ShardFunction<R> function) {
+        int[] shardIndexes = new int[shards.length];
+        for (int i = 0; i < shardIndexes.length; i++) {
+            shardIndexes[i] = i;
+        }
+        return forShards(shardIndexes, function);
+    }
+
+    /**
+     * Like {@link #forEachShard(ShardFunction)}, but only for the shards with the given indexes. If there is only a
+     * single shard, runs the function on the calling thread.
+     */
+    <R> List<R> forShards(int[] shardIndexes, ShardFunction<R> function) {
+        if (shardIndexes.length == 1) {
+            int shardIndex = shardIndexes[0];
+            try {
+                return Collections.singletonList(function.apply(shardIndex, shards[shardIndex]));
+            } catch (RuntimeException e) {
+                throw e;
+            } catch (Exception e) {
+                throw new DbException("Failed to run function for shard " + shardIndex, e);
+            }
+        }
+
+        List<Future<R>> futures = new ArrayList<>(shardIndexes.length);
+        for (int shardIndex : shardIndexes) {
+            BoxStore shard = shards[shardIndex];
+            futures.add(InternalAccess.submit(shard, () -> function.apply(shardIndex, shard)));
+        }
+
+        List<R> results = new ArrayList<>(shardIndexes.length);
+        Throwable failure = null;
+        boolean interrupted = false;
+        for (int i = 0; i < futures.size(); i++) {
+            Future<R> future = futures.get(i);
+            R result = null;
+            // Always wait for all, so no function is still running on return
+            while (true) {
+                try {
+                    result = future.get();
+                    break;
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                } catch (ExecutionException e) {
+                    if (failure == null) {
+                        failure = e.getCause() != null ? e.getCause() : e;
+                    }
+                    break;
+                }
+            }
+            results.add(result);
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+        if (failure instanceof RuntimeException) {
+            throw (RuntimeException) failure;
+        } else if (failure instanceof Error) {
+            throw (Error) failure;
+        } else if (failure != null) {
+            throw new DbException("Failed to run function for shards", failure);
+        }
+        return results;
+    }
+
+    /**
+     * Returns the sum of {@link BoxStore#getDbSize()} of all shards.
+     */
+    public long getDbSize() {
+        long size = 0;
+        for (BoxStore shard : shards) {
+            size += shard.getDbSize();
+        }
+        return size;
+    }
+
+    /**
+     * Returns the sum of {@link BoxStore#getDbSizeOnDisk()} of all shards.
+     */
+    public long getDbSizeOnDisk() {
+        long size = 0;
+        for (BoxStore shard : shards) {
+            size += shard.getDbSizeOnDisk();
+        }
+        return size;
+    }
+
+    /**
+     * Returns {@link BoxStore#diagnose()} of all shards, each headed by its shard index.
+     */
+    public String diagnose() {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < shards.length; i++) {
+            builder.append("Shard ").append(i).append(":\n").append(shards[i].diagnose()).append('\n');
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Returns true if all shards are closed.
+     */
+    public boolean isClosed() {
+        for (BoxStore shard : shards) {
+            if (!shard.isClosed()) return false;
+        }
+        return true;
+    }
+
+    /**
+     * Closes all shards, see {@link BoxStore#close()}.
+     */
+    @Override
+    public void close() {
+        for (BoxStore shard : shards) {
+            shard.close();
+        }
+    }
+
+}
@@ -0,0 +1,175 @@
+/*
+ * Copyright © 2026 ObjectBox Ltd. <https://objectbox.io>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.objectbox.shard;
+
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+import javax.annotation.Nullable;
+
+import io.objectbox.annotation.apihint.Experimental;
+import io.objectbox.query.Query;
+
+/**
+ * A query of a {@link ShardedBox}: runs a {@link Query} on each shard in parallel and combines the results.
+ * <p>
+ * If the query has an order, the ordered results of the shards are merged. Otherwise, results are combined in shard
+ * order.
+ * <p>
+ * To set parameters, set them on each query of {@link #getShardQueries()}.
+ */
+@Experimental
+public final class ShardedQuery<T> implements Closeable {
+
+    private final ShardedBoxStore store;
+    private final List<Query<T>> queries;
+    @Nullable private final Comparator<? super T> comparator;
+
+    ShardedQuery(ShardedBoxStore store, List<Query<T>> queries, @Nullable Comparator<? super T> comparator) {
+        this.store = store;
+        this.queries = queries;
+        this.comparator = comparator;
+    }
+
+    /**
+     * Returns the queries of all shards, ordered by shard index.
+     */
+    public List<Query<T>> getShardQueries() {
+        return Collections.unmodifiableList(queries);
+    }
+
+    /**
+     * Finds objects matching the query in all shards.
+     */
+    public List<T> find() {
+        return find(0, 0);
+    }
+
+    /**
+     * Like {@link #find()}, but skips and limits the combined results.
+     *
+     * @param offset If greater than 0, skips this many results.
+     * @param limit If greater than 0, returns at most this many results.
+     */
+    public List<T> find(long offset, long limit) {
+        // Each shard may have to return all skipped results
+        // Treat a limit beyond the maximum of offset + limit like no limit, do not overflow
+        long shardLimit = limit > 0 && limit <= Long.MAX_VALUE - offset ? offset + limit : 0;
+        List<List<T>> shardResults = store.forEachShard(
+                (shardIndex, shard) -> queries.get(shardIndex).find(0, shardLimit));
+        List<T> results = comparator != null ? merge(shardResults, comparator) : concat(shardResults);
+
+        int size = results.size();
+        int from = (int) Math.min(offset, size);
+        int to = limit > 0 && limit < size - from ? (int) (from + limit) : size;
+        if (from == 0 && to == size) {
+            return results;
+        }
+        return new ArrayList<>(results.subList(from, to));
+    }
+
+    /**
+     * Finds the first object matching the query, or null if there is none. If the query has an order, this is the
+     * first in that order across all shards, otherwise the first of the first shard with results.
+     */
+    @Nullable
+    public T findFirst() {
+        List<T> results = find(0, 1);
+        return results.isEmpty() ? null : results.get(0);
+    }
+
+    /**
+     * Returns the number of objects matching the query in all shards.
+     */
+    public long count() {
+        long count = 0;
+        for (Long shardCount : store.forEachShard((shardIndex, shard) -> queries.get(shardIndex).count())) {
+            count += shardCount;
+        }
+        return count;
+    }
+
+    /**
+     * Removes all objects matching the query in all shards.
+     *
+     * @return The number of removed objects.
+     */
+    public long remove() {
+        long count = 0;
+        for (Long shardCount : store.forEachShard((shardIndex, shard) -> queries.get(shardIndex).remove())) {
+            count += shardCount;
+        }
+        return count;
+    }
+
+    /**
+     * Closes the queries of all shards.
+     */
+    @Override
+    public void close() {
+        for (Query<T> query : queries) {
+            query.close();
+        }
+    }
+
+    private static <T> List<T> concat(List<List<T>> lists) {
+        int size = 0;
+        for (List<T> list : lists) {
+            size += list.size();
+        }
+        List<T> results = new ArrayList<>(size);
+        for (List<T> list : lists) {
+            results.addAll(list);
+        }
+        return results;
+    }
+
+    /**
+     * Merges the given lists, each ordered by the given comparator. For equal objects, keeps the shard order.
+     */
+    static <T> List<T> merge(List<List<T>> lists, Comparator<? super T> comparator) {
+        int size = 0;
+        for (List<T> list : lists) {
+            size += list.size();
+        }
+        List<T> results = new ArrayList<>(size);
+        PriorityQueue<int[]> heads = new PriorityQueue<>(Math.max(1, lists.size()), (a, b) -> {
+            int result = comparator.compare(lists.get(a[0]).get(a[1]), lists.get(b[0]).get(b[1]));
+            return result != 0 ? result : Integer.compare(a[0], b[0]);
+        });
+        for (int i = 0; i < lists.size(); i++) {
+            if (!lists.get(i).isEmpty()) {
+                heads.add(new int[]{i, 0});
+            }
+        }
+        while (!heads.isEmpty()) {
+            // Element 0 is the list index, element 1 the index within the list
+            int[] head = heads.poll();
+            List<T> list = lists.get(head[0]);
+            results.add(list.get(head[1]));
+            if (++head[1] < list.size()) {
+                heads.add(head);
+            }
+        }
+        return results;
+    }
+
+}
@@ -17,6 +17,12 @@
 package io.objectbox.sync;
 
 /**
+ * Builds an objects message to send custom strings or bytes to the sync server.
+ * <p>
+ * Note: added values are passed to the native sync client as they are. This API does not compress them, and the sync
+ * protocol has no way to tell the server a payload is compressed, so a receiver would have to know about it. Whether
+ * and how sync traffic is compressed on the wire is decided by the native sync client and server.
+ *
  * @see SyncClient#startObjectsMessage
  */
 public interface ObjectsMessageBuilder {
@@ -18,15 +18,18 @@ package io.objectbox.sync;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.TreeMap;
+import java.util.concurrent.Executor;
 
 import javax.annotation.Nullable;
 
 import io.objectbox.BoxStore;
 import io.objectbox.exception.FeatureNotAvailableException;
 import io.objectbox.sync.internal.Platform;
+import io.objectbox.sync.listener.CoalescingSyncChangeListener;
 import io.objectbox.sync.listener.SyncChangeListener;
 import io.objectbox.sync.listener.SyncCompletedListener;
 import io.objectbox.sync.listener.SyncConnectionListener;
@@ -48,6 +51,11 @@ public final class SyncBuilder {
     @Nullable SyncLoginListener loginListener;
     @Nullable SyncCompletedListener completedListener;
     @Nullable SyncChangeListener changeListener;
+    /** If changes for the change listener are merged, see {@link CoalescingSyncChangeListener}. */
+    boolean coalesceChanges;
+    long coalesceMaxDelayMillis;
+    int coalesceMaxIds;
+    @Nullable Executor coalesceExecutor;
     @Nullable SyncConnectionListener connectionListener;
     @Nullable SyncTimeListener timeListener;
     @Nullable SyncListener listener;
@@ -60,6 +68,7 @@ public final class SyncBuilder {
     RequestUpdatesMode requestUpdatesMode = RequestUpdatesMode.AUTO;
     // To be helpful when debugging, use a TreeMap so variables are eventually passed ordered by name to the native API
     final Map<String, String> filterVariables = new TreeMap<>();
+    final Map<Integer, Integer> changeListenerOrders = new HashMap<>();
 
     public enum RequestUpdatesMode {
         /**
@@ -232,6 +241,28 @@ public final class SyncBuilder {
         return this;
     }
 
+    /**
+     * Sets the order value of a {@link io.objectbox.annotation.Sync Sync}-enabled entity type, the default is 0.
+     * <p>
+     * Changes passed to the {@link #changeListener(SyncChangeListener) change listener} are sorted by this value,
+     * highest first, so e.g. the app can handle changes of critical types before those of bulk data like telemetry.
+     * <p>
+     * Note: this only orders the changes passed to the change listener. It does not change in which order the server
+     * sends or the client applies changes, those are already applied to the store when the listener is called.
+     *
+     * @throws io.objectbox.exception.DbSchemaException if the class is not an entity of the associated store.
+     */
+    public SyncBuilder changeListenerOrder(Class<?> entityClass, int order) {
+        checkNotNull(entityClass, "entityClass");
+        int entityTypeId = boxStore.getEntityTypeIdOrThrow(entityClass);
+        if (order == 0) {
+            changeListenerOrders.remove(entityTypeId);
+        } else {
+            changeListenerOrders.put(entityTypeId, order);
+        }
+        return this;
+    }
+
     /**
      * Sets a listener to only observe Sync login events.
      * <p>
@@ -262,6 +293,42 @@ public final class SyncBuilder {
      */
     public SyncBuilder changeListener(SyncChangeListener changeListener) {
         this.changeListener = changeListener;
+        this.coalesceChanges = false;
+        return this;
+    }
+
+    /**
+     * Like {@link #changeListener(SyncChangeListener)}, but merges changes of multiple sync transactions before
+     * passing them on, see {@link CoalescingSyncChangeListener}. Merged changes are delivered on a background thread.
+     * <p>
+     * Use this to get fewer, larger change notifications, e.g. during the initial sync of many objects. Merged changes
+     * are ordered by {@link #changeListenerOrder(Class, int)}.
+     *
+     * @param maxDelayMillis The maximum time to hold back changes.
+     * @param maxIds Deliver changes right away once they contain at least this many IDs.
+     */
+    public SyncBuilder changeListener(SyncChangeListener changeListener, long maxDelayMillis, int maxIds) {
+        return changeListener(changeListener, maxDelayMillis, maxIds, null);
+    }
+
+    /**
+     * Like {@link #changeListener(SyncChangeListener, long, int)}, but delivers merged changes using the given
+     * executor. Use a single-threaded executor to keep the order of changes.
+     */
+    public SyncBuilder changeListener(SyncChangeListener changeListener, long maxDelayMillis, int maxIds,
+                                      @Nullable Executor executor) {
+        if (maxDelayMillis < 0) {
+            throw new IllegalArgumentException("maxDelayMillis must be 0 or greater");
+        }
+        if (maxIds < 1) {
+            throw new IllegalArgumentException("maxIds must be 1 or greater");
+        }
+        // The Sync client creates the CoalescingSyncChangeListener, so it can order merged changes
+        this.changeListener = changeListener;
+        this.coalesceChanges = true;
+        this.coalesceMaxDelayMillis = maxDelayMillis;
+        this.coalesceMaxIds = maxIds;
+        this.coalesceExecutor = executor;
         return this;
     }
 
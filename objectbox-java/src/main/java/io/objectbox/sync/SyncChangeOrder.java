@@ -0,0 +1,74 @@
+/*
+ * Copyright © 2026 ObjectBox Ltd. <https://objectbox.io>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.objectbox.sync;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.annotation.concurrent.Immutable;
+
+import io.objectbox.sync.listener.SyncChangeListener;
+
+/**
+ * Order values of entity types set with {@link SyncBuilder#changeListenerOrder(Class, int)}, used to order the
+ * {@link SyncChange}s passed to a {@link SyncChangeListener}. This only changes the order of listener callbacks, the
+ * changes are already applied to the store at that point.
+ */
+@Immutable
+final class SyncChangeOrder {
+
+    private final Map<Integer, Integer> orderByEntityTypeId;
+
+    SyncChangeOrder(Map<Integer, Integer> orderByEntityTypeId) {
+        this.orderByEntityTypeId = Collections.unmodifiableMap(new HashMap<>(orderByEntityTypeId));
+    }
+
+    boolean isEmpty() {
+        return orderByEntityTypeId.isEmpty();
+    }
+
+    /**
+     * Returns the order value of the given entity type, 0 if none was set.
+     */
+    int getOrder(int entityTypeId) {
+        Integer order = orderByEntityTypeId.get(entityTypeId);
+        return order != null ? order : 0;
+    }
+
+    /**
+     * Sorts the given changes by order value, highest first. Changes with the same order value keep their order.
+     */
+    void sort(SyncChange[] syncChanges) {
+        if (syncChanges.length < 2 || isEmpty()) return;
+        Arrays.sort(syncChanges, (a, b) -> Integer.compare(
+                getOrder(b.getEntityTypeId()), getOrder(a.getEntityTypeId())));
+    }
+
+    /**
+     * Returns a listener that sorts changes by order value, then forwards them to the given listener.
+     * Returns the given listener if no order values are set.
+     */
+    SyncChangeListener orderingChangeListener(SyncChangeListener listener) {
+        if (isEmpty()) return listener;
+        return syncChanges -> {
+            sort(syncChanges);
+            listener.onSyncChanges(syncChanges);
+        };
+    }
+}
@@ -101,6 +101,19 @@ public interface SyncClient extends Closeable {
      */
     long getRoundtripTimeNanos();
 
+    /**
+     * Returns a snapshot of statistics of this client, like login, disconnect and incoming change counts.
+     * Poll this periodically, e.g. to log it or to report it to monitoring.
+     *
+     * @return The statistics, or null if this client does not record statistics. The sync client returned by
+     * {@link SyncBuilder#build()} always does.
+     */
+    @Experimental
+    @Nullable
+    default SyncStats getStats() {
+        return null;
+    }
+
     /**
      * Sets a listener to observe login events. Replaces a previously set listener.
      * Set to {@code null} to remove the listener.
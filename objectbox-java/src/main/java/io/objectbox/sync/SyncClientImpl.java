@@ -28,6 +28,7 @@ import io.objectbox.InternalAccess;
 import io.objectbox.annotation.apihint.Experimental;
 import io.objectbox.annotation.apihint.Internal;
 import io.objectbox.sync.SyncBuilder.RequestUpdatesMode;
+import io.objectbox.sync.listener.CoalescingSyncChangeListener;
 import io.objectbox.sync.listener.SyncChangeListener;
 import io.objectbox.sync.listener.SyncCompletedListener;
 import io.objectbox.sync.listener.SyncConnectionListener;
@@ -46,8 +47,13 @@ public final class SyncClientImpl implements SyncClient {
     private BoxStore boxStore;
     private final List<String> urls;
     private final InternalSyncClientListener internalListener;
+    private final SyncStatsRecorder statsRecorder = new SyncStatsRecorder();
     @Nullable
     private final ConnectivityMonitor connectivityMonitor;
+    /** Created by the builder, so closed by this. */
+    @Nullable
+    private final CoalescingSyncChangeListener coalescingChangeListener;
+    private final SyncChangeOrder changeOrder;
 
     private volatile long handle;
     @Nullable
@@ -65,6 +71,15 @@ public final class SyncClientImpl implements SyncClient {
         this.boxStore = builder.boxStore;
         this.urls = builder.urls;
         this.connectivityMonitor = builder.platform.getConnectivityMonitor();
+        this.changeOrder = new SyncChangeOrder(builder.changeListenerOrders);
+        if (builder.changeListener != null && builder.coalesceChanges) {
+            // Order the merged changes, ordering the changes of each sync transaction would get lost when merging
+            this.coalescingChangeListener = new CoalescingSyncChangeListener(
+                    changeOrder.orderingChangeListener(builder.changeListener),
+                    builder.coalesceMaxDelayMillis, builder.coalesceMaxIds, builder.coalesceExecutor);
+        } else {
+            this.coalescingChangeListener = null;
+        }
 
         // Build the options
         long optHandle = nativeSyncOptCreate(builder.boxStore.getNativeStore());
@@ -120,7 +135,9 @@ public final class SyncClientImpl implements SyncClient {
         } else {
             this.loginListener = builder.loginListener;
             this.completedListener = builder.completedListener;
-            if (builder.changeListener != null) {
+            if (coalescingChangeListener != null) {
+                nativeSetSyncChangesListener(handle, statsRecorder.recordingChangeListener(coalescingChangeListener));
+            } else if (builder.changeListener != null) {
                 setSyncChangeListener(builder.changeListener);
             }
             this.connectionListener = builder.connectionListener;
@@ -180,6 +197,11 @@ public final class SyncClientImpl implements SyncClient {
         return nativeRoundtripTime(getHandle());
     }
 
+    @Override
+    public SyncStats getStats() {
+        return statsRecorder.snapshot(getRoundtripTimeNanos());
+    }
+
     /**
      * Gets the current state of this sync client. Throws if {@link #close()} was called.
      */
@@ -199,7 +221,12 @@ public final class SyncClientImpl implements SyncClient {
 
     @Override
     public void setSyncChangeListener(@Nullable SyncChangeListener changesListener) {
-        nativeSetSyncChangesListener(getHandle(), changesListener);
+        SyncChangeListener listener = null;
+        if (changesListener != null) {
+            listener = statsRecorder.recordingChangeListener(
+                    changeOrder.orderingChangeListener(changesListener));
+        }
+        nativeSetSyncChangesListener(getHandle(), listener);
     }
 
     @Override
@@ -345,6 +372,10 @@ public final class SyncClientImpl implements SyncClient {
         if (handleToDelete != 0) {
             nativeDelete(handleToDelete);
         }
+        // After deleting the native client, so no more changes are received
+        if (coalescingChangeListener != null) {
+            coalescingChangeListener.close();
+        }
     }
 
     /**
@@ -363,6 +394,7 @@ public final class SyncClientImpl implements SyncClient {
     @Override
     @Experimental
     public boolean requestFullSync() {
+        statsRecorder.onFullSyncRequested();
         return nativeRequestFullSync(getHandle(), false);
     }
 
@@ -371,6 +403,7 @@ public final class SyncClientImpl implements SyncClient {
      */
     @Experimental
     public boolean requestFullSyncAndUpdates() {
+        statsRecorder.onFullSyncRequested();
         return nativeRequestFullSync(getHandle(), true);
     }
 
@@ -565,6 +598,7 @@ public final class SyncClientImpl implements SyncClient {
 
         public void onLogin() {
             lastLoginCode = SyncLoginCodes.OK;
+            statsRecorder.onLogin();
             firstLoginLatch.countDown();
 
             SyncLoginListener listenerToFire = loginListener;
@@ -575,6 +609,7 @@ public final class SyncClientImpl implements SyncClient {
 
         public void onLoginFailure(long errorCode) {
             lastLoginCode = errorCode;
+            statsRecorder.onLoginFailure();
             firstLoginLatch.countDown();
 
             SyncLoginListener listenerToFire = loginListener;
@@ -584,6 +619,7 @@ public final class SyncClientImpl implements SyncClient {
         }
 
         public void onSyncComplete() {
+            statsRecorder.onSyncComplete();
             SyncCompletedListener listenerToFire = completedListener;
             if (listenerToFire != null) {
                 listenerToFire.onUpdatesCompleted();
@@ -598,6 +634,7 @@ public final class SyncClientImpl implements SyncClient {
         }
 
         public void onDisconnect() {
+            statsRecorder.onDisconnect();
             SyncConnectionListener listenerToFire = connectionListener;
             if (listenerToFire != null) {
                 listenerToFire.onDisconnected();
@@ -615,6 +652,7 @@ public final class SyncClientImpl implements SyncClient {
 
     public static class ObjectsMessageBuilderImpl implements ObjectsMessageBuilder {
         private boolean sent;
+        private long payloadBytes;
         private final long builderHandle;
         private final SyncClientImpl syncClient;
 
@@ -627,6 +665,7 @@ public final class SyncClientImpl implements SyncClient {
         public ObjectsMessageBuilderImpl addString(long optionalId, String value) {
             checkNotSent();
             syncClient.nativeObjectsMessageAddString(builderHandle, optionalId, value);
+            payloadBytes += utf8Length(value);
             return this;
         }
 
@@ -634,6 +673,7 @@ public final class SyncClientImpl implements SyncClient {
         public ObjectsMessageBuilderImpl addBytes(long optionalId, byte[] value, boolean isFlatBuffers) {
             checkNotSent();
             syncClient.nativeObjectsMessageAddBytes(builderHandle, optionalId, value, isFlatBuffers);
+            payloadBytes += value.length;
             return this;
         }
 
@@ -644,11 +684,41 @@ public final class SyncClientImpl implements SyncClient {
             }
             checkNotSent();
             sent = true;
-            return syncClient.nativeObjectsMessageSend(syncClient.getHandle(), builderHandle);
+            boolean success = syncClient.nativeObjectsMessageSend(syncClient.getHandle(), builderHandle);
+            if (success) {
+                syncClient.statsRecorder.onMessageSent(payloadBytes);
+            }
+            return success;
         }
 
         private void checkNotSent() {
             if (sent) throw new IllegalStateException("Already sent this message, start a new one instead.");
         }
+
+        /**
+         * Returns the number of bytes of the UTF-8 encoding of the given string without encoding it. Like
+         * {@link String#getBytes}, counts an unpaired surrogate as one byte for its replacement character.
+         */
+        private static long utf8Length(String value) {
+            long length = 0;
+            int charCount = value.length();
+            for (int i = 0; i < charCount; i++) {
+                char c = value.charAt(i);
+                if (c < 0x80) {
+                    length++;
+                } else if (c < 0x800) {
+                    length += 2;
+                } else if (Character.isHighSurrogate(c) && i + 1 < charCount
+                        && Character.isLowSurrogate(value.charAt(i + 1))) {
+                    length += 4;
+                    i++;
+                } else if (Character.isSurrogate(c)) {
+                    length++;
+                } else {
+                    length += 3;
+                }
+            }
+            return length;
+        }
     }
 }
@@ -0,0 +1,175 @@
+/*
+ * Copyright © 2026 ObjectBox Ltd. <https://objectbox.io>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.objectbox.sync;
+
+import javax.annotation.concurrent.Immutable;
+
+import io.objectbox.annotation.apihint.Experimental;
+
+/**
+ * A snapshot of statistics of a {@link SyncClient}, returned by {@link SyncClient#getStats()}.
+ * <p>
+ * Counts are totals since the client was built. To get rates, e.g. changed objects per second, poll stats
+ * periodically and divide the difference of two snapshots by the difference of their {@link #getTimestampNanos()}.
+ * <p>
+ * Incoming changes are only counted while a {@link io.objectbox.sync.listener.SyncChangeListener} is set.
+ */
+@Experimental
+@Immutable
+public final class SyncStats {
+
+    private final long timestampNanos;
+    private final long roundtripTimeNanos;
+    private final long loginCount;
+    private final long loginFailureCount;
+    private final long disconnectCount;
+    private final long syncCompletedCount;
+    private final long lastFullSyncDurationNanos;
+    private final long changeNotificationCount;
+    private final long changedObjectCount;
+    private final long removedObjectCount;
+    private final long messagesSentCount;
+    private final long messagesSentBytes;
+
+    SyncStats(long timestampNanos, long roundtripTimeNanos, long loginCount, long loginFailureCount,
+              long disconnectCount, long syncCompletedCount, long lastFullSyncDurationNanos,
+              long changeNotificationCount, long changedObjectCount, long removedObjectCount,
+              long messagesSentCount, long messagesSentBytes) {
+        this.timestampNanos = timestampNanos;
+        this.roundtripTimeNanos = roundtripTimeNanos;
+        this.loginCount = loginCount;
+        this.loginFailureCount = loginFailureCount;
+        this.disconnectCount = disconnectCount;
+        this.syncCompletedCount = syncCompletedCount;
+        this.lastFullSyncDurationNanos = lastFullSyncDurationNanos;
+        this.changeNotificationCount = changeNotificationCount;
+        this.changedObjectCount = changedObjectCount;
+        this.removedObjectCount = removedObjectCount;
+        this.messagesSentCount = messagesSentCount;
+        this.messagesSentBytes = messagesSentBytes;
+    }
+
+    /**
+     * The {@link System#nanoTime()} when this snapshot was taken.
+     */
+    public long getTimestampNanos() {
+        return timestampNanos;
+    }
+
+    /**
+     * See {@link SyncClient#getRoundtripTimeNanos()}.
+     */
+    public long getRoundtripTimeNanos() {
+        return roundtripTimeNanos;
+    }
+
+    /**
+     * Number of successful logins.
+     */
+    public long getLoginCount() {
+        return loginCount;
+    }
+
+    /**
+     * Number of logins after the first one, so the number of times the client logged in again after a disconnect.
+     */
+    public long getReconnectCount() {
+        return loginCount > 1 ? loginCount - 1 : 0;
+    }
+
+    /**
+     * Number of failed logins.
+     */
+    public long getLoginFailureCount() {
+        return loginFailureCount;
+    }
+
+    /**
+     * Number of times the client was disconnected from the server.
+     */
+    public long getDisconnectCount() {
+        return disconnectCount;
+    }
+
+    /**
+     * Number of times the client reported that it is up-to-date with the server.
+     */
+    public long getSyncCompletedCount() {
+        return syncCompletedCount;
+    }
+
+    /**
+     * The time from the last {@link SyncClient#requestFullSync() full sync request} until the client was up-to-date,
+     * or 0 if no full sync has completed yet.
+     */
+    public long getLastFullSyncDurationNanos() {
+        return lastFullSyncDurationNanos;
+    }
+
+    /**
+     * Number of times incoming changes were applied (one notification may contain changes of multiple entity types).
+     */
+    public long getChangeNotificationCount() {
+        return changeNotificationCount;
+    }
+
+    /**
+     * Number of objects put by incoming changes.
+     */
+    public long getChangedObjectCount() {
+        return changedObjectCount;
+    }
+
+    /**
+     * Number of objects removed by incoming changes.
+     */
+    public long getRemovedObjectCount() {
+        return removedObjectCount;
+    }
+
+    /**
+     * Number of successfully sent {@link ObjectsMessageBuilder objects messages}.
+     */
+    public long getMessagesSentCount() {
+        return messagesSentCount;
+    }
+
+    /**
+     * Size of the payload of successfully sent {@link ObjectsMessageBuilder objects messages} in bytes
+     * (strings counted as UTF-8).
+     */
+    public long getMessagesSentBytes() {
+        return messagesSentBytes;
+    }
+
+    @Override
+    public String toString() {
+        return "SyncStats{" +
+                "roundtripTimeNanos=" + roundtripTimeNanos +
+                ", loginCount=" + loginCount +
+                ", loginFailureCount=" + loginFailureCount +
+                ", disconnectCount=" + disconnectCount +
+                ", syncCompletedCount=" + syncCompletedCount +
+                ", lastFullSyncDurationNanos=" + lastFullSyncDurationNanos +
+                ", changeNotificationCount=" + changeNotificationCount +
+                ", changedObjectCount=" + changedObjectCount +
+                ", removedObjectCount=" + removedObjectCount +
+                ", messagesSentCount=" + messagesSentCount +
+                ", messagesSentBytes=" + messagesSentBytes +
+                '}';
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright © 2026 ObjectBox Ltd. <https://objectbox.io>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.objectbox.sync;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import io.objectbox.sync.listener.SyncChangeListener;
+
+/**
+ * Collects the counts for {@link SyncStats}. Thread-safe.
+ */
+final class SyncStatsRecorder {
+
+    private final AtomicLong loginCount = new AtomicLong();
+    private final AtomicLong loginFailureCount = new AtomicLong();
+    private final AtomicLong disconnectCount = new AtomicLong();
+    private final AtomicLong syncCompletedCount = new AtomicLong();
+    private final AtomicLong fullSyncRequestedAtNanos = new AtomicLong();
+    private volatile long lastFullSyncDurationNanos;
+    private final AtomicLong changeNotificationCount = new AtomicLong();
+    private final AtomicLong changedObjectCount = new AtomicLong();
+    private final AtomicLong removedObjectCount = new AtomicLong();
+    private final AtomicLong messagesSentCount = new AtomicLong();
+    private final AtomicLong messagesSentBytes = new AtomicLong();
+
+    void onLogin() {
+        loginCount.incrementAndGet();
+    }
+
+    void onLoginFailure() {
+        loginFailureCount.incrementAndGet();
+    }
+
+    void onDisconnect() {
+        disconnectCount.incrementAndGet();
+    }
+
+    void onFullSyncRequested() {
+        // Only the first request until sync completes counts
+        fullSyncRequestedAtNanos.compareAndSet(0, System.nanoTime());
+    }
+
+    void onSyncComplete() {
+        syncCompletedCount.incrementAndGet();
+        long requestedAt = fullSyncRequestedAtNanos.getAndSet(0);
+        if (requestedAt != 0) {
+            lastFullSyncDurationNanos = System.nanoTime() - requestedAt;
+        }
+    }
+
+    void onSyncChanges(SyncChange[] syncChanges) {
+        changeNotificationCount.incrementAndGet();
+        long changed = 0;
+        long removed = 0;
+        for (SyncChange syncChange : syncChanges) {
+            changed += syncChange.getChangedIds().length;
+            removed += syncChange.getRemovedIds().length;
+        }
+        changedObjectCount.addAndGet(changed);
+        removedObjectCount.addAndGet(removed);
+    }
+
+    void onMessageSent(long bytes) {
+        messagesSentCount.incrementAndGet();
+        messagesSentBytes.addAndGet(bytes);
+    }
+
+    /**
+     * Returns a listener that records changes, then forwards them to the given listener.
+     */
+    SyncChangeListener recordingChangeListener(SyncChangeListener listener) {
+        return syncChanges -> {
+            onSyncChanges(syncChanges);
+            listener.onSyncChanges(syncChanges);
+        };
+    }
+
+    SyncStats snapshot(long roundtripTimeNanos) {
+        return new SyncStats(
+                System.nanoTime(),
+                roundtripTimeNanos,
+                loginCount.get(),
+                loginFailureCount.get(),
+                disconnectCount.get(),
+                syncCompletedCount.get(),
+                lastFullSyncDurationNanos,
+                changeNotificationCount.get(),
+                changedObjectCount.get(),
+                removedObjectCount.get(),
+                messagesSentCount.get(),
+                messagesSentBytes.get()
+        );
+    }
+}
@@ -0,0 +1,164 @@
+/*
+ * Copyright © 2026 ObjectBox Ltd. <https://objectbox.io>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.objectbox.sync.listener;
+
+import org.greenrobot.essentials.collections.LongHashSet;
+
+import java.io.Closeable;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.Nullable;
+
+import io.objectbox.annotation.apihint.Experimental;
+import io.objectbox.sync.SyncChange;
+
+/**
+ * A {@link SyncChangeListener} that merges changes of multiple sync transactions before passing them on to another
+ * listener. Use it to get fewer, larger change notifications, e.g. during the initial sync of many objects.
+ * <p>
+ * Changes are merged per entity type and IDs are de-duplicated: if an object is changed and later removed (or the
+ * other way round) only the last operation is reported. Merged changes are delivered once {@code maxDelayMillis}
+ * have passed since the first change was received, or right away once they contain at least {@code maxIds} IDs.
+ * <p>
+ * Merged changes are delivered in order on a background thread owned by this, or if given using an executor.
+ * Use a single-threaded executor (e.g. one for the UI thread) to keep the order.
+ * <p>
+ * Typically set using {@link io.objectbox.sync.SyncBuilder#changeListener(SyncChangeListener, long, int)}, then the
+ * Sync client closes this when it is closed. If set otherwise, call {@link #close()} once done.
+ */
+@Experimental
+public class CoalescingSyncChangeListener implements SyncChangeListener, Closeable {
+
+    private static class PendingChanges {
+        final LongHashSet changedIds = new LongHashSet();
+        final LongHashSet removedIds = new LongHashSet();
+    }
+
+    private final SyncChangeListener listener;
+    private final long maxDelayMillis;
+    private final int maxIds;
+    @Nullable private final Executor executor;
+    private final ScheduledExecutorService scheduler;
+
+    private final Object lock = new Object();
+    /** Guarded by lock; pending changes by entity type ID, in order of first change. */
+    private final Map<Integer, PendingChanges> pending = new LinkedHashMap<>();
+    /** Guarded by lock. */
+    private int pendingIdCount;
+    /** Guarded by lock. */
+    private boolean flushScheduled;
+    /** Guarded by lock. */
+    private boolean closed;
+
+    /**
+     * @param listener The listener to deliver merged changes to.
+     * @param maxDelayMillis The maximum time to hold back changes, must be 0 or greater.
+     * @param maxIds Deliver changes once they contain at least this many IDs, must be 1 or greater.
+     * @param executor If not null, merged changes are delivered using this executor.
+     */
+    public CoalescingSyncChangeListener(SyncChangeListener listener, long maxDelayMillis, int maxIds,
+                                        @Nullable Executor executor) {
+        if (maxDelayMillis < 0) {
+            throw new IllegalArgumentException("maxDelayMillis must be 0 or greater");
+        }
+        if (maxIds < 1) {
+            throw new IllegalArgumentException("maxIds must be 1 or greater");
+        }
+        this.listener = listener;
+        this.maxDelayMillis = maxDelayMillis;
+        this.maxIds = maxIds;
+        this.executor = executor;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "ObjectBox-SyncChanges");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Override
+    public void onSyncChanges(SyncChange[] syncChanges) {
+        boolean flushNow;
+        synchronized (lock) {
+            if (closed) return;
+            for (SyncChange syncChange : syncChanges) {
+                PendingChanges changes = pending.get(syncChange.getEntityTypeId());
+                if (changes == null) {
+                    changes = new PendingChanges();
+                    pending.put(syncChange.getEntityTypeId(), changes);
+                }
+                for (long id : syncChange.getChangedIds()) {
+                    if (changes.removedIds.remove(id)) pendingIdCount--;
+                    if (changes.changedIds.add(id)) pendingIdCount++;
+                }
+                for (long id : syncChange.getRemovedIds()) {
+                    if (changes.changedIds.remove(id)) pendingIdCount--;
+                    if (changes.removedIds.add(id)) pendingIdCount++;
+                }
+            }
+            flushNow = pendingIdCount >= maxIds;
+            if (!flushNow && !flushScheduled && !pending.isEmpty()) {
+                flushScheduled = true;
+                scheduler.schedule(this::flush, maxDelayMillis, TimeUnit.MILLISECONDS);
+            }
+        }
+        if (flushNow) {
+            scheduler.execute(this::flush);
+        }
+    }
+
+    /**
+     * Delivers pending changes. Only called on the scheduler thread so changes are delivered in order.
+     */
+    private void flush() {
+        SyncChange[] merged;
+        synchronized (lock) {
+            flushScheduled = false;
+            if (pending.isEmpty()) return;
+            merged = new SyncChange[pending.size()];
+            int i = 0;
+            for (Map.Entry<Integer, PendingChanges> entry : pending.entrySet()) {
+                PendingChanges changes = entry.getValue();
+                merged[i++] = new SyncChange(entry.getKey(), changes.changedIds.keys(), changes.removedIds.keys());
+            }
+            pending.clear();
+            pendingIdCount = 0;
+        }
+        if (executor != null) {
+            executor.execute(() -> listener.onSyncChanges(merged));
+        } else {
+            listener.onSyncChanges(merged);
+        }
+    }
+
+    /**
+     * Delivers any pending changes and stops the background thread. Changes received afterwards are ignored.
+     */
+    @Override
+    public void close() {
+        synchronized (lock) {
+            if (closed) return;
+            closed = true;
+        }
+        scheduler.execute(this::flush);
+        scheduler.shutdown();
+    }
+}
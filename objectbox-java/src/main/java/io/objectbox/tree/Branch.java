@@ -18,7 +18,10 @@ package io.objectbox.tree;
 
 import javax.annotation.Nullable;
 
+import io.objectbox.InternalAccess;
+import io.objectbox.Transaction;
 import io.objectbox.annotation.apihint.Experimental;
+import org.greenrobot.essentials.collections.LongHashMap;
 
 /**
  * A branch within a {@link Tree}. May have {@link #branch(String[]) branches} or {@link #leaf(String[]) leaves}.
@@ -67,6 +70,20 @@ public class Branch {
         return branch(path);
     }
 
+    /**
+     * Get the branch following the given prepared path of child branches from this branch.
+     * <p>
+     * Branch IDs are cached per parent branch and name, so repeated lookups usually need no native call.
+     *
+     * @return null if no matching tree node was found
+     */
+    @Nullable
+    public Branch branch(TreePath path) {
+        long branchId = resolveBranchId(path, path.size());
+        if (branchId == 0) return null;
+        return new Branch(tree, branchId);
+    }
+
     /**
      * Get the child branch directly attached to this branch with the given name.
      *
@@ -103,6 +120,48 @@ public class Branch {
         return leaf(path);
     }
 
+    /**
+     * Get the leaf following the given prepared path of children from this branch.
+     * <p>
+     * The IDs of branches on the path are cached like for {@link #branch(TreePath)}, so usually this needs only one
+     * native call to get the leaf.
+     *
+     * @return null if no matching tree node was found
+     */
+    @Nullable
+    public Leaf leaf(TreePath path) {
+        long branchId = resolveBranchId(path, path.size() - 1);
+        if (branchId == 0) return null;
+        LeafNode leafNode = nativeGetLeaf(tree.getHandle(), branchId, new String[]{path.getLastName()});
+        if (leafNode == null) return null;
+        return new Leaf(leafNode);
+    }
+
+    /**
+     * Returns the ID of the branch following the first {@code count} names of the path, or 0 if there is none.
+     */
+    private long resolveBranchId(TreePath path, int count) {
+        //noinspection ConstantConditions Nullability annotations are not enforced.
+        if (path == null) {
+            throw new IllegalArgumentException("path must not be null");
+        }
+        Transaction tx = InternalAccess.getActiveTx(tree.getStore());
+        BranchIdCache cache = tree.getBranchIdCache();
+        BranchIdCache.Generation generation = tree.getBranchIdCacheGeneration(tx);
+        long branchId = id;
+        for (int i = 0; i < count; i++) {
+            String name = path.getName(i);
+            long childId = generation != null ? cache.get(generation, branchId, name) : 0;
+            if (childId == 0) {
+                childId = nativeGetBranchId(tree.getHandle(), branchId, new String[]{name});
+                if (childId == 0) return 0;
+                if (generation != null) cache.put(generation, tx, branchId, name, childId);
+            }
+            branchId = childId;
+        }
+        return branchId;
+    }
+
     /**
      * Get the child leaf directly attached to this branch with the given name.
      *
@@ -115,6 +174,65 @@ public class Branch {
         return leaf(path);
     }
 
+    /**
+     * Loads this branch, its child branches up to the given depth and the leaves of all loaded branches into memory.
+     * Uses a few queries per depth level for branches and a few queries for all leaves instead of one lookup per node,
+     * so this is much faster than navigating the tree node by node, e.g. to read all values of a subtree at once.
+     * Only leaves with values other than integer, floating point or string values, e.g. string arrays, are read one
+     * by one.
+     * <p>
+     * Like other tree functions, this must be called inside a transaction, see {@link Tree#runInReadTx(Runnable)}.
+     *
+     * @param depth 0 to only load this branch, 1 to also load its child branches and so on.
+     * Use {@link Integer#MAX_VALUE} to load all.
+     * @see BranchSnapshot#accept(TreeVisitor)
+     */
+    public BranchSnapshot loadSubtree(int depth) {
+        if (depth < 0) {
+            throw new IllegalArgumentException("depth must be 0 or greater");
+        }
+        TreeEntities entities = tree.getEntities();
+
+        long[][] root = entities.dataBranch.findLongsWhereOneOf("id", new long[]{id}, "metaBranchId");
+        if (root[0].length == 0) {
+            throw new IllegalStateException("Branch " + id + " does not exist");
+        }
+        long rootMetaId = root[1][0];
+        BranchSnapshot rootSnapshot = new BranchSnapshot(id, rootMetaId,
+                entities.metaBranch.findNames(new long[]{rootMetaId})[0]);
+
+        LongHashMap<BranchSnapshot> branchById = new LongHashMap<>();
+        branchById.put(id, rootSnapshot);
+        long[] levelIds = {id};
+        for (int level = 1; level <= depth && levelIds.length > 0; level++) {
+            long[][] children = entities.dataBranch.findLongsWhereOneOf("parentId", levelIds,
+                    "parentId", "metaBranchId");
+            long[] childIds = children[0];
+            String[] names = entities.metaBranch.findNames(children[2]);
+            for (int i = 0; i < childIds.length; i++) {
+                BranchSnapshot child = new BranchSnapshot(childIds[i], children[2][i], names[i]);
+                BranchSnapshot parent = branchById.get(children[1][i]);
+                if (parent != null) parent.addBranch(child);
+                branchById.put(childIds[i], child);
+            }
+            levelIds = childIds;
+        }
+
+        LeafNode[] leafNodes = entities.findLeaves(tree, branchById.keys());
+        long[] metaLeafIds = new long[leafNodes.length];
+        for (int i = 0; i < leafNodes.length; i++) {
+            metaLeafIds[i] = leafNodes[i] != null ? leafNodes[i].metaId : 0;
+        }
+        String[] leafNames = entities.metaLeaf.findNames(metaLeafIds);
+        for (int i = 0; i < leafNodes.length; i++) {
+            LeafNode leafNode = leafNodes[i];
+            if (leafNode == null || leafNames[i] == null) continue;
+            BranchSnapshot parent = branchById.get(leafNode.branchId);
+            if (parent != null) parent.addLeaf(leafNames[i], new Leaf(leafNode));
+        }
+        return rootSnapshot;
+    }
+
     private void checkNameOrPath(String name) {
         //noinspection ConstantConditions Nullability annotations are not enforced.
         if (name == null || name.length() == 0) {
@@ -0,0 +1,128 @@
+/*
+ * Copyright © 2026 ObjectBox Ltd. <https://objectbox.io>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.objectbox.tree;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.annotation.Nullable;
+
+import io.objectbox.BoxStore;
+import io.objectbox.InternalAccess;
+import io.objectbox.Transaction;
+
+/**
+ * Caches data branch IDs by parent branch ID and branch name for {@link Branch#branch(TreePath)}.
+ * <p>
+ * Entries are valid as long as no transaction changing data or meta branches was committed. This is checked using
+ * the commit counts of the branch entity types, so commits only changing leaves keep the cache.
+ * Lookups inside a read transaction that is {@link Transaction#isObsolete() obsolete} do not use the cache.
+ * Lookups inside a write transaction use, but never fill the cache; if the write transaction changed branches using
+ * the {@link Tree}, the cache is not used until it is committed. Note that changes of branches inside a write
+ * transaction done with a Box of a tree type are not detected, so use the Tree API to change branches.
+ */
+class BranchIdCache {
+
+    /** Clear the cache once it has this many entries; usually much fewer branch names are looked up. */
+    static final int MAX_ENTRIES = 10_000;
+
+    private static final class Key {
+        final long parentId;
+        final String name;
+
+        Key(long parentId, String name) {
+            this.parentId = parentId;
+            this.name = name;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key)) return false;
+            Key other = (Key) o;
+            return parentId == other.parentId && name.equals(other.name);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * Long.hashCode(parentId) + name.hashCode();
+        }
+    }
+
+    /**
+     * Cached IDs valid for the given commit counts. Replaced on changes instead of cleared, so a lookup that started
+     * before a change can not add an outdated ID.
+     */
+    static final class Generation {
+        final int dataBranchCommitCount;
+        final int metaBranchCommitCount;
+        final ConcurrentHashMap<Key, Long> branchIds = new ConcurrentHashMap<>();
+
+        Generation(int dataBranchCommitCount, int metaBranchCommitCount) {
+            this.dataBranchCommitCount = dataBranchCommitCount;
+            this.metaBranchCommitCount = metaBranchCommitCount;
+        }
+    }
+
+    private final BoxStore store;
+    private final int dataBranchEntityTypeId;
+    private final int metaBranchEntityTypeId;
+    private volatile Generation generation;
+
+    BranchIdCache(BoxStore store, TreeEntities entities) {
+        this.store = store;
+        this.dataBranchEntityTypeId = entities.dataBranch.entityTypeId;
+        this.metaBranchEntityTypeId = entities.metaBranch.entityTypeId;
+        this.generation = new Generation(0, 0);
+    }
+
+    /**
+     * Returns the generation to use for the current transaction, or null if the cache must not be used.
+     *
+     * @param changingTx The write transaction that changed branches using the tree, if any.
+     */
+    @Nullable
+    Generation current(Transaction tx, @Nullable Transaction changingTx) {
+        if (tx.isReadOnly() ? tx.isObsolete() : tx == changingTx) return null;
+        int dataBranchCommitCount = InternalAccess.getCommitCount(store, dataBranchEntityTypeId);
+        int metaBranchCommitCount = InternalAccess.getCommitCount(store, metaBranchEntityTypeId);
+        Generation generation = this.generation;
+        if (generation.dataBranchCommitCount != dataBranchCommitCount
+                || generation.metaBranchCommitCount != metaBranchCommitCount
+                || generation.branchIds.size() >= MAX_ENTRIES) {
+            generation = new Generation(dataBranchCommitCount, metaBranchCommitCount);
+            this.generation = generation;
+        }
+        return generation;
+    }
+
+    /**
+     * Returns the cached branch ID or 0 if not cached.
+     */
+    long get(Generation generation, long parentId, String name) {
+        Long branchId = generation.branchIds.get(new Key(parentId, name));
+        return branchId != null ? branchId : 0;
+    }
+
+    /**
+     * Caches the given branch ID if the transaction is a read transaction and still up-to-date.
+     */
+    void put(Generation generation, Transaction tx, long parentId, String name, long branchId) {
+        if (tx.isReadOnly() && !tx.isObsolete()) {
+            generation.branchIds.put(new Key(parentId, name), branchId);
+        }
+    }
+}
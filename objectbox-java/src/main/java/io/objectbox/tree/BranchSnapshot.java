@@ -0,0 +1,138 @@
+/*
+ * Copyright © 2026 ObjectBox Ltd. <https://objectbox.io>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.objectbox.tree;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.annotation.Nullable;
+
+import io.objectbox.annotation.apihint.Experimental;
+
+/**
+ * An in-memory copy of a {@link Branch} and its leaves and child branches, loaded at once using
+ * {@link Branch#loadSubtree(int)}.
+ * <p>
+ * A snapshot is not updated if the tree changes. Changing the value of one of its {@link Leaf leaves} does not change
+ * the tree unless the leaf is {@link Tree#put(Leaf) put}.
+ */
+@Experimental
+public class BranchSnapshot {
+
+    private final long id;
+    private final long metaId;
+    @Nullable
+    private final String name;
+    private final List<BranchSnapshot> branches = new ArrayList<>();
+    private final Map<String, Leaf> leaves = new LinkedHashMap<>();
+
+    BranchSnapshot(long id, long metaId, @Nullable String name) {
+        this.id = id;
+        this.metaId = metaId;
+        this.name = name;
+    }
+
+    void addBranch(BranchSnapshot branch) {
+        branches.add(branch);
+    }
+
+    void addLeaf(String name, Leaf leaf) {
+        leaves.put(name, leaf);
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    /**
+     * The ID of the meta branch describing this branch.
+     */
+    public long getMetaId() {
+        return metaId;
+    }
+
+    /**
+     * The name of this branch, as given by its meta branch.
+     */
+    @Nullable
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * The loaded child branches. Empty if this branch is at the depth limit of the snapshot.
+     */
+    public List<BranchSnapshot> getBranches() {
+        return Collections.unmodifiableList(branches);
+    }
+
+    /**
+     * The leaves of this branch by name.
+     */
+    public Map<String, Leaf> getLeaves() {
+        return Collections.unmodifiableMap(leaves);
+    }
+
+    /**
+     * Get the first loaded child branch with the given name.
+     *
+     * @return null if no matching branch was loaded
+     */
+    @Nullable
+    public BranchSnapshot branchChild(String name) {
+        for (BranchSnapshot branch : branches) {
+            if (name.equals(branch.name)) return branch;
+        }
+        return null;
+    }
+
+    /**
+     * Get the leaf of this branch with the given name.
+     *
+     * @return null if no matching leaf exists
+     */
+    @Nullable
+    public Leaf leafChild(String name) {
+        return leaves.get(name);
+    }
+
+    /**
+     * Passes this branch, then its leaves and child branches (depth-first) to the given visitor.
+     */
+    public void accept(TreeVisitor visitor) {
+        accept(visitor, 0);
+    }
+
+    private void accept(TreeVisitor visitor, int depth) {
+        if (!visitor.visitBranch(this, depth)) return;
+        for (Map.Entry<String, Leaf> entry : leaves.entrySet()) {
+            visitor.visitLeaf(this, entry.getKey(), entry.getValue());
+        }
+        for (BranchSnapshot branch : branches) {
+            branch.accept(visitor, depth + 1);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "BranchSnapshot{id=" + id + ", name=" + name + ", branches=" + branches.size()
+                + ", leaves=" + leaves.size() + '}';
+    }
+}
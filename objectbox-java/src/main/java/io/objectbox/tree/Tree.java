@@ -17,6 +17,9 @@
 package io.objectbox.tree;
 
 import java.io.Closeable;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.concurrent.Callable;
 
 import javax.annotation.Nullable;
@@ -26,6 +29,7 @@ import io.objectbox.InternalAccess;
 import io.objectbox.Transaction;
 import io.objectbox.annotation.apihint.Experimental;
 import io.objectbox.model.PropertyType;
+import org.greenrobot.essentials.collections.LongHashMap;
 
 /**
  * A higher level tree API operating on branch and leaf nodes.
@@ -59,6 +63,16 @@ public class Tree implements Closeable {
     private final BoxStore store;
     private long rootId;
     private String pathSeparatorRegex = "\\.";
+    @Nullable
+    private volatile TreeEntities entities;
+    @Nullable
+    private volatile BranchIdCache branchIdCache;
+    /**
+     * The last write transaction that changed branches using this tree, see {@link BranchIdCache}.
+     * Only compared by identity, so keeping it after it is closed does no harm.
+     */
+    @Nullable
+    private volatile Transaction branchChangingTx;
 
     /**
      * Create a tree instance for the given meta-branch root {@code uid}, or find a singular root if 0 is given.
@@ -93,6 +107,49 @@ public class Tree implements Closeable {
         return handle;
     }
 
+    TreeEntities getEntities() {
+        TreeEntities entities = this.entities;
+        if (entities == null) {
+            entities = new TreeEntities(store);
+            this.entities = entities;
+        }
+        return entities;
+    }
+
+    /** Created on first use, as it requires the tree model types. */
+    BranchIdCache getBranchIdCache() {
+        BranchIdCache cache = this.branchIdCache;
+        if (cache == null) {
+            cache = new BranchIdCache(store, getEntities());
+            this.branchIdCache = cache;
+        }
+        return cache;
+    }
+
+    /**
+     * Returns the branch ID cache generation to use inside the active transaction, or null if it must not be used.
+     */
+    @Nullable
+    BranchIdCache.Generation getBranchIdCacheGeneration(Transaction tx) {
+        return getBranchIdCache().current(tx, branchChangingTx);
+    }
+
+    private void onBranchesChanged() {
+        branchChangingTx = InternalAccess.getActiveTx(store);
+    }
+
+    /**
+     * Prepares the given path string for repeated lookups by splitting it using the
+     * {@link #getPathSeparatorRegex() path separator}.
+     */
+    public TreePath path(String pathString) {
+        //noinspection ConstantConditions Nullability annotations are not enforced.
+        if (pathString == null || pathString.length() == 0) {
+            throw new IllegalArgumentException("path must not be null or empty");
+        }
+        return TreePath.of(pathString.split(pathSeparatorRegex));
+    }
+
     /**
      * The path separator regex is used to split a string path into individual path names.
      * Example: with the default separator, e.g. "Book.Author" becomes ["Book", "Author"].
@@ -238,6 +295,7 @@ public class Tree implements Closeable {
      * Puts (persists) a branch in the metamodel.
      */
     public long putMetaBranch(long id, long parentBranchId, String name) {
+        onBranchesChanged();
         return nativePutMetaBranch(handle, id, parentBranchId, name, null);
     }
 
@@ -245,6 +303,7 @@ public class Tree implements Closeable {
      * Puts (persists) a branch in the metamodel with an optional description.
      */
     public long putMetaBranch(long id, long parentBranchId, String name, @Nullable String description) {
+        onBranchesChanged();
         return nativePutMetaBranch(handle, id, parentBranchId, name, description);
     }
 
@@ -252,6 +311,7 @@ public class Tree implements Closeable {
      * Puts (persists) several branches in the metamodel to create the given path from the root.
      */
     public long[] putMetaBranches(String[] path) {
+        onBranchesChanged();
         return nativePutMetaBranches(handle, 0, path);
     }
 
@@ -259,6 +319,7 @@ public class Tree implements Closeable {
      * Puts (persists) several branches in the metamodel from the given parent ID (must be a meta branch).
      */
     public long[] putMetaBranches(long parentBranchId, String[] path) {
+        onBranchesChanged();
         return nativePutMetaBranches(handle, parentBranchId, path);
     }
 
@@ -289,6 +350,7 @@ public class Tree implements Closeable {
      * Put a new or existing data branch
      */
     public long putBranch(long id, long parentBranchId, long metaId, @Nullable String uid) {
+        onBranchesChanged();
         return nativePutBranch(handle, id, parentBranchId, metaId, uid);
     }
 
@@ -296,6 +358,7 @@ public class Tree implements Closeable {
      * Put a new (inserts) data branch
      */
     public long putBranch(long parentBranchId, long metaId, @Nullable String uid) {
+        onBranchesChanged();
         return nativePutBranch(handle, 0, parentBranchId, metaId, uid);
     }
 
@@ -303,6 +366,7 @@ public class Tree implements Closeable {
      * Put a new (inserts) data branch
      */
     public long putBranch(long parentBranchId, long metaId) {
+        onBranchesChanged();
         return nativePutBranch(handle, 0, parentBranchId, metaId, null);
     }
 
@@ -411,6 +475,91 @@ public class Tree implements Closeable {
         }
     }
 
+    /**
+     * Puts (persists) multiple data values in a single transaction. Keys are paths from the root, like for
+     * {@link Branch#leaf(String)}, e.g. "Book.Author.Name". Existing data leaves are overwritten, missing ones are
+     * inserted if their branch and metadata leaf exist.
+     * <p>
+     * Supported values are Long, Integer, Short, Byte, Double, Float and String.
+     *
+     * @throws IllegalArgumentException if a path has no data branch or metadata leaf, or a value is not supported.
+     * No values are put in this case.
+     */
+    public void putAll(Map<String, ?> values) {
+        runInTx(() -> {
+            Branch root = getRoot();
+            Map<String, Branch> branchByPath = new HashMap<>();
+            LongHashMap<Map<String, Long>> metaLeafIdsByBranchId = new LongHashMap<>();
+            for (Map.Entry<String, ?> entry : values.entrySet()) {
+                String pathString = entry.getKey();
+                String[] path = pathString.split(pathSeparatorRegex);
+                String leafName = path[path.length - 1];
+
+                Branch branch = root;
+                if (path.length > 1) {
+                    String branchPath = pathString.substring(0, pathString.length() - leafName.length());
+                    branch = branchByPath.get(branchPath);
+                    if (branch == null) {
+                        branch = root.branch(Arrays.copyOf(path, path.length - 1));
+                        if (branch == null) {
+                            throw new IllegalArgumentException("No data branch for path " + pathString);
+                        }
+                        branchByPath.put(branchPath, branch);
+                    }
+                }
+
+                long leafId;
+                long metaId;
+                Leaf leaf = branch.leafChild(leafName);
+                if (leaf != null) {
+                    leafId = leaf.getId();
+                    metaId = leaf.getMetaId();
+                } else {
+                    Map<String, Long> metaLeafIds = metaLeafIdsByBranchId.get(branch.getId());
+                    if (metaLeafIds == null) {
+                        metaLeafIds = findMetaLeafIds(branch.getId());
+                        metaLeafIdsByBranchId.put(branch.getId(), metaLeafIds);
+                    }
+                    Long metaLeafId = metaLeafIds.get(leafName);
+                    if (metaLeafId == null) {
+                        throw new IllegalArgumentException("No metadata leaf for path " + pathString);
+                    }
+                    leafId = 0;
+                    metaId = metaLeafId;
+                }
+                putValue(leafId, branch.getId(), metaId, pathString, entry.getValue());
+            }
+        });
+    }
+
+    /**
+     * Returns the IDs of the metadata leaves of the meta branch of the given data branch by name.
+     */
+    private Map<String, Long> findMetaLeafIds(long dataBranchId) {
+        TreeEntities entities = getEntities();
+        long[][] branch = entities.dataBranch.findLongsWhereOneOf("id", new long[]{dataBranchId}, "metaBranchId");
+        Map<String, Long> metaLeafIds = new HashMap<>();
+        if (branch[0].length == 0) return metaLeafIds;
+        long[] ids = entities.metaLeaf.findLongsWhereOneOf("branchId", new long[]{branch[1][0]})[0];
+        String[] names = entities.metaLeaf.findNames(ids);
+        for (int i = 0; i < ids.length; i++) {
+            if (names[i] != null) metaLeafIds.put(names[i], ids[i]);
+        }
+        return metaLeafIds;
+    }
+
+    private void putValue(long id, long parentBranchId, long metaId, String path, @Nullable Object value) {
+        if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            nativePutValueInteger(handle, id, parentBranchId, metaId, ((Number) value).longValue());
+        } else if (value instanceof Double || value instanceof Float) {
+            nativePutValueFP(handle, id, parentBranchId, metaId, ((Number) value).doubleValue());
+        } else if (value instanceof String) {
+            nativePutValueString(handle, id, parentBranchId, metaId, (String) value);
+        } else {
+            throw new IllegalArgumentException("Unsupported value for path " + path + ": " + value);
+        }
+    }
+
     /**
      * Create a (Data)Tree instance for the given meta-branch root, or find a singular root if 0 is given.
      */
@@ -0,0 +1,239 @@
+/*
+ * Copyright © 2026 ObjectBox Ltd. <https://objectbox.io>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.objectbox.tree;
+
+import java.util.Arrays;
+
+import javax.annotation.Nullable;
+
+import io.objectbox.Box;
+import io.objectbox.BoxStore;
+import io.objectbox.Property;
+import io.objectbox.model.PropertyType;
+import io.objectbox.query.Query;
+import org.greenrobot.essentials.collections.LongHashMap;
+
+/**
+ * The entity types of the tree model, matched by type and property names like the native tree implementation does.
+ * Used to query many nodes at once, e.g. all child branches of a set of branches.
+ */
+class TreeEntities {
+
+    /**
+     * An entity type of the tree model and a property query helper for it.
+     */
+    static class EntityType<T> {
+        private final Box<T> box;
+        final int entityTypeId;
+
+        EntityType(Box<T> box, int entityTypeId) {
+            this.box = box;
+            this.entityTypeId = entityTypeId;
+        }
+
+        Property<T> property(String name) {
+            for (Property<T> property : box.getEntityInfo().getAllProperties()) {
+                if (property.name.equals(name)) return property;
+            }
+            throw new IllegalStateException("Tree model type " + box.getEntityInfo().getEntityName()
+                    + " has no property " + name);
+        }
+
+        /**
+         * Returns the values of the given properties for all objects where the given property matches one of the given
+         * IDs. The first array contains the object IDs, the others the property values in the same order.
+         * Null values are returned as 0.
+         */
+        long[][] findLongsWhereOneOf(String conditionPropertyName, long[] ids, String... propertyNames) {
+            long[][] values = new long[propertyNames.length + 1][];
+            if (ids.length == 0) {
+                for (int i = 0; i < values.length; i++) values[i] = new long[0];
+                return values;
+            }
+            try (Query<T> query = box.query(property(conditionPropertyName).oneOf(ids)).build()) {
+                values[0] = query.findIds();
+                for (int i = 0; i < propertyNames.length; i++) {
+                    values[i + 1] = query.property(property(propertyNames[i])).nullValue(0L).findLongs();
+                    if (values[i + 1].length != values[0].length) {
+                        throw new IllegalStateException("Tree model property values do not match object count");
+                    }
+                }
+            }
+            return values;
+        }
+
+        /**
+         * Like {@link #findLongsWhereOneOf(String, long[], String...)}, but returns the values of a double property.
+         *
+         * @param objectIds The object IDs returned for the same condition, to verify values are in the same order.
+         */
+        double[] findDoublesWhereOneOf(String conditionPropertyName, long[] ids, long[] objectIds,
+                                       String propertyName) {
+            if (ids.length == 0) return new double[0];
+            try (Query<T> query = box.query(property(conditionPropertyName).oneOf(ids)).build()) {
+                if (!Arrays.equals(objectIds, query.findIds())) {
+                    throw new IllegalStateException("Tree model objects changed while reading");
+                }
+                return query.property(property(propertyName)).nullValue(0.0).findDoubles();
+            }
+        }
+
+        /**
+         * Returns the values of the given string property by object ID for all objects where the given property
+         * matches one of the given IDs. Objects with a null value are not included.
+         */
+        LongHashMap<String> findStringsWhereOneOf(String conditionPropertyName, long[] ids, String propertyName) {
+            LongHashMap<String> valueById = new LongHashMap<>();
+            if (ids.length == 0) return valueById;
+            Property<T> property = property(propertyName);
+            try (Query<T> query = box.query(property(conditionPropertyName).oneOf(ids).and(property.notNull()))
+                    .build()) {
+                long[] foundIds = query.findIds();
+                String[] values = query.property(property).findStrings();
+                if (values.length != foundIds.length) {
+                    throw new IllegalStateException("Tree model property values do not match object count");
+                }
+                for (int i = 0; i < foundIds.length; i++) {
+                    valueById.put(foundIds[i], values[i]);
+                }
+            }
+            return valueById;
+        }
+
+        /**
+         * Returns the values of the given short property of the objects with the given IDs in the same order, 0 if an
+         * object does not exist.
+         */
+        short[] findShorts(long[] ids, String propertyName) {
+            short[] values = new short[ids.length];
+            if (ids.length == 0) return values;
+            try (Query<T> query = box.query(property("id").oneOf(ids)).build()) {
+                long[] foundIds = query.findIds();
+                short[] foundValues = query.property(property(propertyName)).nullValue((short) 0).findShorts();
+                if (foundValues.length != foundIds.length) {
+                    throw new IllegalStateException("Tree model property values do not match object count");
+                }
+                LongHashMap<Short> valueById = new LongHashMap<>(foundIds.length);
+                for (int i = 0; i < foundIds.length; i++) {
+                    valueById.put(foundIds[i], foundValues[i]);
+                }
+                for (int i = 0; i < ids.length; i++) {
+                    Short value = valueById.get(ids[i]);
+                    values[i] = value != null ? value : 0;
+                }
+            }
+            return values;
+        }
+
+        /**
+         * Returns the names of the objects with the given IDs in the same order, null if an object does not exist.
+         */
+        String[] findNames(long[] ids) {
+            String[] names = new String[ids.length];
+            if (ids.length == 0) return names;
+            try (Query<T> query = box.query(property("id").oneOf(ids)).build()) {
+                long[] foundIds = query.findIds();
+                String[] foundNames = query.property(property("name")).nullValue("").findStrings();
+                if (foundNames.length != foundIds.length) {
+                    throw new IllegalStateException("Tree model names do not match object count");
+                }
+                LongHashMap<String> nameById = new LongHashMap<>(foundIds.length);
+                for (int i = 0; i < foundIds.length; i++) {
+                    nameById.put(foundIds[i], foundNames[i]);
+                }
+                for (int i = 0; i < ids.length; i++) {
+                    names[i] = nameById.get(ids[i]);
+                }
+            }
+            return names;
+        }
+    }
+
+    final EntityType<?> dataBranch;
+    final EntityType<?> dataLeaf;
+    final EntityType<?> metaBranch;
+    final EntityType<?> metaLeaf;
+
+    TreeEntities(BoxStore store) {
+        dataBranch = find(store, "DataBranch");
+        dataLeaf = find(store, "DataLeaf");
+        metaBranch = find(store, "MetaBranch");
+        metaLeaf = find(store, "MetaLeaf");
+    }
+
+    /**
+     * Returns the data leaves of the given data branches. The IDs and integer, floating point and string values of all
+     * leaves are read with a few queries. Values of other types, like string arrays, can not be read with a property
+     * query, so such leaves are read by ID from the given tree.
+     */
+    LeafNode[] findLeaves(Tree tree, long[] dataBranchIds) {
+        long[][] leaves = dataLeaf.findLongsWhereOneOf("dataBranchId", dataBranchIds,
+                "dataBranchId", "metaLeafId", "valueInt");
+        long[] ids = leaves[0];
+        double[] doubleValues = dataLeaf.findDoublesWhereOneOf("dataBranchId", dataBranchIds, ids, "valueDouble");
+        LongHashMap<String> stringById = dataLeaf.findStringsWhereOneOf("dataBranchId", dataBranchIds, "valueString");
+        short[] valueTypes = metaLeaf.findShorts(leaves[2], "valueType");
+
+        LeafNode[] leafNodes = new LeafNode[ids.length];
+        for (int i = 0; i < ids.length; i++) {
+            long id = ids[i];
+            long branchId = leaves[1][i];
+            long metaId = leaves[2][i];
+            // Value types like the native tree returns them, see LeafNode.valueType
+            switch (valueTypes[i]) {
+                case PropertyType.Byte:
+                case PropertyType.Char:
+                case PropertyType.Short:
+                case PropertyType.Int:
+                case PropertyType.Long:
+                    leafNodes[i] = new LeafNode(id, branchId, metaId, leaves[3][i], 0, null, PropertyType.Long);
+                    break;
+                case PropertyType.Float:
+                case PropertyType.Double:
+                    leafNodes[i] = new LeafNode(id, branchId, metaId, 0, doubleValues[i], null, PropertyType.Double);
+                    break;
+                case PropertyType.ByteVector:
+                case PropertyType.String:
+                    leafNodes[i] = new LeafNode(id, branchId, metaId, 0, 0, stringById.get(id),
+                            PropertyType.ByteVector);
+                    break;
+                default:
+                    leafNodes[i] = tree.nativeGetLeafById(tree.getHandle(), id);
+            }
+        }
+        return leafNodes;
+    }
+
+    private static EntityType<?> find(BoxStore store, String entityName) {
+        EntityType<?> entityType = findOrNull(store, entityName);
+        if (entityType == null) {
+            throw new IllegalStateException("The store has no tree model type " + entityName);
+        }
+        return entityType;
+    }
+
+    @Nullable
+    private static EntityType<?> findOrNull(BoxStore store, String entityName) {
+        for (Class<?> entityClass : store.getAllEntityClasses()) {
+            Box<?> box = store.boxFor(entityClass);
+            if (entityName.equals(box.getEntityInfo().getEntityName())) {
+                return new EntityType<>(box, store.getEntityTypeIdOrThrow(entityClass));
+            }
+        }
+        return null;
+    }
+}
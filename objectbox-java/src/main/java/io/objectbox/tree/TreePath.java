@@ -0,0 +1,98 @@
+/*
+ * Copyright © 2026 ObjectBox Ltd. <https://objectbox.io>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.objectbox.tree;
+
+import java.util.Arrays;
+
+import javax.annotation.concurrent.Immutable;
+
+import io.objectbox.annotation.apihint.Experimental;
+
+/**
+ * A prepared path of branch and leaf names, e.g. for "Book.Author.Name". Create once using {@link #of(String...)} or
+ * {@link Tree#path(String)} and re-use it for lookups with {@link Branch#branch(TreePath)} and
+ * {@link Branch#leaf(TreePath)}, which avoids splitting a path string for each lookup and may use cached branch IDs.
+ */
+@Experimental
+@Immutable
+public final class TreePath {
+
+    private final String[] names;
+
+    private TreePath(String[] names) {
+        this.names = names;
+    }
+
+    /**
+     * Creates a path of the given names.
+     */
+    public static TreePath of(String... names) {
+        //noinspection ConstantConditions Nullability annotations are not enforced.
+        if (names == null || names.length == 0) {
+            throw new IllegalArgumentException("path must not be null or empty");
+        }
+        for (String name : names) {
+            //noinspection ConstantConditions Nullability annotations are not enforced.
+            if (name == null || name.length() == 0) {
+                throw new IllegalArgumentException("names must not be null or empty");
+            }
+        }
+        return new TreePath(Arrays.copyOf(names, names.length));
+    }
+
+    /**
+     * The number of names in this path.
+     */
+    public int size() {
+        return names.length;
+    }
+
+    public String getName(int index) {
+        return names[index];
+    }
+
+    /**
+     * The last name of this path, e.g. "Name" for "Book.Author.Name".
+     */
+    public String getLastName() {
+        return names[names.length - 1];
+    }
+
+    /**
+     * Returns a copy of the names of this path.
+     */
+    public String[] toArray() {
+        return Arrays.copyOf(names, names.length);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        return Arrays.equals(names, ((TreePath) o).names);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(names);
+    }
+
+    @Override
+    public String toString() {
+        return String.join(".", names);
+    }
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright © 2026 ObjectBox Ltd. <https://objectbox.io>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.objectbox.tree;
+
+import io.objectbox.annotation.apihint.Experimental;
+
+/**
+ * Visits the branches and leaves of a {@link BranchSnapshot}, see {@link BranchSnapshot#accept(TreeVisitor)}.
+ */
+@Experimental
+public interface TreeVisitor {
+
+    /**
+     * Called for each branch before its leaves and child branches.
+     *
+     * @param depth 0 for the branch {@link BranchSnapshot#accept(TreeVisitor) accept} was called on, 1 for its child
+     * branches and so on.
+     * @return false to skip the leaves and child branches of this branch.
+     */
+    boolean visitBranch(BranchSnapshot branch, int depth);
+
+    /**
+     * Called for each leaf of a visited branch.
+     */
+    void visitLeaf(BranchSnapshot branch, String name, Leaf leaf);
+
+}
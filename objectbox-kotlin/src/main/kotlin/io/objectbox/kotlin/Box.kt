@@ -19,6 +19,8 @@ package io.objectbox.kotlin
 import io.objectbox.Box
 import io.objectbox.query.Query
 import io.objectbox.query.QueryBuilder
+import kotlinx.coroutines.ExperimentalCoroutinesApi
+import kotlinx.coroutines.withContext
 
 
 /**
@@ -38,3 +40,15 @@ inline fun <T> Box<T>.query(block: QueryBuilder<T>.() -> Unit): Query<T> {
     block(builder)
     return builder.build()
 }
+
+/**
+ * Like [Box.get], but suspends while the object is read on the [dispatcher] of the store.
+ */
+@ExperimentalCoroutinesApi
+suspend fun <T> Box<T>.getAsync(id: Long): T? = withContext(store.dispatcher) { get(id) }
+
+/**
+ * Like [Box.get], but suspends while the objects are read on the [dispatcher] of the store.
+ */
+@ExperimentalCoroutinesApi
+suspend fun <T> Box<T>.getAsync(ids: LongArray): MutableList<T> = withContext(store.dispatcher) { get(ids) }
@@ -18,8 +18,14 @@ package io.objectbox.kotlin
 
 import io.objectbox.Box
 import io.objectbox.BoxStore
+import kotlinx.coroutines.CoroutineDispatcher
+import kotlinx.coroutines.ExperimentalCoroutinesApi
 import kotlinx.coroutines.asCoroutineDispatcher
+import java.lang.ref.WeakReference
+import java.util.WeakHashMap
 import java.util.concurrent.Callable
+import java.util.concurrent.Executor
+import java.util.concurrent.RejectedExecutionException
 import java.util.concurrent.ThreadFactory
 import kotlin.coroutines.resume
 import kotlin.coroutines.resumeWithException
@@ -54,6 +60,30 @@ suspend fun <V : Any> BoxStore.awaitCallInTx(callable: Callable<V?>): V? {
     }
 }
 
+private val dispatchers = WeakHashMap<BoxStore, CoroutineDispatcher>()
+
+/**
+ * A coroutine dispatcher for reading from this store, used by suspending functions like [findAsync], [countAsync] and
+ * [getAsync].
+ *
+ * Runs on the internal thread pool of the store, which cleans up thread-local ObjectBox resources after each task. At
+ * most as many coroutines as there are CPU cores (but at least 2) run in parallel, so reads do not exhaust the
+ * readers of the store (see [io.objectbox.BoxStoreBuilder.maxReaders]).
+ */
+@ExperimentalCoroutinesApi
+val BoxStore.dispatcher: CoroutineDispatcher
+    get() = synchronized(dispatchers) {
+        dispatchers.getOrPut(this) {
+            // Do not reference the store strongly, it is the key of the weak map
+            val storeRef = WeakReference(this)
+            Executor { task ->
+                val store = storeRef.get() ?: throw RejectedExecutionException("Store was garbage collected")
+                store.internalScheduleThread(task)
+            }.asCoroutineDispatcher()
+                .limitedParallelism(Runtime.getRuntime().availableProcessors().coerceAtLeast(2))
+        }
+    }
+
 /**
  * Creates a coroutine dispatcher backed by a thread pool created with [BoxStore.newCachedThreadPoolExecutor] that
  * automatically cleans up thread-local ObjectBox resources after each task.
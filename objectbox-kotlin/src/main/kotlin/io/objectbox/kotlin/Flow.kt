@@ -4,9 +4,10 @@ import io.objectbox.BoxStore
 import io.objectbox.query.Query
 import io.objectbox.reactive.SubscriptionBuilder
 import kotlinx.coroutines.ExperimentalCoroutinesApi
+import kotlinx.coroutines.channels.Channel
 import kotlinx.coroutines.channels.awaitClose
-import kotlinx.coroutines.channels.trySendBlocking
 import kotlinx.coroutines.flow.Flow
+import kotlinx.coroutines.flow.buffer
 import kotlinx.coroutines.flow.callbackFlow
 
 
@@ -23,14 +24,18 @@ import kotlinx.coroutines.flow.callbackFlow
  * ```
  * box.query().subscribe().toFlow()
  * ```
+ *
+ * The flow is conflated: if the collector is slower than data is published, only the latest data is kept and
+ * intermediate data is dropped. This never blocks the ObjectBox thread publishing the data.
  */
 @ExperimentalCoroutinesApi
 fun <T> SubscriptionBuilder<T>.toFlow(): Flow<T> = callbackFlow {
     val subscription = this@toFlow.observer {
-            trySendBlocking(it)
-        }
+        // Always succeeds as the channel is conflated
+        trySend(it)
+    }
     awaitClose { subscription.cancel() }
-}
+}.buffer(Channel.CONFLATED)
 
 /**
  * Shortcut for `BoxStore.subscribe(forClass).toFlow()`, see [BoxStore.subscribe] and [toFlow] for details.
@@ -40,6 +45,10 @@ fun <T> BoxStore.flow(forClass: Class<T>): Flow<Class<T>> = this.subscribe(forCl
 
 /**
  * Shortcut for `query.subscribe().toFlow()`, see [Query.subscribe] and [toFlow] for details.
+ *
+ * Emits the results of this query initially, after each change to its box and when [Query.publish] is called, e.g.
+ * after changing parameters. Like [toFlow], the flow is conflated: if the collector is busy, it only receives the
+ * latest results.
  */
 @ExperimentalCoroutinesApi
-fun <T> Query<T>.flow(): Flow<MutableList<T>> = this@flow.subscribe().toFlow()
\ No newline at end of file
+fun <T> Query<T>.flow(): Flow<MutableList<T>> = this@flow.subscribe().toFlow()
@@ -0,0 +1,40 @@
+/*
+ * Copyright © 2026 ObjectBox Ltd. <https://objectbox.io>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.objectbox.kotlin
+
+import io.objectbox.query.Query
+import kotlinx.coroutines.ExperimentalCoroutinesApi
+import kotlinx.coroutines.withContext
+
+
+/**
+ * Like [Query.find], but suspends while the query runs on the [dispatcher] of the store.
+ */
+@ExperimentalCoroutinesApi
+suspend fun <T> Query<T>.findAsync(): MutableList<T> = withContext(box.store.dispatcher) { find() }
+
+/**
+ * Like [Query.findFirst], but suspends while the query runs on the [dispatcher] of the store.
+ */
+@ExperimentalCoroutinesApi
+suspend fun <T> Query<T>.findFirstAsync(): T? = withContext(box.store.dispatcher) { findFirst() }
+
+/**
+ * Like [Query.count], but suspends while the query runs on the [dispatcher] of the store.
+ */
+@ExperimentalCoroutinesApi
+suspend fun <T> Query<T>.countAsync(): Long = withContext(box.store.dispatcher) { count() }
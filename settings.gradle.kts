@@ -67,3 +67,4 @@ if (excludeAndroid == null) {
 
 include(":tests:objectbox-java-test")
 include(":tests:test-proguard")
+include(":tests:sync-load-test")
@@ -16,11 +16,14 @@
 
 package io.objectbox.relation;
 
+import io.objectbox.BoxStore;
 import io.objectbox.EntityInfo;
 import io.objectbox.Property;
 import io.objectbox.annotation.apihint.Internal;
+import io.objectbox.internal.BoxStoreAccessor;
 import io.objectbox.internal.CursorFactory;
 import io.objectbox.internal.IdGetter;
+import io.objectbox.internal.TargetIdAccessor;
 import io.objectbox.internal.ToOneGetter;
 import io.objectbox.relation.OrderCursor.Factory;
 
@@ -30,7 +33,7 @@ import io.objectbox.relation.OrderCursor.Factory;
 /**
  * Properties for entity "ORDERS". Can be used for QueryBuilder and for referencing DB names.
  */
-public class Order_ implements EntityInfo<Order> {
+public class Order_ implements EntityInfo<Order>, BoxStoreAccessor<Order> {
 
 
     // Leading underscores for static constants to avoid naming conflicts with property names
@@ -103,6 +106,16 @@ public class Order_ implements EntityInfo<Order> {
         return __CURSOR_FACTORY;
     }
 
+    @Override
+    public BoxStore getBoxStore(Order object) {
+        return object.__boxStore;
+    }
+
+    @Override
+    public void setBoxStore(Order object, BoxStore boxStore) {
+        object.__boxStore = boxStore;
+    }
+
     @Internal
     static final class OrderIdGetter implements IdGetter<Order> {
         public long getId(Order object) {
@@ -115,6 +128,16 @@ public class Order_ implements EntityInfo<Order> {
         public ToOne<Customer> getToOne(Order object) {
             return object.getCustomer();
         }
+    }, new TargetIdAccessor<Order>() {
+        @Override
+        public long getTargetId(Order object) {
+            return object.customerId;
+        }
+
+        @Override
+        public void setTargetId(Order object, long targetId) {
+            object.customerId = targetId;
+        }
     });
 
 }
@@ -301,7 +301,13 @@ public abstract class AbstractObjectBoxTest {
         entityBuilder.property("charArray", PropertyType.CharVector).id(TestEntity_.charArray.id, ++lastUid);
         entityBuilder.property("intArray", PropertyType.IntVector).id(TestEntity_.intArray.id, ++lastUid);
         entityBuilder.property("longArray", PropertyType.LongVector).id(TestEntity_.longArray.id, ++lastUid);
-        entityBuilder.property("floatArray", PropertyType.FloatVector).id(TestEntity_.floatArray.id, ++lastUid);
+        PropertyBuilder floatArrayBuilder = entityBuilder.property("floatArray", PropertyType.FloatVector)
+                .id(TestEntity_.floatArray.id, ++lastUid);
+        if (hasFloatArrayHnswIndex()) {
+            lastIndexUid = ++lastUid;
+            floatArrayBuilder.flags(PropertyFlags.INDEXED).indexId(++lastIndexId, lastIndexUid)
+                    .hnswParams(2, null, null, null, null, null, null);
+        }
         entityBuilder.property("doubleArray", PropertyType.DoubleVector).id(TestEntity_.doubleArray.id, ++lastUid);
 
         // Date property
@@ -316,6 +322,13 @@ public abstract class AbstractObjectBoxTest {
     protected void addOptionalFlagsToTestEntity(EntityBuilder entityBuilder) {
     }
 
+    /**
+     * If true, TestEntity.floatArray gets an HNSW index (2 dimensions) to support nearest neighbor search.
+     */
+    protected boolean hasFloatArrayHnswIndex() {
+        return false;
+    }
+
     private void addTestEntityMinimal(ModelBuilder modelBuilder, boolean withIndex) {
         lastEntityUid = ++lastUid;
         EntityBuilder entityBuilder = modelBuilder.entity("TestEntityMinimal").id(++lastEntityId, lastEntityUid);
@@ -19,9 +19,14 @@ package io.objectbox;
 import org.junit.Test;
 import org.junit.function.ThrowingRunnable;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
+import java.io.IOException;
 import java.util.concurrent.Callable;
 import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 
 import io.objectbox.exception.DbException;
 
@@ -35,6 +40,7 @@ import static org.junit.Assert.assertThrows;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 import static org.junit.Assume.assumeFalse;
+import static org.junit.Assume.assumeTrue;
 
 public class BoxStoreTest extends AbstractObjectBoxTest {
 
@@ -370,4 +376,167 @@ public class BoxStoreTest extends AbstractObjectBoxTest {
         }
     }
 
-}
\ No newline at end of file
+    @Test
+    public void backupTo_restoreWithInitialDbFile() throws IOException {
+        assumeFalse(IN_MEMORY);
+        putTestEntities(10);
+
+        File backupDir = prepareTempDir("backup-test");
+        assertTrue(backupDir.mkdir());
+        File restoreDir = prepareTempDir("restore-test");
+        try {
+            File backupFile = new File(backupDir, "backup.gz");
+            AtomicLong lastBytesWritten = new AtomicLong();
+            store.backupTo(backupFile, new BackupOptions()
+                    .compress()
+                    .progressListener((bytesWritten, bytesTotal) -> lastBytesWritten.set(bytesWritten)));
+            assertTrue(backupFile.length() > 0);
+            assertTrue(lastBytesWritten.get() > 0);
+            assertFalse(new File(backupDir, "backup.gz.tmp").exists());
+
+            // Changes after the backup are not included
+            putTestEntities(5);
+
+            BoxStoreBuilder builder = createBuilderWithTestModel().directory(restoreDir).initialDbFile(backupFile);
+            builder.entity(new TestEntity_());
+            try (BoxStore restored = builder.build()) {
+                assertEquals(10, restored.boxFor(TestEntity.class).count());
+            }
+        } finally {
+            cleanUpAllFiles(backupDir);
+            cleanUpAllFiles(restoreDir);
+        }
+    }
+
+    @Test
+    public void backupTo_whileWriting_restoresConsistentSnapshot() throws Exception {
+        assumeFalse(IN_MEMORY);
+        putTestEntities(100);
+
+        File backupDir = prepareTempDir("backup-test");
+        assertTrue(backupDir.mkdir());
+        File restoreDir = prepareTempDir("restore-test");
+        AtomicBoolean writing = new AtomicBoolean(true);
+        AtomicLong commits = new AtomicLong();
+        Box<TestEntity> box = getTestEntityBox();
+        Thread writer = new Thread(() -> {
+            // Each commit adds one object and updates another, so meta pages and data pages change constantly
+            while (writing.get()) {
+                store.runInTx(() -> {
+                    box.put(createTestEntity("write", 1));
+                    TestEntity first = box.get(1);
+                    first.setSimpleInt(first.getSimpleInt() + 1);
+                    box.put(first);
+                });
+                commits.incrementAndGet();
+            }
+        });
+        try {
+            writer.start();
+            File backupFile = new File(backupDir, "backup");
+            // Throttle to take about a second, so the backup overlaps with many commits
+            long dataFileSize = new File(boxStoreDir, "data.mdb").length();
+            store.backupTo(backupFile, new BackupOptions().maxBytesPerSecond(dataFileSize));
+            writing.set(false);
+            writer.join(10_000);
+            assertTrue(commits.get() > 0);
+
+            BoxStoreBuilder builder = createBuilderWithTestModel().directory(restoreDir).initialDbFile(backupFile);
+            builder.entity(new TestEntity_());
+            try (BoxStore restored = builder.build()) {
+                assertTrue(restored.validate(0, true) > 0);
+                Box<TestEntity> restoredBox = restored.boxFor(TestEntity.class);
+                long count = restoredBox.count();
+                assertTrue(count >= 100);
+                // Each commit added one object and incremented the first object in the same transaction
+                assertEquals(count - 100, restoredBox.get(1).getSimpleInt() - 1);
+                assertEquals(count, restoredBox.getAll().size());
+            }
+        } finally {
+            writing.set(false);
+            writer.join(10_000);
+            cleanUpAllFiles(backupDir);
+            cleanUpAllFiles(restoreDir);
+        }
+    }
+
+    @Test
+    public void backupTo_inMemory_throws() {
+        assumeTrue(IN_MEMORY);
+        assertThrows(IllegalStateException.class,
+                () -> store.backupTo(new ByteArrayOutputStream(), new BackupOptions()));
+    }
+
+    @Test
+    public void initialDbFile_invalid_isDeleted() throws IOException {
+        assumeFalse(IN_MEMORY);
+        File restoreDir = prepareTempDir("restore-test");
+        try {
+            byte[] invalidFile = new byte[8192];
+            BoxStoreBuilder builder = createBuilderWithTestModel().directory(restoreDir)
+                    .initialDbFile(() -> new ByteArrayInputStream(invalidFile));
+            builder.entity(new TestEntity_());
+            assertThrows(RuntimeException.class, builder::build);
+            assertFalse(new File(restoreDir, "data.mdb").exists());
+        } finally {
+            cleanUpAllFiles(restoreDir);
+        }
+    }
+
+    @Test
+    public void startupTimings() {
+        StartupTimings timings = store.getStartupTimings();
+        assertTrue(timings.getOpenNanos() > 0);
+        assertTrue(timings.getEntityRegistrationNanos() > 0);
+        assertEquals(0, timings.getModelVerificationNanos());
+        assertTrue(timings.getTotalNanos() >= timings.getNativeLibraryLoadNanos() + timings.getOpenNanos()
+                + timings.getEntityRegistrationNanos());
+    }
+
+    @Test
+    public void lazyEntityRegistration() {
+        store.close();
+        store = createBoxStoreBuilderWithTwoEntities(false).lazyEntityRegistration().build();
+
+        // Entity type IDs are known before registration, e.g. for observers
+        assertEquals(TestEntity_.__ENTITY_ID, store.getEntityTypeIdOrThrow(TestEntity.class));
+
+        putTestEntities(3);
+        assertEquals(3, getTestEntityBox().count());
+        assertEquals(0, store.boxFor(TestEntityMinimal.class).count());
+        // Cursors can be created without a Box
+        try (Transaction tx = store.beginReadTx()) {
+            tx.createCursor(TestEntityMinimal.class).close();
+        }
+    }
+
+    @Test
+    public void cacheModelVerification_writesFingerprint() throws InterruptedException {
+        assumeFalse(IN_MEMORY);
+        store.close();
+        store = createBoxStoreBuilder(null).cacheModelVerification().build();
+
+        // Verified in the background
+        File fingerprintFile = new File(boxStoreDir, ModelFingerprint.FILE_NAME);
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!fingerprintFile.exists() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        String fingerprint = ModelFingerprint.read(fingerprintFile);
+        assertNotNull(fingerprint);
+        assertEquals(64, fingerprint.length());
+
+        store.close();
+        store = createBoxStoreBuilder(null).cacheModelVerification().build();
+        assertTrue(store.getStartupTimings().getModelVerificationNanos() > 0);
+        putTestEntities(1);
+        assertEquals(1, getTestEntityBox().count());
+        assertEquals(fingerprint, ModelFingerprint.read(fingerprintFile));
+
+        // Is removed along with the database files
+        store.close();
+        assertTrue(store.deleteAllFiles());
+        assertFalse(boxStoreDir.exists());
+    }
+
+}
@@ -413,4 +413,62 @@ public class BoxTest extends AbstractObjectBoxTest {
         assertTrue(box.isEmpty());
     }
 
+    @Test
+    public void isChanged() {
+        TestEntity entity = createTestEntity("foo", 42);
+        assertTrue(box.isChanged(entity)); // No ID
+        box.put(entity);
+        assertFalse(box.isChanged(entity));
+        assertFalse(box.isChanged(box.get(entity.getId())));
+
+        entity.setSimpleInt(43);
+        assertTrue(box.isChanged(entity));
+        entity.setSimpleInt(42);
+        entity.getSimpleByteArray()[0] = 9;
+        assertTrue(box.isChanged(entity));
+
+        box.remove(entity);
+        assertTrue(box.isChanged(entity)); // Not stored
+    }
+
+    @Test
+    public void putIfChanged_skipsUnchanged() {
+        TestEntity entity = createTestEntity("foo", 42);
+        assertTrue(box.putIfChanged(entity));
+        assertTrue(entity.getId() > 0);
+
+        int entityTypeId = box.getEntityInfo().getEntityId();
+        int commitCount = store.getCommitCount(entityTypeId);
+        assertFalse(box.putIfChanged(entity));
+        assertEquals(commitCount, store.getCommitCount(entityTypeId));
+
+        entity.setSimpleString("bar");
+        assertTrue(box.putIfChanged(entity));
+        assertEquals(commitCount + 1, store.getCommitCount(entityTypeId));
+        assertEquals("bar", box.get(entity.getId()).getSimpleString());
+    }
+
+    @Test
+    public void putCollection_skipUnchanged() {
+        List<TestEntity> entities = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            entities.add(createTestEntity("foo" + i, i));
+        }
+        assertEquals(5, box.put(entities, true));
+
+        int entityTypeId = box.getEntityInfo().getEntityId();
+        int commitCount = store.getCommitCount(entityTypeId);
+        assertEquals(0, box.put(entities, true));
+        assertEquals(commitCount, store.getCommitCount(entityTypeId));
+
+        entities.get(2).setSimpleLong(-1);
+        entities.add(createTestEntity("new", 5));
+        assertEquals(2, box.put(entities, true));
+        assertEquals(6, box.count());
+        assertEquals(-1, box.get(entities.get(2).getId()).getSimpleLong());
+
+        // Without skipping, all objects are put
+        assertEquals(6, box.put(entities, false));
+    }
+
 }
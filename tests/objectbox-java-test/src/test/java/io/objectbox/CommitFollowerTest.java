@@ -0,0 +1,148 @@
+/*
+ * Copyright © 2026 ObjectBox Ltd. <https://objectbox.io>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.objectbox;
+
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.objectbox.reactive.DataSubscription;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeFalse;
+
+/**
+ * A writer and a follower store can not be opened in the same process. So this follows the data file of the test store
+ * (which writes to it) or a data file with just meta pages.
+ */
+public class CommitFollowerTest extends AbstractObjectBoxTest {
+
+    private static final int PAGE_SIZE = 4096;
+
+    private static void writeMetaPage(RandomAccessFile file, int page, int magic, long txnId) throws IOException {
+        ByteBuffer meta = ByteBuffer.allocate(PAGE_SIZE).order(ByteOrder.nativeOrder());
+        meta.putInt(16, magic);
+        meta.putInt(16 + 24, PAGE_SIZE);
+        meta.putLong(16 + 128, txnId);
+        file.seek((long) page * PAGE_SIZE);
+        file.write(meta.array());
+    }
+
+    @Test
+    public void followsTransactionId() throws IOException, InterruptedException {
+        File dataFile = new File(prepareTempDir("follower-test"), "data.mdb");
+        AtomicInteger notifications = new AtomicInteger();
+        DataSubscription subscription = store.subscribe(TestEntity.class).onlyChanges()
+                .observer(data -> notifications.incrementAndGet());
+        try (RandomAccessFile file = new RandomAccessFile(dataFile, "rw")) {
+            writeMetaPage(file, 0, 0xBEEFC0DE, 4);
+            writeMetaPage(file, 1, 0xBEEFC0DE, 5);
+
+            CommitFollower follower = new CommitFollower(store, dataFile, 1000);
+            try {
+                assertEquals(0, follower.getLagCommits());
+                assertFalse(follower.poll());
+
+                int commitCount = store.commitCount;
+                writeMetaPage(file, 0, 0xBEEFC0DE, 7);
+                assertEquals(2, follower.getLagCommits());
+                assertTrue(follower.poll());
+                assertEquals(0, follower.getLagCommits());
+                assertEquals(commitCount + 1, store.commitCount);
+
+                // Observers are notified asynchronously
+                long deadline = System.currentTimeMillis() + 5000;
+                while (notifications.get() == 0 && System.currentTimeMillis() < deadline) {
+                    Thread.sleep(10);
+                }
+                assertEquals(1, notifications.get());
+            } finally {
+                follower.stop();
+            }
+        } finally {
+            subscription.cancel();
+            cleanUpAllFiles(dataFile.getParentFile());
+        }
+    }
+
+    @Test
+    public void followsCommitsOfDataFile() throws IOException {
+        assumeFalse(IN_MEMORY);
+        putTestEntities(1);
+        File dataFile = new File(boxStoreDir, "data.mdb");
+
+        CommitFollower follower = new CommitFollower(store, dataFile, 1000);
+        try {
+            assertEquals(0, follower.getLagCommits());
+            assertFalse(follower.poll());
+
+            // Each put is a commit
+            putTestEntity("follow", 1);
+            putTestEntity("follow", 2);
+            assertTrue(follower.getLagCommits() >= 2);
+            assertTrue(follower.poll());
+            assertEquals(0, follower.getLagCommits());
+            assertFalse(follower.poll());
+        } finally {
+            follower.stop();
+        }
+    }
+
+    @Test
+    public void unknownFormat_fallsBackToFileChanges() throws IOException {
+        File dataFile = new File(prepareTempDir("follower-test"), "data.mdb");
+        try (RandomAccessFile file = new RandomAccessFile(dataFile, "rw")) {
+            writeMetaPage(file, 0, 0x12345678, 1);
+
+            CommitFollower follower = new CommitFollower(store, dataFile, 1000);
+            try {
+                assertEquals(-1, follower.getLagCommits());
+                assertFalse(follower.poll());
+
+                writeMetaPage(file, 1, 0x12345678, 2); // Grows the file
+                assertTrue(follower.poll());
+                assertFalse(follower.poll());
+            } finally {
+                follower.stop();
+            }
+        } finally {
+            cleanUpAllFiles(dataFile.getParentFile());
+        }
+    }
+
+    @Test
+    public void notFollower_throws() {
+        assertThrows(IllegalStateException.class, () -> store.getFollowLagCommits());
+    }
+
+    @Test
+    public void follower_inMemory_throws() {
+        store.close();
+        BoxStoreBuilder builder = createBoxStoreBuilder(null).inMemory("follower-test").follower();
+        assertTrue(builder.readOnly);
+        assertThrows(IllegalArgumentException.class, builder::build);
+    }
+
+}
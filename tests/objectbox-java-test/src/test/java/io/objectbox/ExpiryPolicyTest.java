@@ -0,0 +1,128 @@
+/*
+ * Copyright © 2026 ObjectBox Ltd. <https://objectbox.io>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.objectbox;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import io.objectbox.reactive.DataSubscription;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+public class ExpiryPolicyTest extends AbstractObjectBoxTest {
+
+    private static final long MAX_AGE_MILLIS = TimeUnit.HOURS.toMillis(1);
+
+    private void reopenWithExpiry(ExpiryPolicy<TestEntity> policy, long intervalMillis) {
+        store.close();
+        store = createBoxStoreBuilder(null)
+                .expiry(policy)
+                .expiryPurgeInterval(intervalMillis)
+                .build();
+    }
+
+    private void putEntities(int expiredCount, int validCount) {
+        long now = System.currentTimeMillis();
+        List<TestEntity> entities = new ArrayList<>();
+        for (int i = 0; i < expiredCount + validCount; i++) {
+            TestEntity entity = createTestEntity("expiry" + i, i);
+            long age = i < expiredCount ? MAX_AGE_MILLIS * 2 : MAX_AGE_MILLIS / 2;
+            entity.setDate(new Date(now - age));
+            entities.add(entity);
+        }
+        getTestEntityBox().put(entities);
+    }
+
+    @Test
+    public void purgeExpired_removesInBatches() {
+        // Long interval, so only the initial purge runs in the background
+        reopenWithExpiry(ExpiryPolicy.of(TestEntity_.date, MAX_AGE_MILLIS).batchSize(10).batchPauseMillis(0),
+                TimeUnit.HOURS.toMillis(1));
+        putEntities(25, 5);
+
+        // The initial background purge may run before or after the put, so only check totals
+        store.purgeExpired();
+        assertEquals(5, getTestEntityBox().count());
+
+        ExpiryStats stats = store.getExpiryStats();
+        assertEquals(25, stats.getRemovedObjectCount());
+        assertEquals(3, stats.getBatchCount()); // 10, 10 and 5
+        assertTrue(stats.getPurgeCount() >= 1);
+        assertTrue(stats.getLastPurgeTimeMillis() > 0);
+
+        assertEquals(0, store.purgeExpired());
+    }
+
+    @Test
+    public void purgeInBackground_notifiesObservers() throws InterruptedException {
+        reopenWithExpiry(ExpiryPolicy.of(TestEntity_.date, MAX_AGE_MILLIS), 50);
+
+        CountDownLatch removed = new CountDownLatch(1);
+        DataSubscription subscription = store.subscribe(TestEntity.class).onlyChanges()
+                .observer(data -> {
+                    if (getTestEntityBox().count() == 5) removed.countDown();
+                });
+        putEntities(20, 5);
+
+        assertTrue(removed.await(5, TimeUnit.SECONDS));
+        subscription.cancel();
+    }
+
+    @Test
+    public void purgeExpired_interrupted_doesNotStopBackgroundPurge() throws InterruptedException {
+        reopenWithExpiry(ExpiryPolicy.of(TestEntity_.date, MAX_AGE_MILLIS).batchSize(10).batchPauseMillis(50), 50);
+        putEntities(25, 5);
+
+        // Returns early instead of waiting before the next batch
+        Thread.currentThread().interrupt();
+        try {
+            assertTrue(store.purgeExpired() <= 10);
+        } finally {
+            assertTrue(Thread.interrupted());
+        }
+
+        // The background purge still runs
+        long deadline = System.currentTimeMillis() + 5000;
+        while (getTestEntityBox().count() > 5 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+        assertEquals(5, getTestEntityBox().count());
+    }
+
+    @Test
+    public void noExpiryPolicy() {
+        assertNull(store.getExpiryStats());
+        assertThrows(IllegalStateException.class, () -> store.purgeExpired());
+    }
+
+    @Test
+    public void policy_invalidArguments_throw() {
+        assertThrows(IllegalArgumentException.class, () -> ExpiryPolicy.of(TestEntity_.date, 0));
+        ExpiryPolicy<TestEntity> policy = ExpiryPolicy.of(TestEntity_.date, 1);
+        assertThrows(IllegalArgumentException.class, () -> policy.batchSize(0));
+        assertThrows(IllegalArgumentException.class, () -> policy.batchPauseMillis(-1));
+    }
+
+}
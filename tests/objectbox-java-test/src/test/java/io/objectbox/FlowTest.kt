@@ -4,8 +4,11 @@ import app.cash.turbine.test
 import io.objectbox.kotlin.flow
 import io.objectbox.kotlin.query
 import kotlinx.coroutines.ExperimentalCoroutinesApi
+import kotlinx.coroutines.delay
+import kotlinx.coroutines.flow.first
 import kotlinx.coroutines.runBlocking
 import org.junit.Assert.assertEquals
+import org.junit.Assert.assertTrue
 import org.junit.Test
 import kotlin.time.ExperimentalTime
 
@@ -41,4 +44,43 @@ class FlowTest : AbstractObjectBoxTest() {
             }
         }
     }
-}
\ No newline at end of file
+
+    @ExperimentalTime
+    @ExperimentalCoroutinesApi
+    @Test
+    fun flow_query_publishAfterSetParameter() {
+        putTestEntities(3)
+        val query = testEntityBox.query(TestEntity_.simpleInt.equal(1)).build()
+        runBlocking {
+            query.flow().test {
+                assertEquals(1, expectItem().size)
+                query.setParameter(TestEntity_.simpleInt, 2)
+                query.publish()
+                assertEquals(2, expectItem()[0].simpleInt)
+                cancel() // expect no more events
+            }
+        }
+    }
+
+    @ExperimentalCoroutinesApi
+    @Test
+    fun flow_query_conflatesWhileCollectorBusy() {
+        val query = testEntityBox.query().build()
+        val sizes = mutableListOf<Int>()
+        runBlocking {
+            query.flow().first { result ->
+                sizes.add(result.size)
+                if (result.isEmpty()) {
+                    // While the collector is busy, each put reports a change
+                    for (i in 1..10) putTestEntity("conflate", i)
+                    delay(100)
+                }
+                result.size == 10
+            }
+        }
+        // The collector did not receive results for each change
+        assertEquals(0, sizes.first())
+        assertEquals(10, sizes.last())
+        assertTrue(sizes.size < 11)
+    }
+}
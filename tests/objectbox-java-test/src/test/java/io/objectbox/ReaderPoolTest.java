@@ -0,0 +1,150 @@
+/*
+ * Copyright © 2026 ObjectBox Ltd. <https://objectbox.io>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.objectbox;
+
+import org.junit.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import io.objectbox.exception.DbMaxReadersExceededException;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+public class ReaderPoolTest extends AbstractObjectBoxTest {
+
+    private void reopenWithReaderPool(ReaderPoolOptions options) {
+        store.close();
+        store = createBoxStoreBuilderWithTwoEntities(false)
+                .readerPool(options)
+                .build();
+    }
+
+    @Test
+    public void noReaderPool() {
+        assertNull(store.getReaderPoolStats());
+    }
+
+    @Test
+    public void readerPool_impliesNoReaderThreadLocals() {
+        BoxStoreBuilder builder = new BoxStoreBuilder(createTestModel(null))
+                .readerPool(new ReaderPoolOptions());
+        assertTrue(builder.noReaderThreadLocals);
+    }
+
+    @Test
+    public void reads_leaseAndReleaseReader() {
+        reopenWithReaderPool(new ReaderPoolOptions().maxActiveThreads(2));
+        putTestEntities(5);
+        Box<TestEntity> box = getTestEntityBox();
+
+        assertNotNull(box.get(1));
+        assertEquals(5, box.count());
+        assertEquals(5, box.query().build().find().size());
+        assertTrue(box.hasReaderCursorForCurrentThread());
+
+        ReaderPoolStats stats = store.getReaderPoolStats();
+        assertEquals(0, stats.getActiveReaderCount());
+        assertEquals(1, stats.getIdleReaderCount());
+        assertEquals(0, stats.getOldestActiveReaderAgeMillis());
+        assertTrue(stats.getLeaseCount() >= 3);
+
+        store.closeThreadResources();
+        assertEquals(0, store.getReaderPoolStats().getIdleReaderCount());
+        // A new reader is created on the next read
+        assertEquals(5, box.count());
+    }
+
+    @Test
+    public void nestedReads_useSinglePermit() {
+        reopenWithReaderPool(new ReaderPoolOptions().maxActiveThreads(1).leaseTimeoutMillis(100));
+        putTestEntities(1);
+        Box<TestEntityMinimal> otherBox = store.boxFor(TestEntityMinimal.class);
+
+        long count = getTestEntityBox().internalCallWithReaderHandle(cursorHandle -> otherBox.count());
+        assertEquals(0, count);
+        assertEquals(0, store.getReaderPoolStats().getLeaseTimeoutCount());
+    }
+
+    @Test
+    public void maxActiveThreads_timesOut() throws InterruptedException {
+        reopenWithReaderPool(new ReaderPoolOptions().maxActiveThreads(1).leaseTimeoutMillis(50));
+        putTestEntities(1);
+        Box<TestEntity> box = getTestEntityBox();
+
+        CountDownLatch leased = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Thread thread = new Thread(() -> {
+            box.internalCallWithReaderHandle(cursorHandle -> {
+                leased.countDown();
+                try {
+                    release.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    throw new RuntimeException(e);
+                }
+                return null;
+            });
+            box.closeThreadResources();
+        });
+        thread.start();
+        assertLatchCountedDown(leased, 5);
+
+        assertThrows(DbMaxReadersExceededException.class, () -> box.get(1));
+        ReaderPoolStats stats = store.getReaderPoolStats();
+        assertEquals(1, stats.getActiveReaderCount());
+        assertEquals(1, stats.getLeaseTimeoutCount());
+        assertTrue(stats.getMaxLeaseWaitMillis() >= 50);
+        assertTrue(stats.getOldestActiveReaderAgeMillis() >= 50);
+
+        release.countDown();
+        thread.join(5000);
+        assertNotNull(box.get(1));
+    }
+
+    @Test
+    public void idleReaderOfEndedThread_isEvicted() throws InterruptedException {
+        reopenWithReaderPool(new ReaderPoolOptions().idleTimeoutMillis(100));
+        putTestEntities(1);
+        Box<TestEntity> box = getTestEntityBox();
+
+        // Does not call closeThreadResources()
+        Thread thread = new Thread(() -> box.get(1));
+        thread.start();
+        thread.join(5000);
+
+        long deadline = System.currentTimeMillis() + 5000;
+        while (store.getReaderPoolStats().getIdleReaderCount() > 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+        ReaderPoolStats stats = store.getReaderPoolStats();
+        assertEquals(0, stats.getIdleReaderCount());
+        assertEquals(1, stats.getEvictedReaderCount());
+    }
+
+    @Test
+    public void options_invalidArguments_throw() {
+        ReaderPoolOptions options = new ReaderPoolOptions();
+        assertThrows(IllegalArgumentException.class, () -> options.maxActiveThreads(-1));
+        assertThrows(IllegalArgumentException.class, () -> options.leaseTimeoutMillis(-1));
+        assertThrows(IllegalArgumentException.class, () -> options.idleTimeoutMillis(-1));
+    }
+
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright © 2026 ObjectBox Ltd. <https://objectbox.io>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.objectbox.converter;
+
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import io.objectbox.flatbuffers.FlexBuffersBuilder;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+
+public class FlexBuffersBuilderPoolTest {
+
+    @After
+    public void resetMaxBuilderBytes() {
+        FlexBuffersBuilderPool.setMaxBuilderBytes(FlexBuffersBuilderPool.DEFAULT_MAX_BUILDER_BYTES);
+    }
+
+    @Test
+    public void release_sameThread_reuses() {
+        FlexBuffersBuilderPool pool = new FlexBuffersBuilderPool(4);
+        FlexBuffersBuilder builder = pool.acquire();
+        pool.release(builder, 100);
+        assertSame(builder, pool.acquire());
+        // Not released, so a new one
+        assertNotSame(builder, pool.acquire());
+    }
+
+    @Test
+    public void release_tooLarge_discards() {
+        FlexBuffersBuilderPool pool = new FlexBuffersBuilderPool(4);
+        FlexBuffersBuilder builder = pool.acquire();
+        pool.release(builder, FlexBuffersBuilderPool.DEFAULT_MAX_BUILDER_BYTES + 1);
+        assertNotSame(builder, pool.acquire());
+
+        FlexBuffersBuilderPool.setMaxBuilderBytes(0);
+        builder = pool.acquire();
+        pool.release(builder, 1);
+        assertNotSame(builder, pool.acquire());
+
+        assertThrows(IllegalArgumentException.class, () -> FlexBuffersBuilderPool.setMaxBuilderBytes(-1));
+    }
+
+    @Test
+    public void converters_concurrentPuts() throws Exception {
+        FlexObjectConverter converter = new StringFlexMapConverter();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                int thread = t;
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 1000; i++) {
+                        Map<String, Object> map = new HashMap<>();
+                        map.put("thread", thread);
+                        map.put("i", i);
+                        assertEquals(map, converter.convertToEntityProperty(converter.convertToDatabaseValue(map)));
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright © 2026 ObjectBox Ltd. <https://objectbox.io>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.objectbox.converter;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests {@link LazyStringFlexMapConverter} restores the same values as {@link StringFlexMapConverter}.
+ */
+public class LazyStringFlexMapConverterTest {
+
+    private final LazyStringFlexMapConverter converter = new LazyStringFlexMapConverter();
+
+    private static Map<String, Object> createMap() {
+        Map<String, Object> map = new HashMap<>();
+        for (int i = 0; i < 200; i++) {
+            map.put("key" + i, "value" + i);
+        }
+        map.put("int", 42);
+        map.put("double", 1.5d);
+        map.put("boolean", true);
+        map.put("null", null);
+        map.put("list", Arrays.asList("a", 1, null));
+        Map<String, Object> nested = new HashMap<>();
+        nested.put("nested-key", "nested-value");
+        map.put("map", nested);
+        return map;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<Object, Object> convertAndBack(Map<String, Object> map) {
+        return (Map<Object, Object>) converter.convertToEntityProperty(converter.convertToDatabaseValue(map));
+    }
+
+    @Test
+    public void get_decodesOnAccess() {
+        Map<String, Object> expected = createMap();
+        Map<Object, Object> lazyMap = convertAndBack(expected);
+
+        assertEquals(expected.size(), lazyMap.size());
+        assertEquals("value123", lazyMap.get("key123"));
+        // Restored as Long as the map contains a 64-bit value (the double)
+        assertEquals(42L, lazyMap.get("int"));
+        assertEquals(1.5d, lazyMap.get("double"));
+        assertEquals(true, lazyMap.get("boolean"));
+        assertEquals(Arrays.asList("a", 1, null), lazyMap.get("list"));
+        assertEquals("nested-value", ((Map<?, ?>) lazyMap.get("map")).get("nested-key"));
+
+        assertNull(lazyMap.get("null"));
+        assertTrue(lazyMap.containsKey("null"));
+        assertNull(lazyMap.get("missing"));
+        assertFalse(lazyMap.containsKey("missing"));
+        assertNull(lazyMap.get(1));
+    }
+
+    @Test
+    public void equals_eagerMap() {
+        Map<String, Object> map = createMap();
+        StringFlexMapConverter eagerConverter = new StringFlexMapConverter();
+        Object eagerMap = eagerConverter.convertToEntityProperty(eagerConverter.convertToDatabaseValue(map));
+
+        Map<Object, Object> lazyMap = convertAndBack(map);
+        assertEquals(eagerMap, lazyMap);
+        assertEquals(lazyMap, eagerMap);
+        assertEquals(eagerMap.hashCode(), lazyMap.hashCode());
+    }
+
+    @Test
+    public void modify_copiesOnWrite() {
+        Map<Object, Object> lazyMap = convertAndBack(createMap());
+
+        assertEquals("value1", lazyMap.put("key1", "changed"));
+        assertEquals("changed", lazyMap.get("key1"));
+        lazyMap.put("new", 1);
+        assertEquals(207, lazyMap.size());
+        assertEquals("value2", lazyMap.remove("key2"));
+        assertFalse(lazyMap.containsKey("key2"));
+
+        // Removing through iterator
+        Map<Object, Object> lazyMap2 = convertAndBack(createMap());
+        Iterator<Map.Entry<Object, Object>> iterator = lazyMap2.entrySet().iterator();
+        int removed = 0;
+        while (iterator.hasNext()) {
+            Map.Entry<Object, Object> entry = iterator.next();
+            if (entry.getKey().toString().startsWith("key")) {
+                iterator.remove();
+                removed++;
+            }
+        }
+        assertEquals(200, removed);
+        assertEquals(6, lazyMap2.size());
+        assertFalse(lazyMap2.containsKey("key1"));
+    }
+
+    @Test
+    public void list_copiesOnWrite() {
+        Map<Object, Object> lazyMap = convertAndBack(createMap());
+        @SuppressWarnings("unchecked")
+        List<Object> list = (List<Object>) lazyMap.get("list");
+        assertEquals(3, list.size());
+        list.add("b");
+        list.set(0, "z");
+        assertEquals(Arrays.asList("z", 1, null, "b"), new ArrayList<>(list));
+    }
+
+    @Test
+    public void nonMapRoot() {
+        assertNull(converter.convertToEntityProperty(null));
+        assertEquals("string", converter.convertToEntityProperty(converter.convertToDatabaseValue("string")));
+        List<Object> list = Arrays.asList(1, 2, 3);
+        assertEquals(list, converter.convertToEntityProperty(converter.convertToDatabaseValue(list)));
+    }
+}
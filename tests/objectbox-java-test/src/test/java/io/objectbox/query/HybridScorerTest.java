@@ -0,0 +1,104 @@
+/*
+ * Copyright © 2026 ObjectBox Ltd. <https://objectbox.io>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.objectbox.query;
+
+import org.junit.Test;
+
+import java.util.Date;
+
+import io.objectbox.TestEntity;
+import io.objectbox.annotation.VectorDistanceType;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+
+/**
+ * Tests for {@link HybridScorer}, does not require a store.
+ */
+public class HybridScorerTest {
+
+    private static final double DELTA = 0.0001;
+
+    @Test
+    public void queryScoreAndValue_areWeightedAndSummed() {
+        HybridScorer<TestEntity> scorer = new HybridScorer<TestEntity>()
+                .queryScore(0.7)
+                .value(-0.5, TestEntity::getSimpleDouble);
+        TestEntity entity = new TestEntity();
+        entity.setSimpleDouble(2.0);
+
+        assertEquals(0.7 * 3.0 - 0.5 * 2.0, scorer.score(entity, 3.0), DELTA);
+    }
+
+    @Test
+    public void decay_halfLife() {
+        long now = 1_000_000;
+        long halfLife = 1000;
+        HybridScorer<TestEntity> scorer = new HybridScorer<TestEntity>()
+                .decay(2.0, entity -> entity.getDate().getTime(), halfLife, now);
+        TestEntity entity = new TestEntity();
+
+        entity.setDate(new Date(now));
+        assertEquals(0.0, scorer.score(entity, 0), DELTA);
+
+        entity.setDate(new Date(now - halfLife));
+        assertEquals(2.0 * 0.5, scorer.score(entity, 0), DELTA);
+
+        entity.setDate(new Date(now - 2 * halfLife));
+        assertEquals(2.0 * 0.75, scorer.score(entity, 0), DELTA);
+
+        // Future times do not decay
+        entity.setDate(new Date(now + halfLife));
+        assertEquals(0.0, scorer.score(entity, 0), DELTA);
+    }
+
+    @Test
+    public void vectorDistance() {
+        float[] queryVector = {1, 0};
+        TestEntity entity = new TestEntity();
+        entity.setFloatArray(new float[]{0, 1});
+
+        assertEquals(2.0, scorer(queryVector, VectorDistanceType.EUCLIDEAN).score(entity, 0), DELTA);
+        assertEquals(1.0, scorer(queryVector, VectorDistanceType.COSINE).score(entity, 0), DELTA);
+        assertEquals(1.0, scorer(queryVector, VectorDistanceType.DOT_PRODUCT).score(entity, 0), DELTA);
+
+        entity.setFloatArray(null);
+        assertEquals(Double.POSITIVE_INFINITY, scorer(queryVector, VectorDistanceType.EUCLIDEAN).score(entity, 0), DELTA);
+    }
+
+    @Test
+    public void vectorDistance_geo() {
+        // Latitude, longitude of Munich and Berlin, about 504 km apart
+        float[] munich = {48.137f, 11.575f};
+        TestEntity entity = new TestEntity();
+        entity.setFloatArray(new float[]{52.520f, 13.405f});
+
+        assertEquals(504, scorer(munich, VectorDistanceType.GEO).score(entity, 0), 1.0);
+    }
+
+    @Test
+    public void vectorDistance_nonNormalizedDotProduct_unsupported() {
+        assertThrows(IllegalArgumentException.class,
+                () -> scorer(new float[]{1}, VectorDistanceType.DOT_PRODUCT_NON_NORMALIZED));
+    }
+
+    private HybridScorer<TestEntity> scorer(float[] queryVector, VectorDistanceType distanceType) {
+        return new HybridScorer<TestEntity>()
+                .vectorDistance(1.0, TestEntity::getFloatArray, queryVector, distanceType);
+    }
+
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright © 2026 ObjectBox Ltd. <https://objectbox.io>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.objectbox.query;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import io.objectbox.TestEntity;
+import io.objectbox.TestEntity_;
+import io.objectbox.query.QueryPlan.Stage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for {@link Query#explain()} and {@link Query#profile()}.
+ */
+public class QueryExplainTest extends AbstractQueryTest {
+
+    @Test
+    public void explain_conditionsOnly() {
+        try (Query<TestEntity> query = box.query(TestEntity_.simpleInt.greater(2004)).build()) {
+            QueryPlan plan = query.explain();
+            assertEquals("TestEntity", plan.getEntityName());
+            assertEquals(query.describe(), plan.getDescription());
+            assertEquals(query.describeParameters(), plan.getParameters());
+            assertEquals(Collections.singletonList(Stage.DATABASE), plan.getStages());
+            assertTrue(plan.getLinks().isEmpty());
+            assertFalse(plan.isScored());
+            assertFalse(plan.isKeysetOrdered());
+        }
+    }
+
+    @Test
+    public void explain_filterAndSort() {
+        try (Query<TestEntity> query = box.query()
+                .filter(entity -> entity.getSimpleInt() % 2 == 0)
+                .sort((o1, o2) -> Integer.compare(o2.getSimpleInt(), o1.getSimpleInt()))
+                .build()) {
+            assertEquals(Arrays.asList(Stage.DATABASE, Stage.FILTER, Stage.SORT), query.explain().getStages());
+        }
+        try (Query<TestEntity> query = box.query()
+                .filter(entity -> entity.getSimpleInt() % 2 == 0)
+                .topK((o1, o2) -> Integer.compare(o2.getSimpleInt(), o1.getSimpleInt()), 2)
+                .build()) {
+            assertEquals(Arrays.asList(Stage.DATABASE, Stage.FILTER, Stage.TOP_K), query.explain().getStages());
+        }
+    }
+
+    @Test
+    public void profile_countsPerStage() {
+        putTestEntitiesScalars();
+        try (Query<TestEntity> query = box.query(TestEntity_.simpleInt.greater(2004))
+                .filter(entity -> entity.getSimpleInt() % 2 == 0)
+                .sort((o1, o2) -> Integer.compare(o2.getSimpleInt(), o1.getSimpleInt()))
+                .build()) {
+            QueryProfile profile = query.profile();
+            assertEquals(5, profile.getCount(Stage.DATABASE));
+            assertEquals(2, profile.getCount(Stage.FILTER));
+            assertEquals(2, profile.getCount(Stage.SORT));
+            assertEquals(0, profile.getCount(Stage.TOP_K));
+            assertEquals(2, profile.getResultCount());
+            assertTrue(profile.getTotalNanos() > 0);
+            assertTrue(profile.getTotalNanos() >= profile.getNanos(Stage.DATABASE));
+            assertEquals(query.find().size(), profile.getResultCount());
+        }
+    }
+
+    @Test
+    public void profile_topK() {
+        putTestEntitiesScalars();
+        try (Query<TestEntity> query = box.query()
+                .filter(entity -> entity.getSimpleInt() % 2 == 0)
+                .topK((o1, o2) -> Integer.compare(o2.getSimpleInt(), o1.getSimpleInt()), 3)
+                .build()) {
+            QueryProfile profile = query.profile();
+            assertEquals(10, profile.getCount(Stage.DATABASE));
+            assertEquals(5, profile.getCount(Stage.FILTER));
+            assertEquals(3, profile.getCount(Stage.TOP_K));
+            assertEquals(3, profile.getResultCount());
+        }
+    }
+
+}
@@ -9,7 +9,8 @@ import java.util.List;
 import static org.junit.Assert.assertEquals;
 
 /**
- * Tests for {@link QueryBuilder#filter(QueryFilter)} and {@link QueryBuilder#sort(Comparator)}.
+ * Tests for {@link QueryBuilder#filter(QueryFilter)}, {@link QueryBuilder#sort(Comparator)} and
+ * {@link QueryBuilder#topK(Comparator, int)}.
  */
 public class QueryFilterComparatorTest extends AbstractQueryTest {
 
@@ -52,6 +53,41 @@ public class QueryFilterComparatorTest extends AbstractQueryTest {
         assertEquals("apple", entities.get(4).getSimpleString());
     }
 
+    @Test
+    public void topK_find() {
+        putTestEntitiesStrings();
+        List<TestEntity> entities = box.query().topK(createTestComparator(), 2).build().find();
+        assertEquals(2, entities.size());
+        assertEquals("banana", entities.get(0).getSimpleString());
+        assertEquals("banana milk shake", entities.get(1).getSimpleString());
+    }
+
+    @Test
+    public void topK_kGreaterThanResults_findsAll() {
+        putTestEntitiesStrings();
+        List<TestEntity> entities = box.query().topK(createTestComparator(), 10).build().find();
+        assertEquals(5, entities.size());
+        assertEquals("banana", entities.get(0).getSimpleString());
+        assertEquals("apple", entities.get(4).getSimpleString());
+    }
+
+    @Test
+    public void topK_withFilter_find() {
+        putTestEntitiesStrings();
+        List<TestEntity> entities = box.query()
+                .filter(createTestFilter())
+                .topK(createTestComparator(), 1)
+                .build()
+                .find();
+        assertEquals(1, entities.size());
+        assertEquals("banana milk shake", entities.get(0).getSimpleString());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void topK_kZero_throws() {
+        box.query().topK(createTestComparator(), 0);
+    }
+
     @Test(expected = UnsupportedOperationException.class)
     public void filter_count_unsupported() {
         box.query()
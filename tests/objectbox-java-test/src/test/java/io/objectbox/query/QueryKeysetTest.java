@@ -0,0 +1,170 @@
+/*
+ * Copyright © 2026 ObjectBox Ltd. <https://objectbox.io>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.objectbox.query;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import io.objectbox.TestEntity;
+import io.objectbox.TestEntity_;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for {@link QueryBuilder#keysetOrder(io.objectbox.Property, SortKeyGetter)} and keyset paging.
+ */
+public class QueryKeysetTest extends AbstractQueryTest {
+
+    @Test
+    public void keysetOrderById_findPage() {
+        putTestEntitiesScalars();
+        try (Query<TestEntity> query = box.query().keysetOrderById().build()) {
+            Page<TestEntity> page1 = query.findPage(null, 4);
+            assertIds(page1.getItems(), 1, 2, 3, 4);
+            assertTrue(page1.hasNext());
+
+            Page<TestEntity> page2 = query.findPage(page1.getNextKey(), 4);
+            assertIds(page2.getItems(), 5, 6, 7, 8);
+
+            Page<TestEntity> page3 = query.findPage(page2.getNextKey(), 4);
+            assertIds(page3.getItems(), 9, 10);
+            assertFalse(page3.hasNext());
+            assertNull(page3.getNextKey());
+        }
+    }
+
+    @Test
+    public void keysetOrderByIdDesc_findPage() {
+        putTestEntitiesScalars();
+        try (Query<TestEntity> query = box.query().keysetOrderByIdDesc().build()) {
+            Page<TestEntity> page1 = query.findPage(null, 6);
+            assertIds(page1.getItems(), 10, 9, 8, 7, 6, 5);
+
+            Page<TestEntity> page2 = query.findPage(page1.getNextKey(), 6);
+            assertIds(page2.getItems(), 4, 3, 2, 1);
+            assertFalse(page2.hasNext());
+        }
+    }
+
+    @Test
+    public void keysetOrder_sameSortKeys_orderedById() {
+        List<TestEntity> entities = new ArrayList<>();
+        for (int i = 1; i <= 6; i++) {
+            TestEntity entity = createTestEntity("entity" + i, i);
+            entity.setSimpleLong(i % 2 == 0 ? 20 : 10); // IDs 1, 3, 5 have 10; IDs 2, 4, 6 have 20
+            entities.add(entity);
+        }
+        box.put(entities);
+
+        try (Query<TestEntity> query = box.query()
+                .keysetOrder(TestEntity_.simpleLong, TestEntity::getSimpleLong)
+                .build()) {
+            Page<TestEntity> page1 = query.findPage(null, 2);
+            assertIds(page1.getItems(), 1, 3);
+            PageKey nextKey = page1.getNextKey();
+            assertNotNull(nextKey);
+            assertEquals(10, nextKey.getSortKey());
+            assertEquals(3, nextKey.getId());
+
+            Page<TestEntity> page2 = query.findPage(nextKey, 2);
+            assertIds(page2.getItems(), 5, 2);
+
+            Page<TestEntity> page3 = query.findPage(page2.getNextKey(), 2);
+            assertIds(page3.getItems(), 4, 6);
+            assertFalse(page3.hasNext());
+        }
+        try (Query<TestEntity> query = box.query()
+                .keysetOrderDesc(TestEntity_.simpleLong, TestEntity::getSimpleLong)
+                .build()) {
+            Page<TestEntity> page1 = query.findPage(null, 4);
+            assertIds(page1.getItems(), 6, 4, 2, 5);
+            assertIds(query.findPage(page1.getNextKey(), 4).getItems(), 3, 1);
+        }
+    }
+
+    @Test
+    public void keysetOrder_withCondition() {
+        putTestEntitiesScalars();
+        try (Query<TestEntity> query = box.query(TestEntity_.simpleInt.greater(2004))
+                .keysetOrderDesc(TestEntity_.simpleInt, TestEntity::getSimpleInt)
+                .build()) {
+            Page<TestEntity> page1 = query.findPage(null, 3);
+            assertIds(page1.getItems(), 10, 9, 8);
+            assertIds(query.findPage(page1.getNextKey(), 3).getItems(), 7, 6);
+        }
+    }
+
+    @Test
+    public void findAfter_removedObject_continuesAfterIt() {
+        putTestEntitiesScalars();
+        try (Query<TestEntity> query = box.query()
+                .keysetOrder(TestEntity_.simpleInt, TestEntity::getSimpleInt)
+                .build()) {
+            TestEntity last = query.findPage(null, 3).getItems().get(2);
+            box.remove(last);
+            box.remove(1); // Removing before the last object does not shift the next page
+
+            assertIds(query.findAfter(last.getSimpleInt(), last.getId(), 2), 4, 5);
+            // Parameters are reset afterwards
+            assertEquals(8, query.find().size());
+        }
+    }
+
+    @Test
+    public void findPage_withoutKeysetOrder_throws() {
+        try (Query<TestEntity> query = box.query().build()) {
+            IllegalStateException exception = assertThrows(IllegalStateException.class,
+                    () -> query.findPage(null, 10));
+            assertEquals("This query has no keyset order, use QueryBuilder.keysetOrder() to set one.",
+                    exception.getMessage());
+        }
+    }
+
+    @Test
+    public void keysetOrder_unsupportedProperty_throws() {
+        QueryBuilder<TestEntity> builder = box.query();
+        assertThrows(IllegalArgumentException.class,
+                () -> builder.keysetOrder(TestEntity_.simpleString, entity -> 0));
+        builder.close();
+    }
+
+    @Test
+    public void pageKey_token() {
+        PageKey key = new PageKey(-1700000000000L, 42);
+        assertEquals("-1700000000000_42", key.toToken());
+        assertEquals(key, PageKey.fromToken(key.toToken()));
+        assertThrows(IllegalArgumentException.class, () -> PageKey.fromToken("42"));
+        assertThrows(IllegalArgumentException.class, () -> PageKey.fromToken("a_b"));
+    }
+
+    private static void assertIds(List<TestEntity> entities, long... expectedIds) {
+        long[] actualIds = new long[entities.size()];
+        for (int i = 0; i < entities.size(); i++) {
+            actualIds[i] = entities.get(i).getId();
+        }
+        assertEquals(Arrays.toString(expectedIds), Arrays.toString(actualIds));
+    }
+
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright © 2026 ObjectBox Ltd. <https://objectbox.io>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.objectbox.query;
+
+import org.junit.Test;
+
+import java.util.List;
+
+import io.objectbox.TestEntity;
+import io.objectbox.TestEntity_;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests {@link Query#findWithScores()} and {@link Query#findIdsWithScores()} with a
+ * {@link QueryBuilder#score(QueryScorer) scorer}.
+ */
+public class QueryScorerTest extends AbstractQueryTest {
+
+    @Override
+    protected boolean hasFloatArrayHnswIndex() {
+        return true;
+    }
+
+    /**
+     * Orders by simpleInt descending, the reverse of the distance order of the nearest neighbor search.
+     */
+    private Query<TestEntity> buildQuery() {
+        // floatArray is {-f, f} with f = 200 + nr / 10, so nr 1 is nearest
+        return box.query(TestEntity_.floatArray.nearestNeighbors(new float[]{-200.1f, 200.1f}, 10))
+                .score((entity, queryScore) -> -entity.getSimpleInt())
+                .build();
+    }
+
+    @Test
+    public void findWithScores_orderedByScorer() {
+        putTestEntities(10);
+        try (Query<TestEntity> query = buildQuery()) {
+            List<ObjectWithScore<TestEntity>> results = query.findWithScores();
+            assertEquals(10, results.size());
+            for (int i = 0; i < 10; i++) {
+                assertEquals(10 - i, results.get(i).get().getSimpleInt());
+                assertEquals(-(10 - i), results.get(i).getScore(), 0.0);
+            }
+        }
+    }
+
+    @Test
+    public void findWithScores_offsetAndLimit() {
+        putTestEntities(10);
+        try (Query<TestEntity> query = buildQuery()) {
+            List<ObjectWithScore<TestEntity>> results = query.findWithScores(2, 3);
+            assertEquals(3, results.size());
+            assertEquals(8, results.get(0).get().getSimpleInt());
+            assertEquals(7, results.get(1).get().getSimpleInt());
+            assertEquals(6, results.get(2).get().getSimpleInt());
+
+            // Limit beyond the last result
+            results = query.findWithScores(8, 5);
+            assertEquals(2, results.size());
+            assertEquals(2, results.get(0).get().getSimpleInt());
+            assertEquals(1, results.get(1).get().getSimpleInt());
+
+            // Offset beyond the last result
+            assertTrue(query.findWithScores(10, 5).isEmpty());
+
+            // Offset plus limit does not fit into a long
+            results = query.findWithScores(2, Long.MAX_VALUE);
+            assertEquals(8, results.size());
+            assertEquals(8, results.get(0).get().getSimpleInt());
+        }
+    }
+
+    @Test
+    public void findIdsWithScores_offsetAndLimit() {
+        List<TestEntity> entities = putTestEntities(10);
+        try (Query<TestEntity> query = buildQuery()) {
+            List<IdWithScore> results = query.findIdsWithScores();
+            assertEquals(10, results.size());
+            assertEquals(entities.get(9).getId(), results.get(0).getId());
+            assertEquals(-10, results.get(0).getScore(), 0.0);
+
+            results = query.findIdsWithScores(2, 3);
+            assertEquals(3, results.size());
+            assertEquals(entities.get(7).getId(), results.get(0).getId());
+            assertEquals(entities.get(6).getId(), results.get(1).getId());
+            assertEquals(entities.get(5).getId(), results.get(2).getId());
+            assertEquals(-6, results.get(2).getScore(), 0.0);
+        }
+    }
+
+}
@@ -19,7 +19,10 @@ package io.objectbox.query
 import io.objectbox.TestEntity_
 import io.objectbox.kotlin.*
 import io.objectbox.query.QueryBuilder.StringOrder
+import kotlinx.coroutines.ExperimentalCoroutinesApi
+import kotlinx.coroutines.test.runTest
 import org.junit.Assert.assertEquals
+import org.junit.Assert.assertNull
 import org.junit.Test
 
 /**
@@ -151,4 +154,19 @@ class QueryTestK : AbstractQueryTest() {
         assertEquals(2008, entities[0].simpleInt.toLong())
     }
 
-}
\ No newline at end of file
+    @ExperimentalCoroutinesApi
+    @Test
+    fun suspendingReads() {
+        val entities = putTestEntitiesScalars()
+        runTest {
+            val query = box.query(TestEntity_.simpleInt.less(2003)).build()
+            assertEquals(3, query.findAsync().size)
+            assertEquals(3L, query.countAsync())
+            assertEquals(2000, query.findFirstAsync()!!.simpleInt)
+
+            assertEquals(entities[0].simpleInt, box.getAsync(entities[0].id)!!.simpleInt)
+            assertNull(box.getAsync(Long.MAX_VALUE))
+            assertEquals(2, box.getAsync(longArrayOf(entities[0].id, entities[1].id)).size)
+        }
+    }
+}
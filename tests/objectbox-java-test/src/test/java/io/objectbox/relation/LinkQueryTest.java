@@ -2,10 +2,14 @@ package io.objectbox.relation;
 
 import io.objectbox.query.Query;
 import io.objectbox.query.QueryBuilder;
+import io.objectbox.query.QueryPlan;
 import org.junit.Test;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
 
 /**
  * Tests link conditions for queries to filter on related entities.
@@ -53,4 +57,35 @@ public class LinkQueryTest extends AbstractRelationTest {
         }
     }
 
+    @Test
+    public void explain_links() {
+        QueryBuilder<Order> builder = orderBox.query();
+        builder.link(Order_.customer)
+                .apply(Customer_.name.equal("Alice"));
+        try (Query<Order> query = builder.build()) {
+            QueryPlan.Link link = query.explain().getLinks().get(0);
+            assertEquals("Order", link.getSourceEntity());
+            assertEquals("Customer", link.getTargetEntity());
+            assertFalse(link.isBacklink());
+            assertEquals(QueryPlan.LinkStrategy.TARGET_ID_PROPERTY, link.getStrategy());
+            assertEquals("customerId", link.getTargetIdProperty());
+        }
+
+        QueryBuilder<Customer> backlinkBuilder = customerBox.query();
+        backlinkBuilder.backlink(Order_.customer)
+                .apply(Order_.text.equal("Apples"));
+        backlinkBuilder.link(Customer_.ordersStandalone);
+        try (Query<Customer> query = backlinkBuilder.build()) {
+            QueryPlan plan = query.explain();
+            assertEquals(2, plan.getLinks().size());
+            QueryPlan.Link backlink = plan.getLinks().get(0);
+            assertEquals("Customer", backlink.getSourceEntity());
+            assertEquals("Order", backlink.getTargetEntity());
+            assertTrue(backlink.isBacklink());
+            QueryPlan.Link standalone = plan.getLinks().get(1);
+            assertEquals(QueryPlan.LinkStrategy.RELATION, standalone.getStrategy());
+            assertNull(standalone.getTargetIdProperty());
+        }
+    }
+
 }
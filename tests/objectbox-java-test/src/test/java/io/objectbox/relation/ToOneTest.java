@@ -27,6 +27,7 @@ import io.objectbox.TestUtils;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertSame;
@@ -45,6 +46,29 @@ public class ToOneTest extends AbstractRelationTest {
         assertEquals(1977, entity.getCustomerId());
     }
 
+    @Test
+    public void testTargetId_generatedAccessor() {
+        Order entity = putOrder(null, null);
+        assertNotNull(Order_.customer.targetIdAccessor);
+        ToOne<Customer> toOne = new ToOne<>(entity, Order_.customer);
+        entity.setCustomerId(1042);
+        assertEquals(1042, toOne.getTargetId());
+
+        toOne.setTargetId(1977);
+        assertEquals(1977, entity.getCustomerId());
+    }
+
+    @Test
+    public void testAttach_generatedAccessor() {
+        Customer customer = putCustomer();
+        Order order = new Order();
+        order.setId(1977);
+        order.setCustomerId(customer.getId());
+        orderBox.attach(order);
+        // Resolving the target requires the attached BoxStore
+        assertEquals(customer.getId(), order.getCustomer().getTarget().getId());
+    }
+
     private RelationInfo<Order, Customer> getRelationInfo(Property<Order> targetIdProperty) {
         return new RelationInfo<>(new Order_(), new Customer_(), targetIdProperty, null);
     }
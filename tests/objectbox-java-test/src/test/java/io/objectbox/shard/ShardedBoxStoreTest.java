@@ -0,0 +1,163 @@
+/*
+ * Copyright © 2026 ObjectBox Ltd. <https://objectbox.io>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.objectbox.shard;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import io.objectbox.AbstractObjectBoxTest;
+import io.objectbox.BoxStoreBuilder;
+import io.objectbox.TestEntity;
+import io.objectbox.TestEntity_;
+import io.objectbox.query.OrderFlags;
+
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+public class ShardedBoxStoreTest extends AbstractObjectBoxTest {
+
+    private static final int SHARD_COUNT = 3;
+
+    private File shardedDir;
+    private ShardedBoxStore shardedStore;
+    private ShardedBox<TestEntity> box;
+
+    @Before
+    public void setUpShards() throws IOException {
+        shardedDir = prepareTempDir("sharded-store-test");
+        BoxStoreBuilder builder = createBuilderWithTestModel().directory(shardedDir);
+        builder.entity(new TestEntity_());
+        shardedStore = ShardedBoxStore.create(builder, SHARD_COUNT);
+        // Shard by simpleInt
+        box = shardedStore.boxFor(TestEntity.class, TestEntity::getSimpleInt);
+    }
+
+    @After
+    public void tearDownShards() {
+        if (shardedStore != null) {
+            shardedStore.close();
+        }
+        cleanUpAllFiles(shardedDir);
+    }
+
+    private List<TestEntity> putEntities(int count) {
+        List<TestEntity> entities = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            entities.add(createTestEntity("sharded" + i, i));
+        }
+        box.put(entities);
+        return entities;
+    }
+
+    @Test
+    public void create_opensShardsInSubdirectories() {
+        assertEquals(SHARD_COUNT, shardedStore.getShardCount());
+        assertEquals(SHARD_COUNT, shardedStore.getShards().size());
+        if (!IN_MEMORY) {
+            for (int i = 0; i < SHARD_COUNT; i++) {
+                assertTrue(new File(shardedDir, "shard-" + i).isDirectory());
+            }
+        }
+        assertThrows(IllegalArgumentException.class, () -> ShardedBoxStore.create(createBuilderWithTestModel(), 0));
+    }
+
+    @Test
+    public void put_routesByShardKey() {
+        List<TestEntity> entities = putEntities(30);
+        assertEquals(30, box.count());
+
+        int shardsWithObjects = 0;
+        for (int i = 0; i < SHARD_COUNT; i++) {
+            long count = box.getShardBox(i).count();
+            if (count > 0) shardsWithObjects++;
+        }
+        assertEquals(SHARD_COUNT, shardsWithObjects);
+
+        for (TestEntity entity : entities) {
+            TestEntity stored = box.getShardBoxForKey(entity.getSimpleInt()).get(entity.getId());
+            assertNotNull(stored);
+            assertEquals(entity.getSimpleString(), stored.getSimpleString());
+        }
+
+        TestEntity single = createTestEntity("single", 100);
+        box.put(single);
+        assertEquals(box.getShardIndex(single), shardedStore.getShardIndex(100));
+        assertEquals(31, box.getAll().size());
+
+        assertTrue(box.remove(single));
+        assertEquals(30, box.count());
+        box.removeAll();
+        assertEquals(0, box.count());
+    }
+
+    @Test
+    public void query_mergesOrderedResults() {
+        putEntities(20);
+
+        try (ShardedQuery<TestEntity> query = box.query(TestEntity_.simpleInt.less(10))) {
+            assertEquals(10, query.count());
+            assertEquals(10, query.find().size());
+        }
+
+        try (ShardedQuery<TestEntity> query = box.query(TestEntity_.simpleInt.less(10),
+                TestEntity_.simpleInt, OrderFlags.DESCENDING,
+                (a, b) -> Integer.compare(b.getSimpleInt(), a.getSimpleInt()))) {
+            List<TestEntity> results = query.find();
+            assertEquals(10, results.size());
+            for (int i = 0; i < 10; i++) {
+                assertEquals(9 - i, results.get(i).getSimpleInt());
+            }
+
+            List<TestEntity> page = query.find(2, 3);
+            assertEquals(3, page.size());
+            assertEquals(7, page.get(0).getSimpleInt());
+            assertEquals(5, page.get(2).getSimpleInt());
+            // Offset plus limit does not fit into a long
+            page = query.find(2, Long.MAX_VALUE);
+            assertEquals(8, page.size());
+            assertEquals(7, page.get(0).getSimpleInt());
+
+            assertEquals(9, query.findFirst().getSimpleInt());
+
+            assertEquals(10, query.remove());
+        }
+        assertEquals(10, box.count());
+    }
+
+    @Test
+    public void diagnoseAndSize() {
+        putEntities(5);
+        String diagnose = shardedStore.diagnose();
+        for (int i = 0; i < SHARD_COUNT; i++) {
+            assertTrue(diagnose.contains("Shard " + i));
+        }
+        assertTrue(shardedStore.getDbSize() > 0);
+
+        shardedStore.close();
+        assertTrue(shardedStore.isClosed());
+    }
+
+}
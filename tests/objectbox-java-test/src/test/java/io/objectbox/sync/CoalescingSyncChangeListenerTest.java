@@ -0,0 +1,114 @@
+/*
+ * Copyright © 2026 ObjectBox Ltd. <https://objectbox.io>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.objectbox.sync;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import io.objectbox.sync.listener.CoalescingSyncChangeListener;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests {@link CoalescingSyncChangeListener}, does not require a sync client.
+ */
+public class CoalescingSyncChangeListenerTest {
+
+    private final List<SyncChange[]> delivered = new CopyOnWriteArrayList<>();
+
+    @Test
+    public void mergesAndDeduplicates_afterDelay() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        CoalescingSyncChangeListener listener = new CoalescingSyncChangeListener(syncChanges -> {
+            delivered.add(syncChanges);
+            latch.countDown();
+        }, 50, 1000, null);
+
+        listener.onSyncChanges(new SyncChange[]{new SyncChange(1, new long[]{1, 2}, new long[0])});
+        listener.onSyncChanges(new SyncChange[]{
+                new SyncChange(1, new long[]{2, 3}, new long[]{1}),
+                new SyncChange(2, new long[]{7}, new long[0])
+        });
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        listener.close();
+
+        assertEquals(1, delivered.size());
+        SyncChange[] merged = delivered.get(0);
+        assertEquals(2, merged.length);
+        assertEquals(1, merged[0].getEntityTypeId());
+        assertArrayEquals(new long[]{2, 3}, sorted(merged[0].getChangedIds()));
+        assertArrayEquals(new long[]{1}, merged[0].getRemovedIds());
+        assertEquals(2, merged[1].getEntityTypeId());
+        assertArrayEquals(new long[]{7}, merged[1].getChangedIds());
+    }
+
+    @Test
+    public void deliversRightAway_ifMaxIdsReached() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        CoalescingSyncChangeListener listener = new CoalescingSyncChangeListener(syncChanges -> {
+            delivered.add(syncChanges);
+            latch.countDown();
+        }, TimeUnit.HOURS.toMillis(1), 3, Runnable::run);
+
+        listener.onSyncChanges(new SyncChange[]{new SyncChange(1, new long[]{1, 2, 3}, new long[0])});
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        listener.close();
+
+        assertEquals(1, delivered.size());
+        assertArrayEquals(new long[]{1, 2, 3}, sorted(delivered.get(0)[0].getChangedIds()));
+    }
+
+    @Test
+    public void close_deliversPending() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        CoalescingSyncChangeListener listener = new CoalescingSyncChangeListener(syncChanges -> {
+            delivered.add(syncChanges);
+            latch.countDown();
+        }, TimeUnit.HOURS.toMillis(1), 1000, null);
+
+        listener.onSyncChanges(new SyncChange[]{new SyncChange(1, new long[]{1}, new long[0])});
+        listener.close();
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+
+        // Ignored after close
+        listener.onSyncChanges(new SyncChange[]{new SyncChange(1, new long[]{2}, new long[0])});
+        assertEquals(1, delivered.size());
+    }
+
+    @Test
+    public void invalidArguments_throw() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new CoalescingSyncChangeListener(syncChanges -> {}, -1, 10, null));
+        assertThrows(IllegalArgumentException.class,
+                () -> new CoalescingSyncChangeListener(syncChanges -> {}, 10, 0, null));
+    }
+
+    private static long[] sorted(long[] ids) {
+        long[] copy = ids.clone();
+        Arrays.sort(copy);
+        return copy;
+    }
+
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright © 2026 ObjectBox Ltd. <https://objectbox.io>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.objectbox.sync;
+
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import io.objectbox.sync.listener.CoalescingSyncChangeListener;
+import io.objectbox.sync.listener.SyncChangeListener;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests {@link SyncChangeOrder}, does not require a sync client.
+ */
+public class SyncChangeOrderTest {
+
+    private static SyncChange change(int entityTypeId) {
+        return new SyncChange(entityTypeId, new long[]{1}, new long[0]);
+    }
+
+    @Test
+    public void sort_highestFirst_stable() {
+        Map<Integer, Integer> orders = new HashMap<>();
+        orders.put(2, 10);
+        orders.put(4, -1);
+        SyncChangeOrder changeOrder = new SyncChangeOrder(orders);
+        assertEquals(10, changeOrder.getOrder(2));
+        assertEquals(0, changeOrder.getOrder(1));
+
+        SyncChange[] changes = {change(4), change(1), change(2), change(3)};
+        changeOrder.sort(changes);
+        assertEquals(2, changes[0].getEntityTypeId());
+        // No order value set, keep order
+        assertEquals(1, changes[1].getEntityTypeId());
+        assertEquals(3, changes[2].getEntityTypeId());
+        assertEquals(4, changes[3].getEntityTypeId());
+    }
+
+    @Test
+    public void orderingChangeListener() {
+        SyncChangeListener listener = syncChanges -> {
+        };
+        SyncChangeOrder none = new SyncChangeOrder(Collections.emptyMap());
+        assertSame(listener, none.orderingChangeListener(listener));
+
+        AtomicReference<SyncChange[]> received = new AtomicReference<>();
+        SyncChangeOrder order = new SyncChangeOrder(Collections.singletonMap(2, 1));
+        order.orderingChangeListener(received::set)
+                .onSyncChanges(new SyncChange[]{change(1), change(2)});
+        assertEquals(2, received.get()[0].getEntityTypeId());
+        assertEquals(1, received.get()[1].getEntityTypeId());
+    }
+
+    @Test
+    public void orderingChangeListener_withCoalescing_ordersMergedChanges() throws InterruptedException {
+        // Like the Sync client does it: merge changes first, then order them
+        SyncChangeOrder order = new SyncChangeOrder(Collections.singletonMap(2, 1));
+        AtomicReference<SyncChange[]> received = new AtomicReference<>();
+        CountDownLatch delivered = new CountDownLatch(1);
+        CoalescingSyncChangeListener listener = new CoalescingSyncChangeListener(
+                order.orderingChangeListener(syncChanges -> {
+                    received.set(syncChanges);
+                    delivered.countDown();
+                }), 10_000, 3, null);
+        try {
+            // Separate sync transactions, the one with the higher order value arrives last
+            listener.onSyncChanges(new SyncChange[]{change(1)});
+            listener.onSyncChanges(new SyncChange[]{change(3)});
+            listener.onSyncChanges(new SyncChange[]{change(2)});
+            assertTrue(delivered.await(5, TimeUnit.SECONDS));
+        } finally {
+            listener.close();
+        }
+        SyncChange[] changes = received.get();
+        assertEquals(3, changes.length);
+        assertEquals(2, changes[0].getEntityTypeId());
+        assertEquals(1, changes[1].getEntityTypeId());
+        assertEquals(3, changes[2].getEntityTypeId());
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright © 2026 ObjectBox Ltd. <https://objectbox.io>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.objectbox.sync;
+
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.objectbox.sync.listener.SyncChangeListener;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests {@link SyncStatsRecorder}, does not require a sync client.
+ */
+public class SyncStatsTest {
+
+    @Test
+    public void snapshot_countsEvents() {
+        SyncStatsRecorder recorder = new SyncStatsRecorder();
+        recorder.onLogin();
+        recorder.onDisconnect();
+        recorder.onLogin();
+        recorder.onLoginFailure();
+        recorder.onMessageSent(12);
+        recorder.onMessageSent(30);
+
+        SyncStats stats = recorder.snapshot(1000);
+        assertEquals(1000, stats.getRoundtripTimeNanos());
+        assertEquals(2, stats.getLoginCount());
+        assertEquals(1, stats.getReconnectCount());
+        assertEquals(1, stats.getLoginFailureCount());
+        assertEquals(1, stats.getDisconnectCount());
+        assertEquals(2, stats.getMessagesSentCount());
+        assertEquals(42, stats.getMessagesSentBytes());
+    }
+
+    @Test
+    public void fullSyncDuration_fromRequestToComplete() {
+        SyncStatsRecorder recorder = new SyncStatsRecorder();
+        recorder.onSyncComplete();
+        assertEquals(0, recorder.snapshot(0).getLastFullSyncDurationNanos());
+
+        recorder.onFullSyncRequested();
+        recorder.onSyncComplete();
+        SyncStats stats = recorder.snapshot(0);
+        assertEquals(2, stats.getSyncCompletedCount());
+        assertTrue(stats.getLastFullSyncDurationNanos() > 0);
+    }
+
+    @Test
+    public void recordingChangeListener_countsAndForwards() {
+        SyncStatsRecorder recorder = new SyncStatsRecorder();
+        AtomicInteger forwarded = new AtomicInteger();
+        SyncChangeListener listener = recorder.recordingChangeListener(syncChanges -> forwarded.incrementAndGet());
+
+        listener.onSyncChanges(new SyncChange[]{
+                new SyncChange(1, new long[]{1, 2, 3}, new long[]{4}),
+                new SyncChange(2, new long[]{5}, new long[0])
+        });
+
+        assertEquals(1, forwarded.get());
+        SyncStats stats = recorder.snapshot(0);
+        assertEquals(1, stats.getChangeNotificationCount());
+        assertEquals(4, stats.getChangedObjectCount());
+        assertEquals(1, stats.getRemovedObjectCount());
+    }
+
+}
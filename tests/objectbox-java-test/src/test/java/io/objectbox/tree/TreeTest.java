@@ -2,10 +2,17 @@ package io.objectbox.tree;
 
 import io.objectbox.AbstractObjectBoxTest;
 import io.objectbox.BoxStore;
+import io.objectbox.InternalAccess;
 import io.objectbox.model.PropertyType;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -277,4 +284,193 @@ public class TreeTest extends AbstractObjectBoxTest {
         assertNotNull(branch);
         assertEquals(bookBranchId.get(), branch.getId());
     }
+
+    private long[] putBooks(int count) {
+        long[] metaIds = new long[2];
+        tree.runInTx(() -> {
+            metaIds[0] = tree.putMetaLeaf(0, metaBranchIds[2], "Name", PropertyType.String);
+            metaIds[1] = tree.putMetaLeaf(0, metaBranchIds[1], "Year", PropertyType.Int);
+            for (int i = 0; i < count; i++) {
+                long bookId = tree.putBranch(rootId, metaBranchIds[1]);
+                tree.putValue(bookId, metaIds[1], 2000 + i);
+                long authorId = tree.putBranch(bookId, metaBranchIds[2]);
+                tree.putValue(authorId, metaIds[0], "Author " + i);
+            }
+        });
+        return metaIds;
+    }
+
+    @Test
+    public void loadSubtree() {
+        putBooks(3);
+
+        tree.runInReadTx(() -> {
+            BranchSnapshot library = root.loadSubtree(Integer.MAX_VALUE);
+            assertEquals(rootId, library.getId());
+            assertEquals("Library", library.getName());
+            assertEquals(3, library.getBranches().size());
+
+            BranchSnapshot book = library.getBranches().get(1);
+            assertEquals("Book", book.getName());
+            assertEquals(2001, requireNonNull(book.leafChild("Year")).getInt());
+            BranchSnapshot author = book.branchChild("Author");
+            assertNotNull(author);
+            assertEquals("Author 1", requireNonNull(author.leafChild("Name")).getString());
+
+            // Limited depth
+            BranchSnapshot libraryOnly = root.loadSubtree(0);
+            assertTrue(libraryOnly.getBranches().isEmpty());
+            BranchSnapshot books = root.loadSubtree(1);
+            assertEquals(3, books.getBranches().size());
+            assertTrue(books.getBranches().get(0).getBranches().isEmpty());
+            assertEquals(1, books.getBranches().get(0).getLeaves().size());
+        });
+    }
+
+    @Test
+    public void loadSubtree_valueTypes() {
+        tree.runInTx(() -> {
+            long metaPriceId = tree.putMetaLeaf(0, metaBranchIds[1], "Price", PropertyType.Double);
+            long metaTitleId = tree.putMetaLeaf(0, metaBranchIds[1], "Title", PropertyType.String);
+            long bookId = tree.putBranch(rootId, metaBranchIds[1]);
+            tree.putValue(bookId, metaPriceId, 9.99);
+            tree.putValue(bookId, metaTitleId, (String) null);
+        });
+
+        tree.runInReadTx(() -> {
+            BranchSnapshot book = root.loadSubtree(1).getBranches().get(0);
+            Leaf price = requireNonNull(book.leafChild("Price"));
+            assertTrue(price.isDouble());
+            assertEquals(9.99, price.getDouble(), 0.0);
+            Leaf title = requireNonNull(book.leafChild("Title"));
+            assertTrue(title.isString());
+            assertNull(title.getString());
+        });
+    }
+
+    @Test
+    public void loadSubtree_visitor() {
+        putBooks(2);
+
+        List<String> visited = new ArrayList<>();
+        BranchSnapshot library = tree.callInReadTx(() -> root.loadSubtree(Integer.MAX_VALUE));
+        library.accept(new TreeVisitor() {
+            @Override
+            public boolean visitBranch(BranchSnapshot branch, int depth) {
+                visited.add(depth + ":" + branch.getName());
+                // Skip authors of the second book
+                return !"Book".equals(branch.getName()) || visited.size() < 3;
+            }
+
+            @Override
+            public void visitLeaf(BranchSnapshot branch, String name, Leaf leaf) {
+                visited.add(name + "=" + leaf.asString());
+            }
+        });
+        assertEquals(Arrays.asList("0:Library", "1:Book", "Year=2000", "2:Author", "Name=Author 0", "1:Book"),
+                visited);
+    }
+
+    @Test
+    public void putAll() {
+        putBooks(1);
+
+        Map<String, Object> values = new LinkedHashMap<>();
+        values.put("Book.Year", 1954);
+        values.put("Book.Author.Name", "Tolkien");
+        tree.putAll(values);
+
+        tree.runInReadTx(() -> {
+            assertEquals(Long.valueOf(1954), requireNonNull(root.leaf("Book.Year")).asInt());
+            assertEquals("Tolkien", requireNonNull(root.leaf("Book.Author.Name")).getString());
+        });
+    }
+
+    @Test
+    public void putAll_insertsMissingLeaf() {
+        putBooks(1);
+        long metaPagesId = tree.callInTxNoThrow(
+                () -> tree.putMetaLeaf(0, metaBranchIds[1], "Pages", PropertyType.Int));
+
+        tree.putAll(Collections.singletonMap("Book.Pages", 300));
+
+        tree.runInReadTx(() -> {
+            Leaf pages = root.leaf("Book.Pages");
+            assertNotNull(pages);
+            assertEquals(300, pages.getInt());
+            assertEquals(metaPagesId, pages.getMetaId());
+        });
+    }
+
+    @Test
+    public void putAll_invalid_putsNothing() {
+        putBooks(1);
+
+        Map<String, Object> values = new LinkedHashMap<>();
+        values.put("Book.Year", 1954);
+        values.put("Book.Missing", "value");
+        assertThrows(IllegalArgumentException.class, () -> tree.putAll(values));
+        assertThrows(IllegalArgumentException.class,
+                () -> tree.putAll(Collections.singletonMap("Book.Year", true)));
+
+        tree.runInReadTx(() -> assertEquals(Long.valueOf(2000), requireNonNull(root.leaf("Book.Year")).asInt()));
+    }
+
+    @Test
+    public void preparedPath() {
+        TreePath path = TreePath.of("Book", "Author", "Name");
+        assertEquals(3, path.size());
+        assertEquals("Name", path.getLastName());
+        assertEquals("Book.Author.Name", path.toString());
+        assertEquals(path, tree.path("Book.Author.Name"));
+        tree.setPathSeparatorRegex("/");
+        assertEquals(path, tree.path("Book/Author/Name"));
+
+        assertThrows(IllegalArgumentException.class, TreePath::of);
+        assertThrows(IllegalArgumentException.class, () -> TreePath.of("Book", ""));
+        assertThrows(IllegalArgumentException.class, () -> tree.path(""));
+    }
+
+    @Test
+    public void preparedPath_lookup() {
+        putBooks(2);
+        TreePath authorPath = TreePath.of("Book", "Author");
+        TreePath namePath = TreePath.of("Book", "Author", "Name");
+
+        // Repeat to use cached IDs
+        for (int i = 0; i < 2; i++) {
+            tree.runInReadTx(() -> {
+                Branch author = root.branch(authorPath);
+                assertNotNull(author);
+                assertEquals(requireNonNull(root.branch("Book.Author")).getId(), author.getId());
+                assertEquals("Author 0", requireNonNull(root.leaf(namePath)).getString());
+                assertNull(root.branch(TreePath.of("Book", "Missing")));
+                assertNull(root.leaf(TreePath.of("Book", "Missing")));
+            });
+        }
+        // Also inside a write transaction
+        tree.runInTx(() -> assertEquals("Author 0", requireNonNull(root.leaf(namePath)).getString()));
+    }
+
+    @Test
+    public void preparedPath_cacheInvalidatedByBranchChanges() {
+        putBooks(2);
+        TreePath bookPath = TreePath.of("Book");
+        long firstBookId = tree.callInReadTx(() -> requireNonNull(root.branch(bookPath)).getId());
+
+        // Changing a leaf keeps cached IDs
+        BranchIdCache.Generation generation = tree.callInReadTx(
+                () -> tree.getBranchIdCacheGeneration(InternalAccess.getActiveTx(store)));
+        tree.putAll(Collections.singletonMap("Book.Year", 1954));
+        tree.runInReadTx(() ->
+                assertSame(generation, tree.getBranchIdCacheGeneration(InternalAccess.getActiveTx(store))));
+
+        // Removing the branch with a Box must not return its cached ID
+        store.boxFor(DataBranch.class).remove(firstBookId);
+        tree.runInReadTx(() -> {
+            Branch book = root.branch(bookPath);
+            assertNotNull(book);
+            assertNotEquals(firstBookId, book.getId());
+        });
+    }
 }
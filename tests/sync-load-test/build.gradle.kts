@@ -0,0 +1,31 @@
+plugins {
+    id("application")
+}
+
+tasks.withType<JavaCompile> {
+    // Note: use release flag instead of sourceCompatibility and targetCompatibility to ensure only JDK 8 API is used.
+    // https://docs.gradle.org/current/userguide/building_java_projects.html#sec:java_cross_compilation
+    options.release.set(8)
+}
+
+application {
+    mainClass.set("io.objectbox.sync.loadtest.SyncLoadTest")
+}
+
+val junitVersion: String by rootProject.extra
+
+dependencies {
+    implementation(project(":objectbox-java"))
+    // Note: not adding a database library as running scenarios requires one with Sync server and client,
+    // see SyncLoadTest for details.
+
+    testImplementation("junit:junit:$junitVersion")
+}
+
+// Run a scenario with e.g. ./gradlew :tests:sync-load-test:run --args="steady-write --clients 10"
+tasks.named<JavaExec>("run") {
+    // The directory containing the database library with Sync, e.g. -PobxLibraryPath=/path/to/lib/dir
+    providers.gradleProperty("obxLibraryPath").orNull?.let {
+        systemProperty("java.library.path", it)
+    }
+}
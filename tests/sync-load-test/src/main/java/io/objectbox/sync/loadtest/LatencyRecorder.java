@@ -0,0 +1,64 @@
+/*
+ * Copyright © 2026 ObjectBox Ltd. <https://objectbox.io>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.objectbox.sync.loadtest;
+
+import java.util.Arrays;
+
+/**
+ * Collects durations (e.g. propagation delays) in nanoseconds and computes percentiles. Thread-safe.
+ */
+public class LatencyRecorder {
+
+    private long[] values = new long[1024];
+    private int count;
+
+    public synchronized void record(long nanos) {
+        if (count == values.length) {
+            values = Arrays.copyOf(values, values.length * 2);
+        }
+        values[count++] = nanos;
+    }
+
+    public synchronized int count() {
+        return count;
+    }
+
+    /**
+     * Returns the value below which the given percentage of values fall (nearest-rank method),
+     * or 0 if there are no values.
+     *
+     * @param percentile Between 0 (exclusive) and 100 (inclusive), e.g. 99.
+     */
+    public synchronized long percentile(double percentile) {
+        if (percentile <= 0 || percentile > 100) {
+            throw new IllegalArgumentException("percentile must be in (0, 100], but was " + percentile);
+        }
+        if (count == 0) return 0;
+        long[] sorted = Arrays.copyOf(values, count);
+        Arrays.sort(sorted);
+        int rank = (int) Math.ceil(percentile / 100 * count);
+        return sorted[Math.max(rank, 1) - 1];
+    }
+
+    public synchronized long max() {
+        long max = 0;
+        for (int i = 0; i < count; i++) {
+            max = Math.max(max, values[i]);
+        }
+        return max;
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright © 2026 ObjectBox Ltd. <https://objectbox.io>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.objectbox.sync.loadtest;
+
+import java.io.Closeable;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.annotation.Nullable;
+
+import io.objectbox.Box;
+import io.objectbox.BoxStore;
+import io.objectbox.query.Query;
+import io.objectbox.query.QueryBuilder;
+import io.objectbox.sync.Sync;
+import io.objectbox.sync.SyncBuilder;
+import io.objectbox.sync.SyncChange;
+import io.objectbox.sync.SyncClient;
+import io.objectbox.sync.SyncCredentials;
+import io.objectbox.sync.listener.SyncLoginListener;
+
+/**
+ * A sync client with its own in-memory store that records the propagation delay of objects written by others.
+ */
+class LoadTestClient implements Closeable {
+
+    static final String FILTER_VARIABLE_GROUP = "group";
+
+    final int index;
+    private final BoxStore store;
+    final Box<LoadTestObject> box;
+    private final SyncClient client;
+    private final LatencyRecorder propagationDelays;
+    private final AtomicLong receivedCount = new AtomicLong();
+    private final AtomicInteger loginCount = new AtomicInteger();
+
+    /**
+     * Returns the number of received objects that do not belong to the given group.
+     */
+    long countOtherGroups(String group) {
+        try (Query<LoadTestObject> query = box.query(LoadTestObject_.group.notEqual(group,
+                QueryBuilder.StringOrder.CASE_SENSITIVE)).build()) {
+            return query.count();
+        }
+    }
+
+    /**
+     * @param group If not null, sets the {@link #FILTER_VARIABLE_GROUP} filter variable to this.
+     * Note: the variable only has an effect if the sync server has a matching filter, see {@link SyncLoadTest}.
+     * @param propagationDelays Records the delay of received objects, shared by all clients.
+     */
+    LoadTestClient(int index, String url, @Nullable String group, LatencyRecorder propagationDelays) {
+        this.index = index;
+        this.propagationDelays = propagationDelays;
+        store = MyObjectBox.builder().inMemory("sync-load-test-client-" + index).build();
+        box = store.boxFor(LoadTestObject.class);
+        SyncBuilder builder = Sync.client(store)
+                .url(url)
+                .credentials(SyncCredentials.none())
+                .changeListener(this::onSyncChanges)
+                .loginListener(new SyncLoginListener() {
+                    @Override
+                    public void onLoggedIn() {
+                        loginCount.incrementAndGet();
+                    }
+
+                    @Override
+                    public void onLoginFailed(long syncLoginCode) {
+                        System.err.println("Client " + index + " login failed: " + syncLoginCode);
+                    }
+                });
+        if (group != null) {
+            builder.filterVariable(FILTER_VARIABLE_GROUP, group);
+        }
+        client = builder.build();
+    }
+
+    private void onSyncChanges(SyncChange[] syncChanges) {
+        long now = System.nanoTime();
+        for (SyncChange syncChange : syncChanges) {
+            long[] changedIds = syncChange.getChangedIds();
+            if (changedIds.length == 0) continue;
+            List<LoadTestObject> objects = box.get(changedIds);
+            for (LoadTestObject object : objects) {
+                if (object == null || object.getWriter() == index) continue;
+                receivedCount.incrementAndGet();
+                propagationDelays.record(now - object.getCreatedAtNanos());
+            }
+        }
+    }
+
+    void start() {
+        client.start();
+    }
+
+    void stop() {
+        client.stop();
+    }
+
+    int getLoginCount() {
+        return loginCount.get();
+    }
+
+    /** Number of objects written by others that were received. */
+    long getReceivedCount() {
+        return receivedCount.get();
+    }
+
+    /**
+     * Puts the given number of new objects in a single transaction, returns the time it took.
+     */
+    long put(int count, int payloadBytes, @Nullable String group) {
+        return LoadTestEnvironment.putObjects(box, count, index, payloadBytes, group);
+    }
+
+    @Override
+    public void close() {
+        client.close();
+        store.close();
+    }
+}
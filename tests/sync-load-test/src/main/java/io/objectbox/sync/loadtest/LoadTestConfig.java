@@ -0,0 +1,172 @@
+/*
+ * Copyright © 2026 ObjectBox Ltd. <https://objectbox.io>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.objectbox.sync.loadtest;
+
+import java.util.Locale;
+
+/**
+ * Options of a load test run, parsed from command line arguments, see {@link SyncLoadTest}.
+ */
+public class LoadTestConfig {
+
+    public enum Scenario {
+        /** Clients with empty stores download objects the server already has. */
+        FULL_SYNC,
+        /** Clients write at a steady rate, all other clients receive the objects. */
+        STEADY_WRITE,
+        /** All clients disconnect and reconnect at the same time, repeatedly. */
+        RECONNECT_STORM,
+        /** The server writes objects of multiple groups, clients only subscribe to one group using a filter variable. */
+        FAN_OUT;
+
+        static Scenario fromArgument(String argument) {
+            return valueOf(argument.toUpperCase(Locale.ROOT).replace('-', '_'));
+        }
+
+        String toArgument() {
+            return name().toLowerCase(Locale.ROOT).replace('_', '-');
+        }
+    }
+
+    Scenario scenario;
+    int clients = 4;
+    int objects = 10000;
+    int rate = 1000;
+    int durationSeconds = 10;
+    int batchSize = 10;
+    int payloadBytes = 100;
+    int groups = 4;
+    int rounds = 3;
+    int port = 9999;
+    int workerThreads;
+    long historySizeMaxKb;
+    int timeoutSeconds = 60;
+
+    /**
+     * Parses arguments like {@code steady-write --clients 10 --rate 5000}.
+     *
+     * @throws IllegalArgumentException if an argument is unknown or invalid.
+     */
+    public static LoadTestConfig parse(String[] args) {
+        if (args.length == 0) {
+            throw new IllegalArgumentException("No scenario given");
+        }
+        LoadTestConfig config = new LoadTestConfig();
+        try {
+            config.scenario = Scenario.fromArgument(args[0]);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown scenario: " + args[0]);
+        }
+        for (int i = 1; i < args.length; i += 2) {
+            String option = args[i];
+            if (i + 1 >= args.length) {
+                throw new IllegalArgumentException("No value for " + option);
+            }
+            String value = args[i + 1];
+            switch (option) {
+                case "--clients":
+                    config.clients = parsePositive(option, value);
+                    break;
+                case "--objects":
+                    config.objects = parsePositive(option, value);
+                    break;
+                case "--rate":
+                    config.rate = parsePositive(option, value);
+                    break;
+                case "--duration":
+                    config.durationSeconds = parsePositive(option, value);
+                    break;
+                case "--batch":
+                    config.batchSize = parsePositive(option, value);
+                    break;
+                case "--payload-bytes":
+                    config.payloadBytes = parsePositive(option, value);
+                    break;
+                case "--groups":
+                    config.groups = parsePositive(option, value);
+                    break;
+                case "--rounds":
+                    config.rounds = parsePositive(option, value);
+                    break;
+                case "--port":
+                    config.port = parsePositive(option, value);
+                    break;
+                case "--worker-threads":
+                    config.workerThreads = parsePositive(option, value);
+                    break;
+                case "--history-size-max-kb":
+                    config.historySizeMaxKb = parsePositive(option, value);
+                    break;
+                case "--timeout":
+                    config.timeoutSeconds = parsePositive(option, value);
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown option: " + option);
+            }
+        }
+        if (config.scenario == Scenario.STEADY_WRITE && config.clients < 2) {
+            throw new IllegalArgumentException("steady-write needs at least 2 clients");
+        }
+        return config;
+    }
+
+    private static int parsePositive(String option, String value) {
+        int parsed;
+        try {
+            parsed = Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(option + " must be a number, but was " + value);
+        }
+        if (parsed < 1) {
+            throw new IllegalArgumentException(option + " must be 1 or greater, but was " + value);
+        }
+        return parsed;
+    }
+
+    static String usage() {
+        return "Usage: SyncLoadTest <full-sync|steady-write|reconnect-storm|fan-out> [options]\n" +
+                "  --clients N              number of sync clients (default 4)\n" +
+                "  --objects N              full-sync: objects on the server (default 10000)\n" +
+                "  --rate N                 steady-write, fan-out: objects written per second (default 1000)\n" +
+                "  --duration N             steady-write, fan-out: seconds to write (default 10)\n" +
+                "  --batch N                objects put per transaction (default 10)\n" +
+                "  --payload-bytes N        size of the payload of an object (default 100)\n" +
+                "  --groups N               fan-out: number of filter variable groups (default 4)\n" +
+                "  --rounds N               reconnect-storm: number of reconnects (default 3)\n" +
+                "  --port N                 port of the local sync server (default 9999)\n" +
+                "  --worker-threads N       sync server worker threads (default: server default)\n" +
+                "  --history-size-max-kb N  sync server history size limit (default: server default)\n" +
+                "  --timeout N              seconds to wait for clients to catch up (default 60)";
+    }
+
+    @Override
+    public String toString() {
+        return scenario.toArgument() +
+                " --clients " + clients +
+                " --objects " + objects +
+                " --rate " + rate +
+                " --duration " + durationSeconds +
+                " --batch " + batchSize +
+                " --payload-bytes " + payloadBytes +
+                " --groups " + groups +
+                " --rounds " + rounds +
+                " --port " + port +
+                (workerThreads > 0 ? " --worker-threads " + workerThreads : "") +
+                (historySizeMaxKb > 0 ? " --history-size-max-kb " + historySizeMaxKb : "") +
+                " --timeout " + timeoutSeconds;
+    }
+}
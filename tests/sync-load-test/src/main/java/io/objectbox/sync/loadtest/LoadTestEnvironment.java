@@ -0,0 +1,140 @@
+/*
+ * Copyright © 2026 ObjectBox Ltd. <https://objectbox.io>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.objectbox.sync.loadtest;
+
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import javax.annotation.Nullable;
+
+import io.objectbox.Box;
+import io.objectbox.BoxStore;
+import io.objectbox.sync.Sync;
+import io.objectbox.sync.SyncCredentials;
+import io.objectbox.sync.server.SyncServer;
+import io.objectbox.sync.server.SyncServerBuilder;
+
+/**
+ * A sync server on localhost and sync clients, all using in-memory stores.
+ */
+class LoadTestEnvironment implements Closeable {
+
+    /** {@link LoadTestObject#getWriter()} of objects put by the server. */
+    static final int WRITER_SERVER = -1;
+
+    private final LoadTestConfig config;
+    private final String url;
+    final BoxStore serverStore;
+    final Box<LoadTestObject> serverBox;
+    private final SyncServer server;
+    final List<LoadTestClient> clients = new ArrayList<>();
+    /** Propagation delays recorded by all clients. */
+    final LatencyRecorder propagationDelays = new LatencyRecorder();
+
+    LoadTestEnvironment(LoadTestConfig config) {
+        this.config = config;
+        this.url = "ws://127.0.0.1:" + config.port;
+        serverStore = MyObjectBox.builder().inMemory("sync-load-test-server").build();
+        serverBox = serverStore.boxFor(LoadTestObject.class);
+        SyncServerBuilder serverBuilder = Sync.server(serverStore, url, SyncCredentials.none());
+        if (config.workerThreads > 0) {
+            serverBuilder.workerThreads(config.workerThreads);
+        }
+        if (config.historySizeMaxKb > 0) {
+            serverBuilder.historySizeMaxKb(config.historySizeMaxKb);
+        }
+        server = serverBuilder.buildAndStart();
+    }
+
+    /**
+     * Creates the configured number of clients, does not start them.
+     *
+     * @param groups If true, sets the group filter variable of each client, see {@link #groupOf(int)}.
+     */
+    void createClients(boolean groups) {
+        for (int i = 0; i < config.clients; i++) {
+            clients.add(new LoadTestClient(i, url, groups ? groupOf(i) : null, propagationDelays));
+        }
+    }
+
+    /** Returns the group for the given number, cycling through the configured number of groups. */
+    String groupOf(int number) {
+        return "group-" + (number % config.groups);
+    }
+
+    void startClients() {
+        for (LoadTestClient client : clients) {
+            client.start();
+        }
+    }
+
+    /**
+     * Waits until each client has logged in at least the given number of times.
+     *
+     * @return false if the timeout expired.
+     */
+    boolean awaitLogins(int loginCount) throws InterruptedException {
+        long deadline = System.nanoTime() + config.timeoutSeconds * 1_000_000_000L;
+        for (LoadTestClient client : clients) {
+            while (client.getLoginCount() < loginCount) {
+                if (System.nanoTime() > deadline) return false;
+                Thread.sleep(1);
+            }
+        }
+        return true;
+    }
+
+    /** Returns the objects received by all clients. */
+    long receivedCount() {
+        long count = 0;
+        for (LoadTestClient client : clients) {
+            count += client.getReceivedCount();
+        }
+        return count;
+    }
+
+    String getStatsString() {
+        return server.getStatsString();
+    }
+
+    /**
+     * Puts the given number of new objects in a single transaction, returns the time it took.
+     */
+    static long putObjects(Box<LoadTestObject> box, int count, int writer, int payloadBytes, @Nullable String group) {
+        char[] payloadChars = new char[payloadBytes];
+        Arrays.fill(payloadChars, 'x');
+        String payload = new String(payloadChars);
+        List<LoadTestObject> objects = new ArrayList<>(count);
+        long start = System.nanoTime();
+        for (int i = 0; i < count; i++) {
+            objects.add(new LoadTestObject(0, start, writer, group, payload));
+        }
+        box.put(objects);
+        return System.nanoTime() - start;
+    }
+
+    @Override
+    public void close() {
+        for (LoadTestClient client : clients) {
+            client.close();
+        }
+        server.close();
+        serverStore.close();
+    }
+}
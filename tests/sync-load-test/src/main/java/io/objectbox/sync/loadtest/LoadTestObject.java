@@ -0,0 +1,93 @@
+/*
+ * Copyright © 2026 ObjectBox Ltd. <https://objectbox.io>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.objectbox.sync.loadtest;
+
+import io.objectbox.annotation.Entity;
+import io.objectbox.annotation.Id;
+import io.objectbox.annotation.Sync;
+
+// THIS CODE IS GENERATED BY ObjectBox, DO NOT EDIT. Enable "keep" sections if you want to edit.
+
+/**
+ * Entity "LoadTestObject".
+ */
+@Entity
+@Sync
+public class LoadTestObject {
+
+    @Id
+    private long id;
+    /** The {@link System#nanoTime()} when the object was put, to measure propagation delay. */
+    private long createdAtNanos;
+    /** Index of the client (or -1 for the server) that put the object. */
+    private int writer;
+    /** Group of the object, e.g. to match a Sync filter variable. */
+    private String group;
+    private String payload;
+
+    public LoadTestObject() {
+    }
+
+    public LoadTestObject(long id, long createdAtNanos, int writer, String group, String payload) {
+        this.id = id;
+        this.createdAtNanos = createdAtNanos;
+        this.writer = writer;
+        this.group = group;
+        this.payload = payload;
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    public void setId(long id) {
+        this.id = id;
+    }
+
+    public long getCreatedAtNanos() {
+        return createdAtNanos;
+    }
+
+    public void setCreatedAtNanos(long createdAtNanos) {
+        this.createdAtNanos = createdAtNanos;
+    }
+
+    public int getWriter() {
+        return writer;
+    }
+
+    public void setWriter(int writer) {
+        this.writer = writer;
+    }
+
+    public String getGroup() {
+        return group;
+    }
+
+    public void setGroup(String group) {
+        this.group = group;
+    }
+
+    public String getPayload() {
+        return payload;
+    }
+
+    public void setPayload(String payload) {
+        this.payload = payload;
+    }
+
+}
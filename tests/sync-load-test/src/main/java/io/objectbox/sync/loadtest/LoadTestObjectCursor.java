@@ -0,0 +1,82 @@
+/*
+ * Copyright © 2026 ObjectBox Ltd. <https://objectbox.io>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.objectbox.sync.loadtest;
+
+
+import io.objectbox.BoxStore;
+import io.objectbox.Cursor;
+import io.objectbox.Transaction;
+import io.objectbox.annotation.apihint.Internal;
+import io.objectbox.internal.CursorFactory;
+
+// THIS CODE IS GENERATED BY ObjectBox, DO NOT EDIT.
+
+/**
+ * ObjectBox generated Cursor implementation for "LoadTestObject".
+ * Note that this is a low-level class: usually you should stick to the Box class.
+ */
+public final class LoadTestObjectCursor extends Cursor<LoadTestObject> {
+    @Internal
+    static final class Factory implements CursorFactory<LoadTestObject> {
+        public Cursor<LoadTestObject> createCursor(Transaction tx, long cursorHandle, BoxStore boxStoreForEntities) {
+            return new LoadTestObjectCursor(tx, cursorHandle, boxStoreForEntities);
+        }
+    }
+
+    private static final LoadTestObject_.LoadTestObjectIdGetter ID_GETTER = LoadTestObject_.__ID_GETTER;
+
+
+    private final static int __ID_createdAtNanos = LoadTestObject_.createdAtNanos.id;
+    private final static int __ID_writer = LoadTestObject_.writer.id;
+    private final static int __ID_group = LoadTestObject_.group.id;
+    private final static int __ID_payload = LoadTestObject_.payload.id;
+
+    public LoadTestObjectCursor(Transaction tx, long cursor, BoxStore boxStore) {
+        super(tx, cursor, LoadTestObject_.__INSTANCE, boxStore);
+    }
+
+    @Override
+    public long getId(LoadTestObject entity) {
+        return ID_GETTER.getId(entity);
+    }
+
+    /**
+     * Puts an object into its box.
+     *
+     * @return The ID of the object within its box.
+     */
+    @Override
+    public long put(LoadTestObject entity) {
+        String group = entity.getGroup();
+        int __id3 = group != null ? __ID_group : 0;
+        String payload = entity.getPayload();
+        int __id4 = payload != null ? __ID_payload : 0;
+
+        long __assignedId = collect313311(cursor, entity.getId(), PUT_FLAG_FIRST | PUT_FLAG_COMPLETE,
+                __id3, group, __id4, payload,
+                0, null, 0, null,
+                __ID_createdAtNanos, entity.getCreatedAtNanos(), 0, 0,
+                0, 0, __ID_writer, entity.getWriter(),
+                0, 0, 0, 0,
+                0, 0, 0, 0);
+
+        entity.setId(__assignedId);
+        return __assignedId;
+    }
+
+
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright © 2026 ObjectBox Ltd. <https://objectbox.io>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.objectbox.sync.loadtest;
+
+import io.objectbox.sync.loadtest.LoadTestObjectCursor.Factory;
+
+import io.objectbox.EntityInfo;
+import io.objectbox.Property;
+import io.objectbox.annotation.apihint.Internal;
+import io.objectbox.internal.CursorFactory;
+import io.objectbox.internal.IdGetter;
+
+
+// THIS CODE IS GENERATED BY ObjectBox, DO NOT EDIT.
+
+/**
+ * Properties for entity "LoadTestObject". Can be used for QueryBuilder and for referencing DB names.
+ */
+public final class LoadTestObject_ implements EntityInfo<LoadTestObject> {
+
+    // Leading underscores for static constants to avoid naming conflicts with property names
+
+    public static final String __ENTITY_NAME = "LoadTestObject";
+
+    public static final int __ENTITY_ID = 1;
+
+    public static final Class<LoadTestObject> __ENTITY_CLASS = LoadTestObject.class;
+
+    public static final String __DB_NAME = "LoadTestObject";
+
+    public static final CursorFactory<LoadTestObject> __CURSOR_FACTORY = new Factory();
+
+    @Internal
+    static final LoadTestObjectIdGetter __ID_GETTER = new LoadTestObjectIdGetter();
+
+    public final static LoadTestObject_ __INSTANCE = new LoadTestObject_();
+
+    public final static Property<LoadTestObject> id = new Property<>(__INSTANCE, 0, 1, long.class, "id", true, "id");
+    public final static Property<LoadTestObject> createdAtNanos = new Property<>(__INSTANCE, 1, 2, long.class, "createdAtNanos");
+    public final static Property<LoadTestObject> writer = new Property<>(__INSTANCE, 2, 3, int.class, "writer");
+    public final static Property<LoadTestObject> group = new Property<>(__INSTANCE, 3, 4, String.class, "group");
+    public final static Property<LoadTestObject> payload = new Property<>(__INSTANCE, 4, 5, String.class, "payload");
+
+    @SuppressWarnings("unchecked")
+    public final static Property<LoadTestObject>[] __ALL_PROPERTIES = new Property[]{
+        id,
+        createdAtNanos,
+        writer,
+        group,
+        payload
+    };
+
+    public final static Property<LoadTestObject> __ID_PROPERTY = id;
+
+    @Override
+    public String getEntityName() {
+        return __ENTITY_NAME;
+    }
+
+    @Override
+    public int getEntityId() {
+        return __ENTITY_ID;
+    }
+
+    @Override
+    public Class<LoadTestObject> getEntityClass() {
+        return __ENTITY_CLASS;
+    }
+
+    @Override
+    public String getDbName() {
+        return __DB_NAME;
+    }
+
+    @Override
+    public Property<LoadTestObject>[] getAllProperties() {
+        return __ALL_PROPERTIES;
+    }
+
+    @Override
+    public Property<LoadTestObject> getIdProperty() {
+        return __ID_PROPERTY;
+    }
+
+    @Override
+    public IdGetter<LoadTestObject> getIdGetter() {
+        return __ID_GETTER;
+    }
+
+    @Override
+    public CursorFactory<LoadTestObject> getCursorFactory() {
+        return __CURSOR_FACTORY;
+    }
+
+    @Internal
+    static final class LoadTestObjectIdGetter implements IdGetter<LoadTestObject> {
+        public long getId(LoadTestObject object) {
+            return object.getId();
+        }
+    }
+
+}
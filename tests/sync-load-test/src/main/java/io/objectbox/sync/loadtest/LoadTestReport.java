@@ -0,0 +1,75 @@
+/*
+ * Copyright © 2026 ObjectBox Ltd. <https://objectbox.io>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.objectbox.sync.loadtest;
+
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The results of a load test run. Printed as {@code key=value} lines so they are easy to process by scripts.
+ */
+public class LoadTestReport {
+
+    private final Map<String, String> values = new LinkedHashMap<>();
+
+    LoadTestReport(LoadTestConfig config) {
+        put("scenario", config.scenario.toArgument());
+        put("config", config.toString());
+    }
+
+    void put(String key, String value) {
+        values.put(key, value);
+    }
+
+    void put(String key, long value) {
+        put(key, Long.toString(value));
+    }
+
+    void putRate(String key, long count, long nanos) {
+        double perSecond = nanos > 0 ? count * (double) TimeUnit.SECONDS.toNanos(1) / nanos : 0;
+        put(key, String.format(Locale.ROOT, "%.1f", perSecond));
+    }
+
+    void putMillis(String key, long nanos) {
+        put(key, String.format(Locale.ROOT, "%.3f", nanos / 1_000_000.0));
+    }
+
+    /**
+     * Adds p50, p99 and max of the given recorder in milliseconds, using keys like "{prefix}_p99_ms".
+     */
+    void putLatencies(String prefix, LatencyRecorder recorder) {
+        put(prefix + "_count", recorder.count());
+        putMillis(prefix + "_p50_ms", recorder.percentile(50));
+        putMillis(prefix + "_p99_ms", recorder.percentile(99));
+        putMillis(prefix + "_max_ms", recorder.max());
+    }
+
+    public Map<String, String> getValues() {
+        return values;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        for (Map.Entry<String, String> entry : values.entrySet()) {
+            sb.append(entry.getKey()).append('=').append(entry.getValue()).append('\n');
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,246 @@
+/*
+ * Copyright © 2026 ObjectBox Ltd. <https://objectbox.io>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.objectbox.sync.loadtest;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs the scenarios of {@link LoadTestConfig.Scenario}.
+ */
+class LoadTestScenarios {
+
+    private final LoadTestConfig config;
+    private final LoadTestEnvironment env;
+    private final LoadTestReport report;
+
+    LoadTestScenarios(LoadTestConfig config, LoadTestEnvironment env) {
+        this.config = config;
+        this.env = env;
+        this.report = new LoadTestReport(config);
+    }
+
+    LoadTestReport run() throws InterruptedException {
+        switch (config.scenario) {
+            case FULL_SYNC:
+                fullSync();
+                break;
+            case STEADY_WRITE:
+                steadyWrite();
+                break;
+            case RECONNECT_STORM:
+                reconnectStorm();
+                break;
+            case FAN_OUT:
+                fanOut();
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown scenario " + config.scenario);
+        }
+        report.put("server_stats", env.getStatsString().replace('\n', ' '));
+        return report;
+    }
+
+    /**
+     * Puts objects on the server, then starts clients and measures the time until each has all objects.
+     */
+    private void fullSync() throws InterruptedException {
+        for (int put = 0; put < config.objects; put += config.batchSize) {
+            int count = Math.min(config.batchSize, config.objects - put);
+            LoadTestEnvironment.putObjects(env.serverBox, count, LoadTestEnvironment.WRITER_SERVER,
+                    config.payloadBytes, null);
+        }
+        env.createClients(false);
+
+        LatencyRecorder completionTimes = new LatencyRecorder();
+        long start = System.nanoTime();
+        env.startClients();
+        long deadline = start + TimeUnit.SECONDS.toNanos(config.timeoutSeconds);
+        int completed = 0;
+        boolean[] done = new boolean[env.clients.size()];
+        while (completed < done.length && System.nanoTime() < deadline) {
+            for (int i = 0; i < done.length; i++) {
+                if (!done[i] && env.clients.get(i).box.count() >= config.objects) {
+                    done[i] = true;
+                    completed++;
+                    completionTimes.record(System.nanoTime() - start);
+                }
+            }
+            Thread.sleep(5);
+        }
+        long totalNanos = completionTimes.max();
+        report.put("clients_completed", completed);
+        report.putLatencies("full_sync_time", completionTimes);
+        report.putRate("objects_per_second", (long) completed * config.objects, totalNanos);
+    }
+
+    /**
+     * Clients write objects at the configured total rate, every other client receives them.
+     */
+    private void steadyWrite() throws InterruptedException {
+        env.createClients(false);
+        startAndAwaitLogin();
+
+        int written = writeAtRate((batch, count) -> {
+            LoadTestClient writer = env.clients.get(batch % env.clients.size());
+            writer.put(count, config.payloadBytes, null);
+        });
+        long expected = (long) written * (env.clients.size() - 1);
+        long receiveNanos = awaitReceived(expected);
+        report.put("objects_written", written);
+        report.put("objects_expected", expected);
+        report.put("objects_received", env.receivedCount());
+        report.putRate("objects_received_per_second", env.receivedCount(), receiveNanos);
+        report.putLatencies("propagation_delay", env.propagationDelays);
+    }
+
+    /**
+     * Stops all clients and starts them again at the same time, measuring the time until all are logged in again.
+     */
+    private void reconnectStorm() throws InterruptedException {
+        env.createClients(false);
+        startAndAwaitLogin();
+
+        LatencyRecorder reconnectTimes = new LatencyRecorder();
+        for (int round = 1; round <= config.rounds; round++) {
+            for (LoadTestClient client : env.clients) {
+                client.stop();
+            }
+            long start = System.nanoTime();
+            env.startClients();
+            int expectedLogins = round + 1;
+            long deadline = start + TimeUnit.SECONDS.toNanos(config.timeoutSeconds);
+            boolean[] done = new boolean[env.clients.size()];
+            int completed = 0;
+            while (completed < done.length && System.nanoTime() < deadline) {
+                for (int i = 0; i < done.length; i++) {
+                    if (!done[i] && env.clients.get(i).getLoginCount() >= expectedLogins) {
+                        done[i] = true;
+                        completed++;
+                        reconnectTimes.record(System.nanoTime() - start);
+                    }
+                }
+                Thread.sleep(1);
+            }
+            if (completed < done.length) {
+                report.put("timed_out_in_round", round);
+                break;
+            }
+        }
+        report.putLatencies("reconnect_time", reconnectTimes);
+    }
+
+    /**
+     * The server writes objects of multiple groups at the configured rate, each client only subscribes to one group.
+     * <p>
+     * Note: the Sync server must have a Sync filter matching the "group" property to the "group" filter variable,
+     * see {@link SyncLoadTest}. Otherwise each client receives all objects, which the report shows as a non-zero
+     * {@code clients_with_other_groups}.
+     */
+    private void fanOut() throws InterruptedException {
+        env.createClients(true);
+        startAndAwaitLogin();
+
+        int written = writeAtRate((batch, count) ->
+                LoadTestEnvironment.putObjects(env.serverBox, count, LoadTestEnvironment.WRITER_SERVER,
+                        config.payloadBytes, env.groupOf(batch)));
+        long receiveNanos = awaitQuiet();
+        report.put("objects_written", written);
+        report.put("objects_received", env.receivedCount());
+        report.putRate("objects_received_per_second", env.receivedCount(), receiveNanos);
+        report.putLatencies("propagation_delay", env.propagationDelays);
+
+        int unfilteredClients = 0;
+        for (LoadTestClient client : env.clients) {
+            if (client.countOtherGroups(env.groupOf(client.index)) > 0) {
+                unfilteredClients++;
+            }
+        }
+        report.put("clients_with_other_groups", unfilteredClients);
+        if (unfilteredClients > 0) {
+            System.err.println("Clients received objects of other groups, is the sync filter on the server set up?");
+        }
+    }
+
+    private void startAndAwaitLogin() throws InterruptedException {
+        env.startClients();
+        if (!env.awaitLogins(1)) {
+            throw new IllegalStateException("Clients did not log in within " + config.timeoutSeconds + " seconds");
+        }
+    }
+
+    private interface BatchWriter {
+        void write(int batch, int count);
+    }
+
+    private long writeStartNanos;
+
+    /**
+     * Calls the writer with batches of objects until the configured number of objects per second have been written
+     * for the configured duration. Returns the number of objects written.
+     */
+    private int writeAtRate(BatchWriter writer) throws InterruptedException {
+        long total = (long) config.rate * config.durationSeconds;
+        long nanosPerObject = TimeUnit.SECONDS.toNanos(1) / config.rate;
+        writeStartNanos = System.nanoTime();
+        int written = 0;
+        int batch = 0;
+        while (written < total) {
+            long due = writeStartNanos + written * nanosPerObject;
+            long wait = due - System.nanoTime();
+            if (wait > 0) {
+                TimeUnit.NANOSECONDS.sleep(wait);
+            }
+            int count = (int) Math.min(config.batchSize, total - written);
+            writer.write(batch++, count);
+            written += count;
+        }
+        return written;
+    }
+
+    /**
+     * Waits until clients received the given number of objects or the timeout expired. Returns the time since
+     * writing started until the last object was received.
+     */
+    private long awaitReceived(long expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(config.timeoutSeconds);
+        while (env.receivedCount() < expected && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        return System.nanoTime() - writeStartNanos;
+    }
+
+    /**
+     * Waits until clients received no more objects for one second or the timeout expired. Returns the time since
+     * writing started until the last object was received.
+     */
+    private long awaitQuiet() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(config.timeoutSeconds);
+        long lastCount = env.receivedCount();
+        long lastChangeNanos = System.nanoTime();
+        while (System.nanoTime() < deadline) {
+            Thread.sleep(50);
+            long count = env.receivedCount();
+            if (count != lastCount) {
+                lastCount = count;
+                lastChangeNanos = System.nanoTime();
+            } else if (System.nanoTime() - lastChangeNanos > TimeUnit.SECONDS.toNanos(1)) {
+                break;
+            }
+        }
+        return lastChangeNanos - writeStartNanos;
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright © 2026 ObjectBox Ltd. <https://objectbox.io>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.objectbox.sync.loadtest;
+
+import io.objectbox.BoxStore;
+import io.objectbox.BoxStoreBuilder;
+import io.objectbox.ModelBuilder;
+import io.objectbox.ModelBuilder.EntityBuilder;
+import io.objectbox.model.EntityFlags;
+import io.objectbox.model.PropertyFlags;
+import io.objectbox.model.PropertyType;
+
+
+// THIS CODE IS GENERATED BY ObjectBox, DO NOT EDIT.
+/**
+ * Starting point for working with your ObjectBox. All boxes are set up for your objects here.
+ * <p>
+ * First steps (Android): get a builder using {@link #builder()}, call {@link BoxStoreBuilder#androidContext(Object)},
+ * and {@link BoxStoreBuilder#build()} to get a {@link BoxStore} to work with.
+ */
+public class MyObjectBox {
+
+    public static BoxStoreBuilder builder() {
+        BoxStoreBuilder builder = new BoxStoreBuilder(getModel());
+        builder.entity(LoadTestObject_.__INSTANCE);
+        return builder;
+    }
+
+    private static byte[] getModel() {
+        ModelBuilder modelBuilder = new ModelBuilder();
+        modelBuilder.lastEntityId(1, 8051434564427329337L);
+        modelBuilder.lastIndexId(0, 0L);
+
+        EntityBuilder entityBuilder;
+
+        entityBuilder = modelBuilder.entity("LoadTestObject");
+        entityBuilder.id(1, 8051434564427329337L).lastPropertyId(5, 2385612263125826301L)
+            .flags(EntityFlags.SYNC_ENABLED);
+        entityBuilder.property("id", PropertyType.Long).id(1, 4638916416442378025L)
+            .flags(PropertyFlags.ID);
+        entityBuilder.property("createdAtNanos", PropertyType.Long).id(2, 7223513694813049237L);
+        entityBuilder.property("writer", PropertyType.Int).id(3, 1548230185371290473L);
+        entityBuilder.property("group", PropertyType.String).id(4, 5815032398510628219L);
+        entityBuilder.property("payload", PropertyType.String).id(5, 2385612263125826301L);
+        entityBuilder.entityDone();
+
+        return modelBuilder.build();
+    }
+
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright © 2026 ObjectBox Ltd. <https://objectbox.io>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.objectbox.sync.loadtest;
+
+import io.objectbox.sync.Sync;
+
+/**
+ * Runs a sync load test scenario against a sync server on localhost with sync clients in the same process, all
+ * using in-memory stores, then prints a report as {@code key=value} lines. For example:
+ * <pre>
+ * ./gradlew :tests:sync-load-test:run -PobxLibraryPath=/path/to/lib/dir --args="steady-write --clients 8 --rate 2000"
+ * </pre>
+ * Scenarios:
+ * <ul>
+ *     <li>{@code full-sync}: clients download objects the server already has; reports time to complete and
+ *     objects/second.</li>
+ *     <li>{@code steady-write}: clients write at a steady rate, all others receive; reports objects/second and the
+ *     propagation delay (p50, p99, max).</li>
+ *     <li>{@code reconnect-storm}: all clients reconnect at the same time; reports time until logged in again.</li>
+ *     <li>{@code fan-out}: the server writes objects of multiple groups, each client subscribes to one group using a
+ *     filter variable; reports objects/second and the propagation delay.</li>
+ * </ul>
+ * The {@code fan-out} scenario requires a sync filter for {@code LoadTestObject} on the sync server that only
+ * matches objects whose {@code group} equals the client's {@code group} filter variable, e.g.
+ * {@code return object.group == $group;}. Sync filters can not be configured using the Java API, so this needs a
+ * sync server library with the filter set up in its configuration. Without the filter each client receives all
+ * objects; the report then shows a non-zero {@code clients_with_other_groups}.
+ * Use {@code --worker-threads} and {@code --history-size-max-kb} to compare sync server settings.
+ * <p>
+ * Requires an ObjectBox database library with Sync server and client on the library path
+ * ({@code java.library.path}); the library of the regular Maven artifacts does not include Sync.
+ * <p>
+ * Exit codes: 0 on success, 1 on failure, 2 for invalid arguments or if Sync is not available.
+ */
+public class SyncLoadTest {
+
+    public static void main(String[] args) {
+        LoadTestConfig config;
+        try {
+            config = LoadTestConfig.parse(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println(LoadTestConfig.usage());
+            System.exit(2);
+            return;
+        }
+        if (!Sync.isServerAvailable()) {
+            System.err.println("This ObjectBox library does not include the Sync server and client.");
+            System.exit(2);
+            return;
+        }
+        try (LoadTestEnvironment env = new LoadTestEnvironment(config)) {
+            LoadTestReport report = new LoadTestScenarios(config, env).run();
+            System.out.print(report);
+        } catch (Exception e) {
+            e.printStackTrace();
+            System.exit(1);
+        }
+        System.exit(0);
+    }
+
+}
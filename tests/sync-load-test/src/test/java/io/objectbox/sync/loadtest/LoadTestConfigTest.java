@@ -0,0 +1,78 @@
+/*
+ * Copyright © 2026 ObjectBox Ltd. <https://objectbox.io>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.objectbox.sync.loadtest;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests parts of the load test that do not require a database library with Sync.
+ */
+public class LoadTestConfigTest {
+
+    @Test
+    public void parse() {
+        LoadTestConfig config = LoadTestConfig.parse(new String[]{"steady-write", "--clients", "10", "--rate", "5000"});
+        assertEquals(LoadTestConfig.Scenario.STEADY_WRITE, config.scenario);
+        assertEquals(10, config.clients);
+        assertEquals(5000, config.rate);
+        // Defaults
+        assertEquals(10, config.durationSeconds);
+        assertEquals(0, config.workerThreads);
+    }
+
+    @Test
+    public void parse_invalid_throws() {
+        assertThrows(IllegalArgumentException.class, () -> LoadTestConfig.parse(new String[0]));
+        assertThrows(IllegalArgumentException.class, () -> LoadTestConfig.parse(new String[]{"unknown"}));
+        assertThrows(IllegalArgumentException.class,
+                () -> LoadTestConfig.parse(new String[]{"full-sync", "--clients"}));
+        assertThrows(IllegalArgumentException.class,
+                () -> LoadTestConfig.parse(new String[]{"full-sync", "--clients", "0"}));
+        assertThrows(IllegalArgumentException.class,
+                () -> LoadTestConfig.parse(new String[]{"full-sync", "--unknown", "1"}));
+        IllegalArgumentException ex = assertThrows(IllegalArgumentException.class,
+                () -> LoadTestConfig.parse(new String[]{"steady-write", "--clients", "1"}));
+        assertTrue(ex.getMessage().contains("at least 2 clients"));
+    }
+
+    @Test
+    public void scenario_arguments() {
+        for (LoadTestConfig.Scenario scenario : LoadTestConfig.Scenario.values()) {
+            assertEquals(scenario, LoadTestConfig.Scenario.fromArgument(scenario.toArgument()));
+        }
+    }
+
+    @Test
+    public void latencyRecorder_percentiles() {
+        LatencyRecorder recorder = new LatencyRecorder();
+        assertEquals(0, recorder.percentile(50));
+        // Record more values than the initial capacity, in reverse order.
+        for (int i = 2000; i >= 1; i--) {
+            recorder.record(i);
+        }
+        assertEquals(2000, recorder.count());
+        assertEquals(1000, recorder.percentile(50));
+        assertEquals(1980, recorder.percentile(99));
+        assertEquals(2000, recorder.percentile(100));
+        assertEquals(2000, recorder.max());
+        assertThrows(IllegalArgumentException.class, () -> recorder.percentile(0));
+    }
+}